@@ -1,89 +1,169 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.core.common;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.function.ToDoubleFunction;
 
 /**
- * A set of various aggregation functions for collections of numbers, implementing {@link ToDoubleFunction}.
+ * A set of various aggregation functions for collections of numbers, implementing {@link ToDoubleFunction}. Besides collections, each function can be applied
+ * to (slices of) primitive double arrays without boxing, and {@link #createOnlineAggregator()} provides a streaming variant that does not need to keep the
+ * values. Sums are computed with the compensated summation of {@link java.util.stream.DoubleStream#sum()}.
  */
 public enum AggregationFunctions implements ToDoubleFunction<Collection<? extends Number>> {
     /**
      * Use the median of the scores as final score.
      */
-    MEDIAN(s -> {
-        var sortedNormalized = s.stream().sorted().toList();
-        var sizeHalf = sortedNormalized.size() / 2;
+    MEDIAN((values, from, to) -> {
+        requireNonEmpty(from, to);
+        var sorted = Arrays.copyOfRange(values, from, to);
+        Arrays.sort(sorted);
+        var sizeHalf = sorted.length / 2;
 
-        if (sortedNormalized.size() % 2 == 0) {
-            return (sortedNormalized.get(sizeHalf) + sortedNormalized.get(sizeHalf - 1)) / 2;
+        if (sorted.length % 2 == 0) {
+            return (sorted[sizeHalf] + sorted[sizeHalf - 1]) / 2;
         }
-        return sortedNormalized.get(sizeHalf);
+        return sorted[sizeHalf];
     }),
 
     /**
      * Use the harmonic mean of the scores as final score.
      */
-    HARMONIC(s -> {
-        var quotient = s.stream().mapToDouble(d -> 1.0 / d).sum();
-        return s.size() / quotient;
+    HARMONIC((values, from, to) -> {
+        double quotient = Arrays.stream(values, from, to).map(value -> 1.0 / value).sum();
+        return (to - from) / quotient;
     }),
 
     /**
      * Use the root mean square of the scores as final score.
      */
-    ROOTMEANSQUARED(s -> {
-        var squaredValuesSum = s.stream().mapToDouble(d -> Math.pow(d, 2)).sum();
-        return Math.sqrt(squaredValuesSum / s.size());
+    ROOTMEANSQUARED((values, from, to) -> {
+        double squaredValuesSum = Arrays.stream(values, from, to).map(value -> Math.pow(value, 2)).sum();
+        return Math.sqrt(squaredValuesSum / (to - from));
     }),
 
     /**
      * Use the cubic mean of the scores as final score.
      */
-    CUBICMEAN(s -> {
-        var squaredValuesSum = s.stream().mapToDouble(d -> Math.pow(d, 3)).sum();
-        return Math.cbrt(squaredValuesSum / s.size());
+    CUBICMEAN((values, from, to) -> {
+        double cubedValuesSum = Arrays.stream(values, from, to).map(value -> Math.pow(value, 3)).sum();
+        return Math.cbrt(cubedValuesSum / (to - from));
     }),
 
     /**
      * Use the most recent value in the collection as final score.
      */
-    USE_MOST_RECENT(s -> s.stream().reduce((first, second) -> second).orElse(0.0)),
+    USE_MOST_RECENT((values, from, to) -> from == to ? 0.0 : values[to - 1]),
 
     /**
      * Use the average of the scores as final score.
      */
-    AVERAGE(s -> s.stream().mapToDouble(d -> d).average().getAsDouble()),
+    AVERAGE((values, from, to) -> Arrays.stream(values, from, to).average().getAsDouble()),
 
     /**
      * Use the rolling average of the scores as final score.
      */
-    ROLLING_AVERAGE(s -> s.stream().mapToDouble(d -> d).reduce((a, b) -> (a + b) / 2).getAsDouble()),
+    ROLLING_AVERAGE((values, from, to) -> {
+        requireNonEmpty(from, to);
+        double rollingAverage = values[from];
+        for (int i = from + 1; i < to; i++) {
+            rollingAverage = (rollingAverage + values[i]) / 2;
+        }
+        return rollingAverage;
+    }),
 
     /**
      * Use the max value of the scores as final score.
      */
-    MAX(s -> s.stream().mapToDouble(d -> d).max().getAsDouble()),
+    MAX((values, from, to) -> {
+        requireNonEmpty(from, to);
+        double max = values[from];
+        for (int i = from + 1; i < to; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }),
 
     /**
      * Use the min value of the scores as final score.
      */
-    MIN(s -> s.stream().mapToDouble(d -> d).min().getAsDouble()),
+    MIN((values, from, to) -> {
+        requireNonEmpty(from, to);
+        double min = values[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }),
 
     /**
      * Use the sum of the scores as final score.
      */
-    SUM(s -> s.stream().mapToDouble(d -> d).sum());
+    SUM((values, from, to) -> Arrays.stream(values, from, to).sum());
 
-    private final ToDoubleFunction<Collection<Double>> function;
+    private final DoubleSliceFunction function;
 
-    AggregationFunctions(ToDoubleFunction<Collection<Double>> function) {
+    AggregationFunctions(DoubleSliceFunction function) {
         this.function = function;
     }
 
     @Override
     public double applyAsDouble(Collection<? extends Number> value) {
-        var doubleList = value.stream().map(Number::doubleValue).toList();
-        return this.function.applyAsDouble(doubleList);
+        var values = new double[value.size()];
+        int index = 0;
+        for (Number number : value) {
+            values[index++] = number.doubleValue();
+        }
+        return this.function.applyAsDouble(values, 0, values.length);
+    }
+
+    /**
+     * Applies this aggregation function to the given values.
+     *
+     * @param values the values to aggregate
+     * @return the aggregated value
+     */
+    public double applyAsDouble(double[] values) {
+        return this.function.applyAsDouble(values, 0, values.length);
+    }
+
+    /**
+     * Applies this aggregation function to the values in the range {@code [from, to)} of the given array. The array is neither modified nor copied (except
+     * for {@link #MEDIAN}, which sorts a copy of the range).
+     *
+     * @param values the values to aggregate
+     * @param from   the first index (inclusive)
+     * @param to     the last index (exclusive)
+     * @return the aggregated value
+     */
+    public double applyAsDouble(double[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return this.function.applyAsDouble(values, from, to);
+    }
+
+    /**
+     * Creates an aggregator that consumes values one by one in constant memory. For {@link #MEDIAN}, the result is estimated using the P² algorithm and is
+     * only exact for up to five values; all other functions yield the same result as their batch variant.
+     *
+     * @return a new online aggregator for this function
+     */
+    public OnlineAggregator createOnlineAggregator() {
+        if (this == MEDIAN) {
+            return new P2QuantileEstimator(0.5);
+        }
+        return new RunningAggregator(this);
+    }
+
+    private static void requireNonEmpty(int from, int to) {
+        if (from == to) {
+            throw new NoSuchElementException("No value present");
+        }
+    }
+
+    @FunctionalInterface
+    private interface DoubleSliceFunction {
+        double applyAsDouble(double[] values, int from, int to);
     }
 }
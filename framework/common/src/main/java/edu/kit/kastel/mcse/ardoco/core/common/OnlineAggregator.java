@@ -0,0 +1,28 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common;
+
+/**
+ * Aggregates a stream of values one by one without keeping them. Instances are created by {@link AggregationFunctions#createOnlineAggregator()} and are not
+ * thread-safe.
+ */
+public interface OnlineAggregator {
+    /**
+     * Adds a value to the aggregation.
+     *
+     * @param value the value
+     */
+    void add(double value);
+
+    /**
+     * {@return the number of values added so far}
+     */
+    long getCount();
+
+    /**
+     * Returns the aggregated value of all values added so far. If no value was added, the result is the same as applying the corresponding
+     * {@link AggregationFunctions} to an empty array.
+     *
+     * @return the aggregated value
+     */
+    double getValue();
+}
@@ -0,0 +1,132 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Estimates a quantile of a stream of values in constant memory using the P² algorithm (Jain and Chlamtac, 1985). Five markers track the minimum, the
+ * maximum, the quantile, and the two midpoints in between; their heights are adjusted with piecewise-parabolic interpolation as values arrive. The estimate
+ * is exact for up to five values.
+ */
+public final class P2QuantileEstimator implements OnlineAggregator {
+    private static final int MARKERS = 5;
+
+    private final double quantile;
+    private final double[] heights = new double[MARKERS];
+    private final double[] positions = new double[MARKERS];
+    private final double[] desiredPositions = new double[MARKERS];
+    private final double[] increments;
+    private long count;
+
+    /**
+     * Creates a new estimator for the given quantile.
+     *
+     * @param quantile the quantile to estimate, between 0 and 1 (exclusive)
+     */
+    public P2QuantileEstimator(double quantile) {
+        if (!(quantile > 0 && quantile < 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1 (exclusive), but was " + quantile);
+        }
+        this.quantile = quantile;
+        this.increments = new double[] { 0, quantile / 2, quantile, (1 + quantile) / 2, 1 };
+    }
+
+    @Override
+    public void add(double value) {
+        if (this.count < MARKERS) {
+            this.heights[(int) this.count++] = value;
+            if (this.count == MARKERS) {
+                Arrays.sort(this.heights);
+                for (int i = 0; i < MARKERS; i++) {
+                    this.positions[i] = i + 1.0;
+                }
+                this.desiredPositions[0] = 1;
+                this.desiredPositions[1] = 1 + 2 * this.quantile;
+                this.desiredPositions[2] = 1 + 4 * this.quantile;
+                this.desiredPositions[3] = 3 + 2 * this.quantile;
+                this.desiredPositions[4] = 5;
+            }
+            return;
+        }
+        this.count++;
+
+        int cell;
+        if (value < this.heights[0]) {
+            this.heights[0] = value;
+            cell = 0;
+        } else if (value >= this.heights[MARKERS - 1]) {
+            this.heights[MARKERS - 1] = value;
+            cell = MARKERS - 2;
+        } else {
+            cell = 0;
+            while (value >= this.heights[cell + 1]) {
+                cell++;
+            }
+        }
+
+        for (int i = cell + 1; i < MARKERS; i++) {
+            this.positions[i]++;
+        }
+        for (int i = 0; i < MARKERS; i++) {
+            this.desiredPositions[i] += this.increments[i];
+        }
+        for (int i = 1; i < MARKERS - 1; i++) {
+            this.adjustMarker(i);
+        }
+    }
+
+    private void adjustMarker(int i) {
+        double offset = this.desiredPositions[i] - this.positions[i];
+        if ((offset >= 1 && this.positions[i + 1] - this.positions[i] > 1) || (offset <= -1 && this.positions[i - 1] - this.positions[i] < -1)) {
+            int direction = offset >= 0 ? 1 : -1;
+            double candidate = this.parabolic(i, direction);
+            if (this.heights[i - 1] < candidate && candidate < this.heights[i + 1]) {
+                this.heights[i] = candidate;
+            } else {
+                this.heights[i] = this.linear(i, direction);
+            }
+            this.positions[i] += direction;
+        }
+    }
+
+    private double parabolic(int i, int direction) {
+        double[] q = this.heights;
+        double[] n = this.positions;
+        double upperSlope = (n[i] - n[i - 1] + direction) * (q[i + 1] - q[i]) / (n[i + 1] - n[i]);
+        double lowerSlope = (n[i + 1] - n[i] - direction) * (q[i] - q[i - 1]) / (n[i] - n[i - 1]);
+        return q[i] + direction / (n[i + 1] - n[i - 1]) * (upperSlope + lowerSlope);
+    }
+
+    private double linear(int i, int direction) {
+        return this.heights[i] + direction * (this.heights[i + direction] - this.heights[i]) / (this.positions[i + direction] - this.positions[i]);
+    }
+
+    @Override
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the estimated quantile. Up to five values, the quantile is computed exactly by linear interpolation between the closest ranks (which yields the
+     * usual median for a quantile of 0.5).
+     *
+     * @return the estimated quantile
+     * @throws NoSuchElementException if no value was added
+     */
+    @Override
+    public double getValue() {
+        if (this.count == 0) {
+            throw new NoSuchElementException("No value present");
+        }
+        if (this.count > MARKERS) {
+            return this.heights[2];
+        }
+        var sorted = Arrays.copyOf(this.heights, (int) this.count);
+        Arrays.sort(sorted);
+        double rank = this.quantile * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+}
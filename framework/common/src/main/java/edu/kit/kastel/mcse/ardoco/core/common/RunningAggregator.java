@@ -0,0 +1,81 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common;
+
+/**
+ * Online variant of all {@link AggregationFunctions} that can be computed exactly from a constant amount of state, i.e., all functions except
+ * {@link AggregationFunctions#MEDIAN}. Sums use the same compensated summation as {@link java.util.stream.DoubleStream#sum()}, so the results are identical
+ * to the batch variants.
+ */
+final class RunningAggregator implements OnlineAggregator {
+    private static final double[] NO_VALUES = new double[0];
+
+    private final AggregationFunctions function;
+    private long count;
+    private double accumulator;
+    private double sum;
+    private double compensation;
+    private double simpleSum;
+
+    RunningAggregator(AggregationFunctions function) {
+        if (function == AggregationFunctions.MEDIAN) {
+            throw new IllegalArgumentException("The median cannot be aggregated exactly in constant memory");
+        }
+        this.function = function;
+    }
+
+    @Override
+    public void add(double value) {
+        this.count++;
+        switch (this.function) {
+        case HARMONIC -> this.addToSum(1.0 / value);
+        case ROOTMEANSQUARED -> this.addToSum(Math.pow(value, 2));
+        case CUBICMEAN -> this.addToSum(Math.pow(value, 3));
+        case SUM, AVERAGE -> this.addToSum(value);
+        case ROLLING_AVERAGE -> this.accumulator = this.count == 1 ? value : (this.accumulator + value) / 2;
+        case MAX -> this.accumulator = this.count == 1 ? value : Math.max(this.accumulator, value);
+        case MIN -> this.accumulator = this.count == 1 ? value : Math.min(this.accumulator, value);
+        case USE_MOST_RECENT -> this.accumulator = value;
+        case MEDIAN -> throw new IllegalStateException();
+        }
+    }
+
+    @Override
+    public long getCount() {
+        return this.count;
+    }
+
+    @Override
+    public double getValue() {
+        if (this.count == 0) {
+            return this.function.applyAsDouble(NO_VALUES);
+        }
+        return switch (this.function) {
+        case HARMONIC -> this.count / this.getSum();
+        case ROOTMEANSQUARED -> Math.sqrt(this.getSum() / this.count);
+        case CUBICMEAN -> Math.cbrt(this.getSum() / this.count);
+        case SUM -> this.getSum();
+        case AVERAGE -> this.getSum() / this.count;
+        default -> this.accumulator;
+        };
+    }
+
+    /**
+     * Adds a value to the sum using Kahan summation, following {@link java.util.stream.DoubleStream#sum()}.
+     */
+    private void addToSum(double value) {
+        double compensatedValue = value - this.compensation;
+        double newSum = this.sum + compensatedValue;
+        this.compensation = (newSum - this.sum) - compensatedValue;
+        this.sum = newSum;
+        this.simpleSum += value;
+    }
+
+    private double getSum() {
+        double compensatedSum = this.sum - this.compensation;
+        // The compensated sum is NaN if infinite values of the same sign were added, while the simple sum is correct
+        if (Double.isNaN(compensatedSum) && Double.isInfinite(this.simpleSum)) {
+            return this.simpleSum;
+        }
+        return compensatedSum;
+    }
+}
@@ -1,13 +1,14 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.core.common.similarity;
 
-import static edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils.cosineSimilarity;
-import static edu.kit.kastel.mcse.ardoco.core.common.similarity.SimilarityUtils.uniqueDot;
-
 import java.util.function.ToDoubleBiFunction;
 
+import org.eclipse.collections.api.list.ImmutableList;
+
 import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.PhraseMapping;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
 import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions;
 
 /**
  * Aggregation strategies for comparing two {@link PhraseMapping} objects using different similarity metrics.
@@ -18,26 +19,17 @@ public enum PhraseMappingAggregatorStrategy implements ToDoubleBiFunction<Phrase
     /**
      * Uses the maximum cosine similarity between phrase vectors.
      */
-    MAX_SIMILARITY((a, b) -> uniqueDot(a.getPhrases().toImmutableList(), b.getPhrases().toImmutableList()).stream()
-            .mapToDouble(p -> cosineSimilarity(p.first().getPhraseVector().toSortedMap(), p.second().getPhraseVector().toSortedMap()))
-            .max()
-            .orElse(Double.NaN)), //
+    MAX_SIMILARITY((a, b) -> aggregateCosineSimilarities(a, b, AggregationFunctions.MAX)), //
 
     /**
      * Uses the minimum cosine similarity between phrase vectors.
      */
-    MIN_SIMILARITY((a, b) -> uniqueDot(a.getPhrases().toImmutableList(), b.getPhrases().toImmutableList()).stream()
-            .mapToDouble(p -> cosineSimilarity(p.first().getPhraseVector().toSortedMap(), p.second().getPhraseVector().toSortedMap()))
-            .min()
-            .orElse(Double.NaN)), //
+    MIN_SIMILARITY((a, b) -> aggregateCosineSimilarities(a, b, AggregationFunctions.MIN)), //
 
     /**
      * Uses the average cosine similarity between phrase vectors.
      */
-    AVG_SIMILARITY((a, b) -> uniqueDot(a.getPhrases().toImmutableList(), b.getPhrases().toImmutableList()).stream()
-            .mapToDouble(p -> cosineSimilarity(p.first().getPhraseVector().toSortedMap(), p.second().getPhraseVector().toSortedMap()))
-            .average()
-            .orElse(Double.NaN));
+    AVG_SIMILARITY((a, b) -> aggregateCosineSimilarities(a, b, AggregationFunctions.AVERAGE));
 
     private final ToDoubleBiFunction<PhraseMapping, PhraseMapping> mapper;
 
@@ -61,4 +53,25 @@ public enum PhraseMappingAggregatorStrategy implements ToDoubleBiFunction<Phrase
     public double applyAsDouble(PhraseMapping phraseMapping, PhraseMapping phraseMapping2) {
         return this.mapper.applyAsDouble(phraseMapping, phraseMapping2);
     }
+
+    private static double aggregateCosineSimilarities(PhraseMapping phraseMapping, PhraseMapping phraseMapping2, AggregationFunctions function) {
+        var dictionary = new TermDictionary();
+        var firstVectors = toPhraseVectors(phraseMapping.getPhrases().toImmutableList(), dictionary);
+        var secondVectors = toPhraseVectors(phraseMapping2.getPhrases().toImmutableList(), dictionary);
+        var aggregator = function.createOnlineAggregator();
+        for (PhraseVector first : firstVectors) {
+            for (PhraseVector second : secondVectors) {
+                aggregator.add(first.cosineSimilarity(second));
+            }
+        }
+        return aggregator.getCount() == 0 ? Double.NaN : aggregator.getValue();
+    }
+
+    private static PhraseVector[] toPhraseVectors(ImmutableList<Phrase> phrases, TermDictionary dictionary) {
+        PhraseVector[] vectors = new PhraseVector[phrases.size()];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = PhraseVector.of(phrases.get(i).getPhraseVector().castToSortedMap(), dictionary);
+        }
+        return vectors;
+    }
 }
@@ -0,0 +1,134 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * A primitive representation of a phrase vector: the term ids of the word texts from a {@link TermDictionary} in ascending order with their counts, and the
+ * positions of the words themselves in ascending order. Cosine similarity and coverage are computed as merge-joins over these arrays, so comparing two
+ * vectors neither allocates nor hashes. Vectors are only comparable if they were built with the same dictionary from words of the same text.
+ */
+@Deterministic
+public final class PhraseVector {
+    private final int[] termIds;
+    private final int[] counts;
+    private final long norm;
+    private final long[] wordKeys;
+
+    private PhraseVector(int[] termIds, int[] counts, long[] wordKeys) {
+        this.termIds = termIds;
+        this.counts = counts;
+        this.wordKeys = wordKeys;
+        long squaredNorm = 0;
+        for (int count : counts) {
+            squaredNorm += (long) count * count;
+        }
+        this.norm = squaredNorm;
+    }
+
+    /**
+     * Creates the vector of the given phrase vector. Counts of different words with the same text are added up.
+     *
+     * @param phraseVector the phrase vector, mapping words to their counts
+     * @param dictionary   the term dictionary of the text
+     * @return the vector
+     */
+    public static PhraseVector of(Map<Word, Integer> phraseVector, TermDictionary dictionary) {
+        int size = phraseVector.size();
+        long[] idsWithCounts = new long[size];
+        long[] wordKeys = new long[size];
+        int i = 0;
+        for (var entry : phraseVector.entrySet()) {
+            Word word = entry.getKey();
+            idsWithCounts[i] = ((long) dictionary.getId(word.getText()) << Integer.SIZE) | (entry.getValue() & 0xFFFFFFFFL);
+            wordKeys[i] = wordKey(word);
+            i++;
+        }
+        Arrays.sort(idsWithCounts);
+        Arrays.sort(wordKeys);
+
+        int[] termIds = new int[size];
+        int[] counts = new int[size];
+        int terms = 0;
+        for (long idWithCount : idsWithCounts) {
+            int termId = (int) (idWithCount >>> Integer.SIZE);
+            int count = (int) idWithCount;
+            if (terms > 0 && termIds[terms - 1] == termId) {
+                counts[terms - 1] += count;
+            } else {
+                termIds[terms] = termId;
+                counts[terms] = count;
+                terms++;
+            }
+        }
+        return new PhraseVector(Arrays.copyOf(termIds, terms), Arrays.copyOf(counts, terms), wordKeys);
+    }
+
+    /**
+     * Calculates the cosine similarity between this and the given vector with the same results as
+     * {@link org.apache.commons.text.similarity.CosineSimilarity} on the texts of the words.
+     *
+     * @param other the other vector
+     * @return the cosine similarity, or 0 if one of the vectors is empty
+     */
+    public double cosineSimilarity(PhraseVector other) {
+        if (this.norm <= 0 || other.norm <= 0) {
+            return 0.0;
+        }
+        long dotProduct = 0;
+        int i = 0;
+        int j = 0;
+        while (i < this.termIds.length && j < other.termIds.length) {
+            int comparison = Integer.compare(this.termIds[i], other.termIds[j]);
+            if (comparison == 0) {
+                dotProduct += (long) this.counts[i++] * other.counts[j++];
+            } else if (comparison < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return dotProduct / (Math.sqrt(this.norm) * Math.sqrt(other.norm));
+    }
+
+    /**
+     * Checks whether this vector contains all words of the given vector.
+     *
+     * @param other the other vector
+     * @return true if every word of the other vector is also part of this vector
+     */
+    public boolean covers(PhraseVector other) {
+        if (other.wordKeys.length > this.wordKeys.length) {
+            return false;
+        }
+        int i = 0;
+        for (long wordKey : other.wordKeys) {
+            while (i < this.wordKeys.length && this.wordKeys[i] < wordKey) {
+                i++;
+            }
+            if (i == this.wordKeys.length || this.wordKeys[i] != wordKey) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    /**
+     * {@return the number of distinct terms}
+     */
+    public int size() {
+        return this.termIds.length;
+    }
+
+    /**
+     * Identifies a word within its text by sentence number and position.
+     */
+    private static long wordKey(Word word) {
+        return ((long) word.getSentenceNumber() << Integer.SIZE) | (word.getPosition() & 0xFFFFFFFFL);
+    }
+}
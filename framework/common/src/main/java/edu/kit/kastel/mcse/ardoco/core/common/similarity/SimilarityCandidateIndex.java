@@ -0,0 +1,345 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.equality.EqualityMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.jarowinkler.BoundedJaroWinklerSimilarity;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.jarowinkler.JaroWinklerMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein.BitParallelLevenshteinMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein.LevenshteinMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.AtLeastOneStrategy;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.ComparisonStrategy;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
+
+/**
+ * An index over terms that quickly narrows down which indexed values may be similar to a query term before the exact word similarity measures run. Each
+ * term is indexed by its case-folded characters in inverted lists. A query only visits terms that share characters with it and counts the shared characters
+ * per term. From that count, the lengths and the configured bounds of the {@link CommonTextToolsConfig#LEVENSHTEIN_MAX_DISTANCE Levenshtein} and
+ * {@link CommonTextToolsConfig#JAROWINKLER_SIMILARITY_THRESHOLD Jaro-Winkler} measures the index decides whether a term can be similar at all.
+ * <p>
+ * The candidates are a superset of the values whose terms are similar according to the equality, Levenshtein and Jaro-Winkler measures with the given bounds
+ * under the {@link edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.ComparisonStrategy#AT_LEAST_ONE at least one} strategy, so running the
+ * exact comparison on the candidates gives the same result as running it on all values. Other measures or strategies are not covered by the index.
+ * {@link #forMeasures(Iterable, ComparisonStrategy)} derives the bounds from the measures that are actually used, and {@link #covers(Iterable,
+ * ComparisonStrategy)} tells whether the candidates are still complete for the measures used at query time. If they are not, callers have to compare all
+ * {@link #getValues() values}.
+ * <p>
+ * Adding terms is not thread-safe. Once all terms are added, the index can be queried concurrently.
+ *
+ * @param <T> the type of the indexed values
+ */
+@Deterministic
+public final class SimilarityCandidateIndex<T> {
+    private final boolean levenshteinEnabled;
+    private final int maxDistance;
+    private final boolean jaroWinklerEnabled;
+    private final double jaroWinklerThreshold;
+    /**
+     * Terms up to this length may be similar to a query without sharing any character with it.
+     */
+    private final int maxShortTermLength;
+
+    private final List<T> values = new ArrayList<>();
+    private final Map<T, Integer> valueIndices = new LinkedHashMap<>();
+    private final List<IndexedTerm> terms = new ArrayList<>();
+    private final Map<Character, Postings> postings = new LinkedHashMap<>();
+    private final Postings shortTerms = new Postings();
+    private final ThreadLocal<QueryBuffers> buffers = ThreadLocal.withInitial(QueryBuffers::new);
+
+    /**
+     * Creates an empty index using the bounds of the measures enabled in {@link CommonTextToolsConfig}.
+     */
+    public SimilarityCandidateIndex() {
+        this(CommonTextToolsConfig.LEVENSHTEIN_ENABLED, CommonTextToolsConfig.LEVENSHTEIN_MAX_DISTANCE, CommonTextToolsConfig.JAROWINKLER_ENABLED,
+                CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD);
+    }
+
+    /**
+     * Creates an empty index using the given measure bounds.
+     *
+     * @param levenshteinEnabled   whether the Levenshtein measure is used
+     * @param maxDistance          the maximal Levenshtein distance of similar terms
+     * @param jaroWinklerEnabled   whether the Jaro-Winkler measure is used
+     * @param jaroWinklerThreshold the minimal Jaro-Winkler similarity of similar terms
+     */
+    public SimilarityCandidateIndex(boolean levenshteinEnabled, int maxDistance, boolean jaroWinklerEnabled, double jaroWinklerThreshold) {
+        this.levenshteinEnabled = levenshteinEnabled;
+        this.maxDistance = maxDistance;
+        this.jaroWinklerEnabled = jaroWinklerEnabled;
+        this.jaroWinklerThreshold = jaroWinklerThreshold;
+        this.maxShortTermLength = levenshteinEnabled ? Math.max(maxDistance, 0) : 0;
+    }
+
+    /**
+     * Creates an empty index whose bounds are derived from the given measures. The index covers the given measures and strategy, see
+     * {@link #covers(Iterable, ComparisonStrategy)}.
+     *
+     * @param measures the measures used for comparison
+     * @param strategy the strategy used for comparison
+     * @param <T>      the type of the indexed values
+     * @return the index or an empty optional if the measures or the strategy are not covered by any index
+     */
+    public static <T> Optional<SimilarityCandidateIndex<T>> forMeasures(Iterable<? extends WordSimMeasure> measures, ComparisonStrategy strategy) {
+        return MeasureBounds.of(measures, strategy)
+                .map(bounds -> new SimilarityCandidateIndex<>(bounds.levenshteinEnabled(), bounds.maxDistance(), bounds.jaroWinklerEnabled(), bounds
+                        .jaroWinklerThreshold()));
+    }
+
+    /**
+     * Returns whether the candidates of this index contain all values that are similar according to the given measures and strategy. This is only the case
+     * if the measures are equality, Levenshtein and Jaro-Winkler measures whose bounds lie within the bounds of this index and the strategy is
+     * {@link ComparisonStrategy#AT_LEAST_ONE at least one}.
+     *
+     * @param measures the measures used for comparison
+     * @param strategy the strategy used for comparison
+     * @return true if the candidates are complete for the given measures and strategy
+     */
+    public boolean covers(Iterable<? extends WordSimMeasure> measures, ComparisonStrategy strategy) {
+        return MeasureBounds.of(measures, strategy).filter(this::covers).isPresent();
+    }
+
+    private boolean covers(MeasureBounds bounds) {
+        boolean levenshteinCovered = !bounds.levenshteinEnabled() || this.levenshteinEnabled && bounds.maxDistance() <= this.maxDistance;
+        boolean jaroWinklerCovered = !bounds.jaroWinklerEnabled() || this.jaroWinklerEnabled && bounds.jaroWinklerThreshold() >= this.jaroWinklerThreshold;
+        return levenshteinCovered && jaroWinklerCovered;
+    }
+
+    /**
+     * Indexes the given value under the given term. A value can be indexed under several terms; it is then a candidate if any of its terms may be similar.
+     *
+     * @param term  the term
+     * @param value the value
+     */
+    public void add(String term, T value) {
+        int valueIndex = this.valueIndices.computeIfAbsent(value, v -> {
+            this.values.add(v);
+            return this.values.size() - 1;
+        });
+        int termId = this.terms.size();
+        var indexedTerm = new IndexedTerm(term, valueIndex, FoldedCharacters.of(term));
+        this.terms.add(indexedTerm);
+        for (int i = 0; i < indexedTerm.characters().distinct().length; i++) {
+            this.postings.computeIfAbsent(indexedTerm.characters().distinct()[i], c -> new Postings()).add(termId, indexedTerm.characters().counts()[i]);
+        }
+        if (term.length() <= this.maxShortTermLength) {
+            this.shortTerms.add(termId, 0);
+        }
+    }
+
+    /**
+     * {@return the number of distinct indexed values}
+     */
+    public int size() {
+        return this.values.size();
+    }
+
+    /**
+     * {@return all distinct indexed values in the order they were first added}
+     */
+    public ImmutableList<T> getValues() {
+        return Lists.immutable.withAll(this.values);
+    }
+
+    /**
+     * Returns the indexed values that may be similar to the given term, in the order they were first added.
+     *
+     * @param term the query term
+     * @return the candidate values
+     */
+    public ImmutableList<T> getCandidates(String term) {
+        return this.getCandidates(Lists.immutable.with(term));
+    }
+
+    /**
+     * Returns the indexed values that may be similar to any of the given terms, in the order they were first added.
+     *
+     * @param queryTerms the query terms
+     * @return the candidate values
+     */
+    public ImmutableList<T> getCandidates(ImmutableList<String> queryTerms) {
+        BitSet candidates = new BitSet(this.values.size());
+        for (String queryTerm : queryTerms) {
+            this.collectCandidates(queryTerm, candidates);
+        }
+        MutableList<T> result = Lists.mutable.withInitialCapacity(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            result.add(this.values.get(i));
+        }
+        return result.toImmutable();
+    }
+
+    private void collectCandidates(String queryTerm, BitSet candidates) {
+        var query = FoldedCharacters.of(queryTerm);
+        QueryBuffers queryBuffers = this.buffers.get();
+        queryBuffers.ensureCapacity(this.terms.size());
+        int[] overlaps = queryBuffers.overlaps;
+        try {
+            for (int i = 0; i < query.distinct().length; i++) {
+                Postings termsWithCharacter = this.postings.get(query.distinct()[i]);
+                if (termsWithCharacter == null) {
+                    continue;
+                }
+                int queryCount = query.counts()[i];
+                for (int p = 0; p < termsWithCharacter.size; p++) {
+                    int termId = termsWithCharacter.termIds[p];
+                    if (overlaps[termId] == 0) {
+                        queryBuffers.touch(termId);
+                    }
+                    overlaps[termId] += Math.min(queryCount, termsWithCharacter.counts[p]);
+                }
+            }
+            for (int t = 0; t < queryBuffers.touchedCount; t++) {
+                int termId = queryBuffers.touched[t];
+                this.checkCandidate(queryTerm, this.terms.get(termId), overlaps[termId], candidates);
+            }
+            if (queryTerm.length() <= this.maxShortTermLength) {
+                for (int p = 0; p < this.shortTerms.size; p++) {
+                    int termId = this.shortTerms.termIds[p];
+                    if (overlaps[termId] == 0) {
+                        this.checkCandidate(queryTerm, this.terms.get(termId), 0, candidates);
+                    }
+                }
+            }
+        } finally {
+            queryBuffers.reset();
+        }
+    }
+
+    private void checkCandidate(String queryTerm, IndexedTerm indexedTerm, int overlap, BitSet candidates) {
+        if (!candidates.get(indexedTerm.valueIndex()) && this.mayBeSimilar(queryTerm, indexedTerm.term(), overlap)) {
+            candidates.set(indexedTerm.valueIndex());
+        }
+    }
+
+    /**
+     * Every edit operation changes at most one shared character, so terms within the maximal Levenshtein distance share all but that many characters. Equal
+     * terms share all their characters, and the Jaro-Winkler similarity cannot match more characters than the terms share.
+     */
+    private boolean mayBeSimilar(String queryTerm, String term, int overlap) {
+        int queryLength = queryTerm.length();
+        int termLength = term.length();
+        if (queryLength == termLength && overlap == queryLength) {
+            return true;
+        }
+        if (this.levenshteinEnabled && Math.abs(queryLength - termLength) <= this.maxDistance && overlap >= Math.max(queryLength, termLength) - this.maxDistance) {
+            return true;
+        }
+        return this.jaroWinklerEnabled && overlap > 0 && BoundedJaroWinklerSimilarity.canBeSimilar(queryTerm, term, overlap, this.jaroWinklerThreshold);
+    }
+
+    /**
+     * The bounds of the measures an index has to cover. Only the exact measure classes are known, as subclasses may accept more pairs.
+     */
+    private record MeasureBounds(boolean levenshteinEnabled, int maxDistance, boolean jaroWinklerEnabled, double jaroWinklerThreshold) {
+        static Optional<MeasureBounds> of(Iterable<? extends WordSimMeasure> measures, ComparisonStrategy strategy) {
+            if (strategy.getClass() != AtLeastOneStrategy.class) {
+                return Optional.empty();
+            }
+            boolean levenshteinEnabled = false;
+            int maxDistance = 0;
+            boolean jaroWinklerEnabled = false;
+            double jaroWinklerThreshold = 1.0;
+            for (WordSimMeasure measure : measures) {
+                Class<?> measureClass = measure.getClass();
+                if (measureClass == LevenshteinMeasure.class || measureClass == BitParallelLevenshteinMeasure.class) {
+                    levenshteinEnabled = true;
+                    maxDistance = Math.max(maxDistance, ((LevenshteinMeasure) measure).getMaxDistance());
+                } else if (measureClass == JaroWinklerMeasure.class) {
+                    jaroWinklerEnabled = true;
+                    jaroWinklerThreshold = Math.min(jaroWinklerThreshold, ((JaroWinklerMeasure) measure).getSimilarityThreshold());
+                } else if (measureClass != EqualityMeasure.class) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(new MeasureBounds(levenshteinEnabled, maxDistance, jaroWinklerEnabled, jaroWinklerThreshold));
+        }
+    }
+
+    private record IndexedTerm(String term, int valueIndex, FoldedCharacters characters) {
+    }
+
+    /**
+     * The distinct characters of a term after folding the case the same way as {@link String#equalsIgnoreCase(String)}, with their number of occurrences.
+     * Folding only merges characters, so the number of shared folded characters bounds the number of shared characters of the original and of the lower
+     * case terms.
+     */
+    private record FoldedCharacters(char[] distinct, int[] counts) {
+        static FoldedCharacters of(String term) {
+            char[] folded = new char[term.length()];
+            for (int i = 0; i < folded.length; i++) {
+                folded[i] = Character.toLowerCase(Character.toUpperCase(term.charAt(i)));
+            }
+            Arrays.sort(folded);
+            char[] distinct = new char[folded.length];
+            int[] counts = new int[folded.length];
+            int size = 0;
+            for (int i = 0; i < folded.length; i++) {
+                if (size > 0 && distinct[size - 1] == folded[i]) {
+                    counts[size - 1]++;
+                } else {
+                    distinct[size] = folded[i];
+                    counts[size] = 1;
+                    size++;
+                }
+            }
+            return new FoldedCharacters(Arrays.copyOf(distinct, size), Arrays.copyOf(counts, size));
+        }
+    }
+
+    private static final class Postings {
+        private int[] termIds = new int[4];
+        private int[] counts = new int[4];
+        private int size;
+
+        void add(int termId, int count) {
+            if (this.size == this.termIds.length) {
+                this.termIds = Arrays.copyOf(this.termIds, 2 * this.size);
+                this.counts = Arrays.copyOf(this.counts, 2 * this.size);
+            }
+            this.termIds[this.size] = termId;
+            this.counts[this.size] = count;
+            this.size++;
+        }
+    }
+
+    /**
+     * Shared character counts per term of the current query. Only the touched entries are reset afterwards, so a query costs time proportional to the visited
+     * postings instead of the size of the index.
+     */
+    private static final class QueryBuffers {
+        private int[] overlaps = new int[0];
+        private int[] touched = new int[0];
+        private int touchedCount;
+
+        void ensureCapacity(int termCount) {
+            if (this.overlaps.length < termCount) {
+                this.overlaps = new int[Math.max(termCount, 2 * this.overlaps.length)];
+                this.touched = new int[this.overlaps.length];
+            }
+        }
+
+        void touch(int termId) {
+            this.touched[this.touchedCount++] = termId;
+        }
+
+        void reset() {
+            for (int t = 0; t < this.touchedCount; t++) {
+                this.overlaps[this.touched[t]] = 0;
+            }
+            this.touchedCount = 0;
+        }
+    }
+}
@@ -5,13 +5,11 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.apache.commons.text.similarity.CosineSimilarity;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 
 import edu.kit.kastel.mcse.ardoco.core.api.entity.Entity;
 import edu.kit.kastel.mcse.ardoco.core.api.entity.ModelEntity;
@@ -54,14 +52,6 @@ public static SimilarityUtils getInstance() {
         return INSTANCE;
     }
 
-    private static boolean coversOtherPhraseVector(PhraseMapping phraseMapping1, PhraseMapping phraseMapping2) {
-
-        ImmutableSortedMap<Word, Integer> phraseVector1 = phraseMapping1.getPhraseVector();
-        ImmutableSortedMap<Word, Integer> phraseVector2 = phraseMapping2.getPhraseVector();
-
-        return phraseVector1.keysView().containsAll(phraseVector2.keysView().toSortedSet());
-    }
-
     /**
      * Calculates the cosine similarity between two phrase vectors.
      *
@@ -70,17 +60,8 @@ private static boolean coversOtherPhraseVector(PhraseMapping phraseMapping1, Phr
      * @return the cosine similarity
      */
     static double cosineSimilarity(Map<Word, Integer> firstPhraseVector, Map<Word, Integer> secondPhraseVector) {
-
-        CosineSimilarity cosineSimilarity = new CosineSimilarity();
-
-        Map<CharSequence, Integer> firstVector = firstPhraseVector.entrySet()
-                .stream()
-                .collect(Collectors.toMap(e -> e.getKey().getText(), Map.Entry::getValue));
-        Map<CharSequence, Integer> secondVector = secondPhraseVector.entrySet()
-                .stream()
-                .collect(Collectors.toMap(e -> e.getKey().getText(), Map.Entry::getValue));
-
-        return cosineSimilarity.cosineSimilarity(firstVector, secondVector);
+        var dictionary = new TermDictionary();
+        return PhraseVector.of(firstPhraseVector, dictionary).cosineSimilarity(PhraseVector.of(secondPhraseVector, dictionary));
     }
 
     /**
@@ -141,6 +122,55 @@ public boolean areNounMappingsSimilar(NounMapping nm1, NounMapping nm2) {
         return this.areWordsSimilar(nm1Reference, nm2Reference);
     }
 
+    /**
+     * Creates a {@link SimilarityCandidateIndex} over the given noun mappings that is keyed by all terms {@link #areNounMappingsSimilar(NounMapping,
+     * NounMapping)} compares. The bounds of the index are derived from the measures and the default strategy of the {@link WordSimUtils} in use.
+     *
+     * @param nounMappings the noun mappings to index
+     * @return the index
+     */
+    public SimilarityCandidateIndex<NounMapping> createNounMappingIndex(ImmutableList<NounMapping> nounMappings) {
+        SimilarityCandidateIndex<NounMapping> index = SimilarityCandidateIndex.<NounMapping>forMeasures(this.wordSimUtils.getMeasures(), this.wordSimUtils
+                .getComparisonStrategy()).orElseGet(SimilarityCandidateIndex::new);
+        for (NounMapping nounMapping : nounMappings) {
+            for (String term : getComparedTerms(nounMapping)) {
+                index.add(term, nounMapping);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the noun mappings of the given index that are {@link #areNounMappingsSimilar(NounMapping, NounMapping) similar} to the given noun mapping. Only
+     * the candidates of the index are compared exactly. If the index does not {@link SimilarityCandidateIndex#covers(Iterable,
+     * edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.ComparisonStrategy) cover} the current measures and strategy, e.g., because of
+     * embedding or custom measures or because they changed after the index was created, all noun mappings of the index are compared.
+     *
+     * @param nounMapping the noun mapping
+     * @param index       an index created with {@link #createNounMappingIndex(ImmutableList)}
+     * @return the similar noun mappings in index order
+     */
+    public ImmutableList<NounMapping> getSimilarNounMappings(NounMapping nounMapping, SimilarityCandidateIndex<NounMapping> index) {
+        ImmutableList<NounMapping> candidates = index.covers(this.wordSimUtils.getMeasures(), this.wordSimUtils.getComparisonStrategy()) ?
+                index.getCandidates(getComparedTerms(nounMapping)) :
+                index.getValues();
+        return candidates.select(candidate -> this.areNounMappingsSimilar(nounMapping, candidate));
+    }
+
+    private static ImmutableList<String> getComparedTerms(NounMapping nounMapping) {
+        var reference = nounMapping.getReference();
+        var referenceWords = nounMapping.getReferenceWords();
+        var splitAtSeparators = CommonUtilities.splitAtSeparators(reference);
+        MutableList<String> terms = Lists.mutable.with(reference);
+        if (!splitAtSeparators.isEmpty()) {
+            terms.add(splitAtSeparators.get(0));
+        }
+        if (referenceWords.size() == 1) {
+            terms.add(referenceWords.get(0).getText());
+        }
+        return terms.toImmutable();
+    }
+
     /**
      * Compares a {@link NounMapping} with a {@link Entity} for similarity.
      *
@@ -255,32 +285,46 @@ public boolean areWordsSimilar(String word1, String word2) {
      * @return true if the lists are similar
      */
     public boolean areWordsOfListsSimilar(ImmutableList<String> originals, ImmutableList<String> words2test, double minProportion) {
-
         if (this.areWordsSimilar(String.join(" ", originals), String.join(" ", words2test))) {
             return true;
         }
 
         var max = Math.max(originals.size(), words2test.size());
-        var counterSimilar = 0;
-        var counterDissimilar = 0;
         var possiblySimilar = originals.size() * words2test.size();
-        for (String o : originals) {
-            for (String wd : words2test) {
-                if (this.areWordsSimilar(o, wd)) {
-                    counterSimilar++;
-                    if (1.0 * counterSimilar / max >= minProportion) {
-                        return true;
-                    }
-                } else {
-                    counterDissimilar++;
-                    if (1.0 * (possiblySimilar - counterDissimilar) / max < minProportion) {
-                        return false; //minProportion can no longer be achieved, can stop here
-                    }
-                }
-            }
+        if (max == 0 || 1.0 * possiblySimilar / max < minProportion) {
+            return false; //minProportion cannot be achieved
+        }
+        return this.wordSimUtils.hasSimilarPairs(originals, words2test, requiredSimilarCount(minProportion, max));
+    }
+
+    /**
+     * Returns the smallest number of similar words whose proportion of the given maximum reaches the given minimum proportion. The proportions are compared
+     * exactly like in {@link #getListSimilarityProportion(ImmutableList, String, ImmutableList)}, so both methods agree for every count.
+     */
+    private static int requiredSimilarCount(double minProportion, int max) {
+        var required = Math.max(0, (int) Math.ceil(minProportion * max));
+        while (required > 0 && 1.0 * (required - 1) / max >= minProportion) {
+            required--;
+        }
+        while (1.0 * required / max < minProportion) {
+            required++;
+        }
+        return required;
+    }
+
+    /**
+     * Returns the proportion of similar words of the two lists, or positive infinity if the joined lists are similar, so that
+     * {@link #areWordsOfListsSimilar(ImmutableList, ImmutableList, double)} holds exactly for the proportions up to the returned value. All pairs
+     * are compared, so this is only used where the proportion itself is needed.
+     */
+    private double getListSimilarityProportion(ImmutableList<String> originals, String joinedOriginals, ImmutableList<String> words2test) {
+        if (this.areWordsSimilar(joinedOriginals, String.join(" ", words2test))) {
+            return Double.POSITIVE_INFINITY;
         }
 
-        return 1.0 * counterSimilar / max >= minProportion;
+        var max = Math.max(originals.size(), words2test.size());
+        var counterSimilar = this.wordSimUtils.getSimilarityMatrix(originals, words2test).countSimilar();
+        return 1.0 * counterSimilar / max;
     }
 
     /**
@@ -296,6 +340,10 @@ public boolean areWordsOfListsSimilar(ImmutableList<String> originals, Immutable
 
     /**
      * Extracts the most likely matches of recommended instances by similarity to a given instance.
+     * <p>
+     * The recommended instances that are similar to the instance are narrowed down by requiring an increasing proportion of similar name parts, starting at
+     * {@link CommonTextToolsConfig#GET_MOST_RECOMMENDED_I_BY_REF_MIN_PROPORTION}. The proportion of a recommended instance and whether one of its surface
+     * forms is similar to the instance do not depend on the required proportion, so they are computed only once per recommended instance.
      *
      * @param modelEntity          the instance to use as original
      * @param recommendedInstances the recommended instances to check
@@ -303,97 +351,158 @@ public boolean areWordsOfListsSimilar(ImmutableList<String> originals, Immutable
      */
     public ImmutableList<RecommendedInstance> getMostRecommendedInstancesToInstanceByReferences(ModelEntity modelEntity,
             ImmutableList<RecommendedInstance> recommendedInstances) {
+        return this.getMostRecommendedInstancesToInstanceByReferences(modelEntity, recommendedInstances,
+                CommonTextToolsConfig.GET_MOST_RECOMMENDED_I_BY_REF_MIN_PROPORTION, CommonTextToolsConfig.GET_MOST_RECOMMENDED_I_BY_REF_INCREASE);
+    }
 
-        var instanceNames = modelEntity.getNameParts();
-        var similarity = CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD;
-        var selection = recommendedInstances.select(ri -> this.checkRecommendedInstanceForSelection(modelEntity, ri, similarity));
+    /**
+     * Extracts the most likely matches of recommended instances by similarity to a given instance with the given proportions instead of the configured ones,
+     * see {@link #getMostRecommendedInstancesToInstanceByReferences(ModelEntity, ImmutableList)}.
+     *
+     * @param modelEntity          the instance to use as original
+     * @param recommendedInstances the recommended instances to check
+     * @param minProportion        the initial minimum proportion of similar name parts
+     * @param proportionIncrease   the increase of the minimum proportion per narrowing step
+     * @return a list of the most similar recommended instances
+     */
+    ImmutableList<RecommendedInstance> getMostRecommendedInstancesToInstanceByReferences(ModelEntity modelEntity,
+            ImmutableList<RecommendedInstance> recommendedInstances, double minProportion, double proportionIncrease) {
+        return this.selectReferences(new ReferenceNames(modelEntity), recommendedInstances.collect(CandidateForms::new), minProportion, proportionIncrease);
+    }
 
-        var getMostRecommendedIByRefMinProportion = CommonTextToolsConfig.GET_MOST_RECOMMENDED_I_BY_REF_MIN_PROPORTION;
-        var getMostRecommendedIByRefIncrease = CommonTextToolsConfig.GET_MOST_RECOMMENDED_I_BY_REF_INCREASE;
+    /**
+     * Extracts the most likely matches of recommended instances for each of the given instances, see
+     * {@link #getMostRecommendedInstancesToInstanceByReferences(ModelEntity, ImmutableList)}. The names and surface forms of the recommended instances are
+     * split only once for all instances, and the instances are processed in parallel. The word similarity measures must then be thread-safe, which holds for
+     * the built-in ones.
+     *
+     * @param modelEntities        the instances to use as originals
+     * @param recommendedInstances the recommended instances to check
+     * @return the most similar recommended instances for each instance, in the order of the instances
+     */
+    public ImmutableList<ImmutableList<RecommendedInstance>> getMostRecommendedInstancesToInstancesByReferences(ImmutableList<? extends ModelEntity> modelEntities,
+            ImmutableList<RecommendedInstance> recommendedInstances) {
+        ImmutableList<CandidateForms> candidates = recommendedInstances.collect(CandidateForms::new);
+        IntStream entityIndices = IntStream.range(0, modelEntities.size());
+        if (modelEntities.size() > 1) {
+            entityIndices = entityIndices.parallel();
+        }
+        List<ImmutableList<RecommendedInstance>> selections = entityIndices.mapToObj(index -> this.selectReferences(new ReferenceNames(modelEntities.get(
+                index)), candidates, CommonTextToolsConfig.GET_MOST_RECOMMENDED_I_BY_REF_MIN_PROPORTION,
+                CommonTextToolsConfig.GET_MOST_RECOMMENDED_I_BY_REF_INCREASE)).toList();
+        return Lists.immutable.withAll(selections);
+    }
 
-        MutableList<RecommendedInstance> whileSelection = Lists.mutable.withAll(selection);
-        var allListsSimilar = 0;
+    private ImmutableList<RecommendedInstance> selectReferences(ReferenceNames entity, ImmutableList<CandidateForms> candidates, double minProportion,
+            double proportionIncrease) {
+        var similarity = CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD;
+        var selection = candidates.select(candidate -> this.checkRecommendedInstanceForSelection(entity, candidate, similarity));
 
-        while (whileSelection.size() > 1 && getMostRecommendedIByRefMinProportion <= 1) {
-            selection = Lists.immutable.withAll(whileSelection);
-            getMostRecommendedIByRefMinProportion += getMostRecommendedIByRefIncrease;
-            MutableList<RecommendedInstance> risToRemove = Lists.mutable.empty();
-            for (RecommendedInstance ri : whileSelection) {
-                if (this.checkRecommendedInstanceWordSimilarityToInstance(modelEntity, ri)) {
-                    allListsSimilar++;
-                }
+        var getMostRecommendedIByRefMinProportion = minProportion;
+        var getMostRecommendedIByRefIncrease = proportionIncrease;
+        if (selection.size() <= 1 || getMostRecommendedIByRefMinProportion > 1) {
+            return selection.collect(CandidateForms::instance);
+        }
 
-                if (!this.areWordsOfListsSimilar(instanceNames, Lists.immutable.with(ri.getName()), getMostRecommendedIByRefMinProportion)) {
-                    risToRemove.add(ri);
-                }
+        MutableList<CandidateScore> remaining = selection.collect(candidate -> new CandidateScore(candidate.instance(), this.getListSimilarityProportion(
+                entity.nameParts(), entity.joinedNameParts(), candidate.name()), this.checkRecommendedInstanceWordSimilarityToInstance(entity, candidate)))
+                .toList();
+        ImmutableList<CandidateScore> previousSelection = remaining.toImmutable();
 
+        while (remaining.size() > 1 && getMostRecommendedIByRefMinProportion <= 1) {
+            previousSelection = remaining.toImmutable();
+            getMostRecommendedIByRefMinProportion += getMostRecommendedIByRefIncrease;
+            var allListsSimilar = remaining.count(CandidateScore::surfaceFormSimilar);
+            var requiredProportion = getMostRecommendedIByRefMinProportion;
+            remaining.removeIf(score -> !(score.referenceProportion() >= requiredProportion));
+            if (allListsSimilar == remaining.size()) {
+                return remaining.collect(CandidateScore::instance).toImmutable();
             }
-            whileSelection.removeAll(risToRemove);
-            if (allListsSimilar == whileSelection.size()) {
-                return whileSelection.toImmutable();
-            }
-            allListsSimilar = 0;
         }
-        if (whileSelection.isEmpty()) {
-            return selection;
+        if (remaining.isEmpty()) {
+            return previousSelection.collect(CandidateScore::instance);
         }
-        return whileSelection.toImmutable();
-
+        return remaining.collect(CandidateScore::instance).toImmutable();
     }
 
-    private boolean checkRecommendedInstanceWordSimilarityToInstance(ModelEntity modelEntity, RecommendedInstance ri) {
-
-        var instanceNames = modelEntity.getNameParts();
-
-        if (instanceNames.isEmpty())
+    private boolean checkRecommendedInstanceWordSimilarityToInstance(ReferenceNames entity, CandidateForms candidate) {
+        if (entity.nameParts().isEmpty())
             return false;
 
-        for (var sf : ri.getNameMappings().flatCollect(NounMapping::getSurfaceForms)) {
-            var splitSF = CommonUtilities.splitCases(String.join(" ", CommonUtilities.splitAtSeparators(sf)));
-            if (this.areWordsSimilar(String.join(" ", instanceNames), splitSF)) {
+        for (var splitSF : candidate.joinedSurfaceForms()) {
+            if (this.areWordsSimilar(entity.joinedNameParts(), splitSF)) {
                 return true;
             }
         }
         return false;
     }
 
-    private boolean checkRecommendedInstanceForSelection(ModelEntity modelEntity, RecommendedInstance ri, double similarity) {
-        var entityNameParts = modelEntity.getNameParts();
-        ImmutableList<String> longestNameSplit = Lists.immutable.of(CommonUtilities.splitCases(modelEntity.getName()).split(" "));
-        ImmutableList<String> recommendedInstanceNames = Lists.immutable.with(ri.getName());
+    private boolean checkRecommendedInstanceForSelection(ReferenceNames entity, CandidateForms candidate, double similarity) {
+        var entityNameParts = entity.nameParts();
+        var longestNameSplit = entity.longestNameSplit();
+        var recommendedInstanceNames = candidate.name();
 
-        boolean instanceNameAndRIName = this.areWordsSimilar(modelEntity.getName(), ri.getName());
-        boolean longestNameSplitAndRINames = this.areWordsOfListsSimilar(longestNameSplit, recommendedInstanceNames, similarity);
-
-        boolean instanceNamesAndRIs = this.areWordsOfListsSimilar(entityNameParts, recommendedInstanceNames, similarity);
-        boolean listOfNamesSimilarEnough = 1.0 * similarEntriesOfList(entityNameParts, recommendedInstanceNames) / Math.max(entityNameParts.size(),
-                recommendedInstanceNames.size()) >= similarity;
-        boolean listOfNameSplitSimilarEnough = 1.0 * similarEntriesOfList(longestNameSplit, recommendedInstanceNames) / Math.max(entityNameParts.size(),
-                recommendedInstanceNames.size()) >= similarity;
-
-        if (instanceNameAndRIName || instanceNamesAndRIs || longestNameSplitAndRINames || listOfNamesSimilarEnough || listOfNameSplitSimilarEnough) {
+        if (this.areWordsSimilar(entity.name(), candidate.instance().getName())) {
+            return true;
+        }
+        if (this.areWordsOfListsSimilar(entityNameParts, recommendedInstanceNames, similarity) || this.areWordsOfListsSimilar(longestNameSplit,
+                recommendedInstanceNames, similarity)) {
+            return true;
+        }
+        if (1.0 * similarEntriesOfList(entityNameParts, recommendedInstanceNames) / Math.max(entityNameParts.size(), recommendedInstanceNames
+                .size()) >= similarity || 1.0 * similarEntriesOfList(longestNameSplit, recommendedInstanceNames) / Math.max(entityNameParts.size(),
+                        recommendedInstanceNames.size()) >= similarity) {
             return true;
         }
-        for (var nounMapping : ri.getNameMappings()) {
-            for (var surfaceForm : nounMapping.getSurfaceForms()) {
-                var splitSurfaceForm = CommonUtilities.splitCases(surfaceForm);
-                var surfaceFormWords = CommonUtilities.splitAtSeparators(splitSurfaceForm);
+        for (var surfaceFormWords : candidate.surfaceFormWords()) {
+            if (this.areWordsOfListsSimilar(entityNameParts, surfaceFormWords, similarity) || this.areWordsOfListsSimilar(longestNameSplit, surfaceFormWords,
+                    similarity)) {
+                return true;
+            }
+            if (1.0 * similarEntriesOfList(entityNameParts, surfaceFormWords) / Math.max(entityNameParts.size(), surfaceFormWords.size()) >= similarity
+                    || 1.0 * similarEntriesOfList(longestNameSplit, surfaceFormWords) / Math.max(longestNameSplit.size(), surfaceFormWords
+                            .size()) >= similarity) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-                boolean longestNameXSurfaceForms = this.areWordsOfListsSimilar(longestNameSplit, surfaceFormWords, similarity);
+    /**
+     * The names of a model entity as used for the selection of recommended instances, split once per selection.
+     */
+    private record ReferenceNames(String name, ImmutableList<String> nameParts, String joinedNameParts, ImmutableList<String> longestNameSplit) {
+        ReferenceNames(ModelEntity modelEntity) {
+            this(modelEntity.getName(), modelEntity.getNameParts());
+        }
 
-                boolean instanceNamesXSurfaceForms = this.areWordsOfListsSimilar(entityNameParts, surfaceFormWords, similarity);
-                boolean listOfNamesXSurfaceFormSimilarEnough = 1.0 * similarEntriesOfList(entityNameParts, surfaceFormWords) / Math.max(entityNameParts.size(),
-                        surfaceFormWords.size()) >= similarity;
+        private ReferenceNames(String name, ImmutableList<String> nameParts) {
+            this(name, nameParts, String.join(" ", nameParts), Lists.immutable.of(CommonUtilities.splitCases(name).split(" ")));
+        }
+    }
 
-                boolean listOfSplitNamesXSurfaceFormSimilarEnough = 1.0 * similarEntriesOfList(longestNameSplit, surfaceFormWords) / Math.max(longestNameSplit
-                        .size(), surfaceFormWords.size()) >= similarity;
+    /**
+     * The name and the split surface forms of a recommended instance. {@code surfaceFormWords} holds the words of each surface form split at cases and then
+     * separators, {@code joinedSurfaceForms} each surface form split at separators and then cases.
+     */
+    private record CandidateForms(RecommendedInstance instance, ImmutableList<String> name, ImmutableList<ImmutableList<String>> surfaceFormWords,
+            ImmutableList<String> joinedSurfaceForms) {
+        CandidateForms(RecommendedInstance instance) {
+            this(instance, instance.getNameMappings().flatCollect(NounMapping::getSurfaceForms));
+        }
 
-                if (instanceNamesXSurfaceForms || longestNameXSurfaceForms || listOfNamesXSurfaceFormSimilarEnough || listOfSplitNamesXSurfaceFormSimilarEnough) {
-                    return true;
-                }
-            }
+        private CandidateForms(RecommendedInstance instance, ImmutableList<String> surfaceForms) {
+            this(instance, Lists.immutable.with(instance.getName()), surfaceForms.collect(surfaceForm -> CommonUtilities.splitAtSeparators(CommonUtilities
+                    .splitCases(surfaceForm))), surfaceForms.collect(surfaceForm -> CommonUtilities.splitCases(String.join(" ", CommonUtilities
+                            .splitAtSeparators(surfaceForm)))));
         }
-        return false;
+    }
+
+    /**
+     * The threshold-independent scores of a recommended instance: the proportion of similar name parts (infinite if the joined names are similar) and
+     * whether one of its surface forms is similar to the model entity.
+     */
+    private record CandidateScore(RecommendedInstance instance, double referenceProportion, boolean surfaceFormSimilar) {
     }
 
     private boolean containsAllNounMappingsOfPhraseMapping(TextState textState, PhraseMapping phraseMapping1, PhraseMapping phraseMapping2) {
@@ -418,7 +527,10 @@ public double getPhraseMappingSimilarity(TextState textState, PhraseMapping firs
         }
 
         // TODO Maybe REWORK. Remove NounMappings?
-        if ((coversOtherPhraseVector(firstPhraseMapping, secondPhraseMapping) || coversOtherPhraseVector(secondPhraseMapping, firstPhraseMapping)) && this
+        var dictionary = new TermDictionary();
+        var firstPhraseVector = PhraseVector.of(firstPhraseMapping.getPhraseVector().castToSortedMap(), dictionary);
+        var secondPhraseVector = PhraseVector.of(secondPhraseMapping.getPhraseVector().castToSortedMap(), dictionary);
+        if ((firstPhraseVector.covers(secondPhraseVector) || secondPhraseVector.covers(firstPhraseVector)) && this
                 .containsAllNounMappingsOfPhraseMapping(textState, firstPhraseMapping, secondPhraseMapping) && this.containsAllNounMappingsOfPhraseMapping(
                         textState, secondPhraseMapping, firstPhraseMapping)) {
             // HARD CODED... Change?
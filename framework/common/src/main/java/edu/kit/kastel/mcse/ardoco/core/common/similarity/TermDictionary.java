@@ -0,0 +1,33 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * Assigns dense int ids to terms in the order they are first seen, so that {@link PhraseVector}s built with the same dictionary can be compared by id. A
+ * dictionary is meant to be shared by all phrase vectors of one text. It is thread-safe.
+ */
+@Deterministic
+public final class TermDictionary {
+    private final Map<String, Integer> ids = new LinkedHashMap<>();
+
+    /**
+     * Returns the id of the given term and assigns the next free id if the term is new.
+     *
+     * @param term the term
+     * @return the id of the term
+     */
+    public synchronized int getId(String term) {
+        return this.ids.computeIfAbsent(term, t -> this.ids.size());
+    }
+
+    /**
+     * {@return the number of terms with an id}
+     */
+    public synchronized int size() {
+        return this.ids.size();
+    }
+}
@@ -0,0 +1,69 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Wraps a {@link WordSimMeasure} to apply its {@link WordSimMeasure#canBeSimilar(String, String) prefilter} and to record its {@link MeasureStatistics}.
+ * Every {@value #TIMING_SAMPLE_RATE}th evaluation, starting with the first, is timed with the given clock.
+ */
+final class InstrumentedMeasure implements WordSimMeasure {
+    /**
+     * One in this many evaluations is timed.
+     */
+    private static final int TIMING_SAMPLE_RATE = 16;
+
+    private final WordSimMeasure delegate;
+    private final LongSupplier clock;
+    private final MeasureStatistics statistics;
+    private final AtomicLong evaluationCounter = new AtomicLong();
+
+    InstrumentedMeasure(WordSimMeasure delegate, LongSupplier clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.statistics = new MeasureStatistics(delegate);
+    }
+
+    MeasureStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    @Override
+    public boolean areWordsSimilar(ComparisonContext comparisonContext) {
+        boolean timed = this.evaluationCounter.getAndIncrement() % TIMING_SAMPLE_RATE == 0;
+        long start = timed ? this.clock.getAsLong() : 0;
+        boolean similar;
+        if (this.delegate.canBeSimilar(comparisonContext.firstTerm(), comparisonContext.secondTerm())) {
+            similar = this.delegate.areWordsSimilar(comparisonContext);
+        } else {
+            this.statistics.recordPrefilterRejection();
+            similar = false;
+        }
+        if (timed) {
+            this.statistics.recordSample(this.clock.getAsLong() - start);
+        }
+        this.statistics.recordEvaluation(similar);
+        return similar;
+    }
+
+    @Override
+    public double getSimilarity(ComparisonContext comparisonContext) {
+        return this.delegate.getSimilarity(comparisonContext);
+    }
+
+    @Override
+    public boolean isSymmetric() {
+        return this.delegate.isSymmetric();
+    }
+
+    @Override
+    public boolean dependsOnWords() {
+        return this.delegate.dependsOnWords();
+    }
+
+    @Override
+    public boolean canBeSimilar(String firstTerm, String secondTerm) {
+        return this.delegate.canBeSimilar(firstTerm, secondTerm);
+    }
+}
@@ -0,0 +1,104 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the verdicts of one {@link WordSimMeasure} within a {@link WordSimUtils}: how often it was asked, how often it accepted a pair, how often
+ * its {@link WordSimMeasure#canBeSimilar(String, String) prefilter} rejected a pair, and how long an evaluation takes on average. The cost is measured on a
+ * sample of the evaluations to keep the overhead of timing low.
+ */
+public final class MeasureStatistics {
+    private final WordSimMeasure measure;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder acceptances = new LongAdder();
+    private final LongAdder prefilterRejections = new LongAdder();
+    private final LongAdder sampledEvaluations = new LongAdder();
+    private final LongAdder sampledNanos = new LongAdder();
+
+    MeasureStatistics(WordSimMeasure measure) {
+        this.measure = measure;
+    }
+
+    /**
+     * {@return the measure these statistics belong to}
+     */
+    public WordSimMeasure getMeasure() {
+        return this.measure;
+    }
+
+    /**
+     * {@return the number of pairs the measure was asked about, including pairs rejected by its prefilter}
+     */
+    public long getEvaluations() {
+        return this.evaluations.sum();
+    }
+
+    /**
+     * {@return the number of pairs the measure accepted as similar}
+     */
+    public long getAcceptances() {
+        return this.acceptances.sum();
+    }
+
+    /**
+     * {@return the number of pairs the prefilter of the measure rejected without running the measure}
+     */
+    public long getPrefilterRejections() {
+        return this.prefilterRejections.sum();
+    }
+
+    /**
+     * {@return the fraction of evaluations that accepted the pair, or 0 if the measure was not evaluated yet}
+     */
+    public double getHitRate() {
+        long count = this.getEvaluations();
+        return count == 0 ? 0 : (double) this.getAcceptances() / count;
+    }
+
+    /**
+     * {@return the average time of an evaluation in nanoseconds, or NaN if no evaluation was sampled yet}
+     */
+    public double getAverageCostNanos() {
+        long samples = this.sampledEvaluations.sum();
+        return samples == 0 ? Double.NaN : (double) this.sampledNanos.sum() / samples;
+    }
+
+    /**
+     * Returns the expected time spent in this measure per accepted pair. Running measures in ascending order of this value minimizes the expected time until
+     * the first measure accepts a pair.
+     *
+     * @return the average cost divided by the hit rate, infinity if the measure never accepted a pair, or NaN if no evaluation was sampled yet
+     */
+    public double getExpectedCostPerAcceptance() {
+        double hitRate = this.getHitRate();
+        double cost = this.getAverageCostNanos();
+        return hitRate == 0 && !Double.isNaN(cost) ? Double.POSITIVE_INFINITY : cost / hitRate;
+    }
+
+    long getSampledEvaluations() {
+        return this.sampledEvaluations.sum();
+    }
+
+    void recordEvaluation(boolean accepted) {
+        this.evaluations.increment();
+        if (accepted) {
+            this.acceptances.increment();
+        }
+    }
+
+    void recordPrefilterRejection() {
+        this.prefilterRejections.increment();
+    }
+
+    void recordSample(long nanos) {
+        this.sampledEvaluations.increment();
+        this.sampledNanos.add(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[evaluations=%d, acceptances=%d, prefilterRejections=%d, averageCostNanos=%.1f]", this.measure.getClass().getSimpleName(),
+                this.getEvaluations(), this.getAcceptances(), this.getPrefilterRejections(), this.getAverageCostNanos());
+    }
+}
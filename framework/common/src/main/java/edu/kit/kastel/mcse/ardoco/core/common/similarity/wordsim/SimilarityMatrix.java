@@ -0,0 +1,78 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * The verdicts of comparing each term of one list (the rows) with each term of another list (the columns), as computed by
+ * {@link WordSimUtils#getSimilarityMatrix(org.eclipse.collections.api.list.ImmutableList, org.eclipse.collections.api.list.ImmutableList, int)}. Each row is
+ * stored as a bit set of its similar columns. If the matrix was computed with a limit of similar columns per row, columns after the limit are reported as not
+ * similar.
+ */
+public final class SimilarityMatrix {
+    private final BitSet[] rows;
+    private final int columnCount;
+
+    SimilarityMatrix(BitSet[] rows, int columnCount) {
+        this.rows = Objects.requireNonNull(rows);
+        this.columnCount = columnCount;
+    }
+
+    /**
+     * {@return the number of rows, i.e., the number of terms of the first list}
+     */
+    public int getRowCount() {
+        return this.rows.length;
+    }
+
+    /**
+     * {@return the number of columns, i.e., the number of terms of the second list}
+     */
+    public int getColumnCount() {
+        return this.columnCount;
+    }
+
+    /**
+     * Returns whether the terms of the given row and column are similar.
+     *
+     * @param row    the index of the term in the first list
+     * @param column the index of the term in the second list
+     * @return true if the terms are similar
+     */
+    public boolean isSimilar(int row, int column) {
+        Objects.checkIndex(column, this.columnCount);
+        return this.rows[row].get(column);
+    }
+
+    /**
+     * Returns the number of terms of the second list that are similar to the term of the given row.
+     *
+     * @param row the index of the term in the first list
+     * @return the number of similar terms
+     */
+    public int countSimilarInRow(int row) {
+        return this.rows[row].cardinality();
+    }
+
+    /**
+     * Returns whether the term of the given row is similar to any term of the second list.
+     *
+     * @param row the index of the term in the first list
+     * @return true if there is at least one similar term
+     */
+    public boolean isAnySimilarInRow(int row) {
+        return !this.rows[row].isEmpty();
+    }
+
+    /**
+     * {@return the number of similar pairs}
+     */
+    public int countSimilar() {
+        int count = 0;
+        for (BitSet row : this.rows) {
+            count += row.cardinality();
+        }
+        return count;
+    }
+}
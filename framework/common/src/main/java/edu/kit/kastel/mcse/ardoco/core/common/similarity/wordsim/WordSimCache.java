@@ -0,0 +1,177 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * A bounded, thread-safe cache for the verdicts of word similarity comparisons. Entries are keyed by the compared terms and the configuration (e.g., the
+ * {@link edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.ComparisonStrategy}) they were computed with. For symmetric comparisons, both
+ * orders of a pair share one entry.
+ * <p>
+ * The cache is split into segments that each evict their least recently used entry once they are full, so concurrent lookups rarely contend. Verdicts are
+ * computed outside the segment locks; concurrent misses on the same pair may therefore compute it more than once.
+ */
+@Deterministic
+public final class WordSimCache {
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache holding at most (approximately) the given number of entries.
+     *
+     * @param maximumSize the maximum number of entries, must be positive
+     */
+    public WordSimCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        int segmentCount = Math.min(SEGMENTS, maximumSize);
+        int segmentSize = (maximumSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(segmentSize, this.evictions);
+        }
+    }
+
+    /**
+     * Returns the cached verdict for the given pair or computes and caches it.
+     *
+     * @param firstTerm     the first term
+     * @param secondTerm    the second term
+     * @param configuration the configuration the verdict depends on, compared by {@link Object#equals(Object)}
+     * @param symmetric     whether the verdict is independent of the order of the terms
+     * @param computation   computes the verdict on a miss
+     * @return the verdict
+     */
+    public boolean getOrCompute(String firstTerm, String secondTerm, Object configuration, boolean symmetric, BooleanSupplier computation) {
+        Key key = symmetric && firstTerm.compareTo(secondTerm) > 0 ?
+                new Key(secondTerm, firstTerm, configuration) :
+                new Key(firstTerm, secondTerm, configuration);
+        Segment segment = this.segments[Math.floorMod(spread(key.hashCode()), this.segments.length)];
+
+        Boolean cached = segment.get(key);
+        if (cached != null) {
+            this.hits.increment();
+            return cached;
+        }
+        this.misses.increment();
+        boolean verdict = computation.getAsBoolean();
+        segment.put(key, verdict);
+        return verdict;
+    }
+
+    /**
+     * Removes all entries. The statistics are kept.
+     */
+    public void clear() {
+        for (Segment segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * {@return the maximum number of entries of this cache}
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * {@return the current number of entries}
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : this.segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * {@return the number of lookups that were answered from the cache}
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * {@return the number of lookups that had to compute the verdict}
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * {@return the number of entries that were evicted because the cache was full}
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * {@return the ratio of lookups that were answered from the cache, or 0 if there were no lookups}
+     */
+    public double getHitRate() {
+        long hitCount = this.getHitCount();
+        long lookups = hitCount + this.getMissCount();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WordSimCache{size=%d/%d, hits=%d, misses=%d, evictions=%d}", this.size(), this.maximumSize, this.getHitCount(),
+                this.getMissCount(), this.getEvictionCount());
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private record Key(String firstTerm, String secondTerm, Object configuration) {
+    }
+
+    private static final class Segment {
+        private final Map<Key, Boolean> entries;
+
+        Segment(int capacity, LongAdder evictions) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Boolean> eldest) {
+                    if (this.size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized Boolean get(Key key) {
+            return this.entries.get(key);
+        }
+
+        synchronized void put(Key key, boolean verdict) {
+            this.entries.put(key, verdict);
+        }
+
+        synchronized void clear() {
+            this.entries.clear();
+        }
+
+        synchronized int size() {
+            return this.entries.size();
+        }
+    }
+}
@@ -8,8 +8,10 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.embedding.EmbeddingMeasure;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.equality.EqualityMeasure;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.jarowinkler.JaroWinklerMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein.BitParallelLevenshteinMeasure;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein.LevenshteinMeasure;
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
 
@@ -32,13 +34,17 @@ public static ImmutableList<WordSimMeasure> loadUsingProperties() {
             list.add(new EqualityMeasure());
 
             if (CommonTextToolsConfig.LEVENSHTEIN_ENABLED) {
-                list.add(new LevenshteinMeasure());
+                list.add(CommonTextToolsConfig.LEVENSHTEIN_BIT_PARALLEL ? new BitParallelLevenshteinMeasure() : new LevenshteinMeasure());
             }
 
             if (CommonTextToolsConfig.JAROWINKLER_ENABLED) {
                 list.add(new JaroWinklerMeasure());
             }
 
+            if (CommonTextToolsConfig.EMBEDDING_ENABLED) {
+                list.add(new EmbeddingMeasure());
+            }
+
             return Lists.immutable.withAll(list);
         } catch (Exception e) {
             LOGGER.error("Failed to load word similarity measures", e);
@@ -21,4 +21,37 @@ public interface WordSimMeasure {
      * @return similarity in range [0,1]
      */
     double getSimilarity(ComparisonContext comparisonContext);
+
+    /**
+     * Returns whether the verdict of this measure is independent of the order of the words in the {@link ComparisonContext}. Symmetric comparisons share
+     * their entries in the {@link WordSimCache}.
+     *
+     * @return true if swapping the words never changes the verdict
+     */
+    default boolean isSymmetric() {
+        return false;
+    }
+
+    /**
+     * Returns whether the verdict of this measure may depend on the {@link edu.kit.kastel.mcse.ardoco.core.api.text.Word words} of the
+     * {@link ComparisonContext} beyond its terms, e.g., on their lemmas. {@link WordSimUtils} does not cache verdicts for contexts with words if one of its
+     * measures depends on them, since its {@link WordSimCache} is keyed by the terms only.
+     *
+     * @return true if two contexts with the same terms but different words may get different verdicts
+     */
+    default boolean dependsOnWords() {
+        return false;
+    }
+
+    /**
+     * A cheap prefilter, e.g., on the lengths of the terms, that rules out pairs this measure can never accept. {@link WordSimUtils} skips
+     * {@link #areWordsSimilar(ComparisonContext)} for pairs rejected here, so it must never reject a pair the measure would accept.
+     *
+     * @param firstTerm  the first term of the comparison context
+     * @param secondTerm the second term of the comparison context
+     * @return false if the measure certainly does not accept the terms as similar
+     */
+    default boolean canBeSimilar(String firstTerm, String secondTerm) {
+        return true;
+    }
 }
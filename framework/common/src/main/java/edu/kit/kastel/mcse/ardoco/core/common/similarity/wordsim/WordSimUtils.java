@@ -2,35 +2,167 @@
 package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ImmutableList;
 
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.equality.EqualityMeasure;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.AverageStrategy;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.ComparisonStrategy;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.SimilarityStrategy;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
 
 /**
- * Provides utility methods for calculating similarity between objects, with configurable strategies and measures. Not thread-safe.
+ * Provides utility methods for calculating similarity between objects, with configurable strategies and measures.
+ * <p>
+ * Comparisons are thread-safe and may run concurrently, e.g., the rows of {@link #getSimilarityMatrix(ImmutableList, ImmutableList, int)} run on the common
+ * pool. The configuration methods ({@link #setMeasures(Collection)}, the {@code setStrategy} methods, {@link #setCacheSize(int)}, and
+ * {@link #setAdaptiveMeasureOrdering(boolean)}) publish their changes safely, the measures as one immutable snapshot, but they must not overlap with
+ * comparisons: a comparison that runs concurrently with a change may use the old or the new configuration, and its verdict may be cached for the new one.
+ * <p>
+ * Verdicts of {@link #areWordsSimilar(ComparisonContext, ComparisonStrategy)} are memoized in a {@link WordSimCache} whose size is configured by
+ * {@link CommonTextToolsConfig#SIMILARITY_CACHE_SIZE}. The cache is keyed by the compared terms, so contexts with words bypass it if a measure
+ * {@link WordSimMeasure#dependsOnWords() depends on the words}, e.g., on their lemmas.
+ * <p>
+ * Every measure is evaluated through its {@link WordSimMeasure#canBeSimilar(String, String) prefilter}, and {@link MeasureStatistics} about its cost and
+ * hit rate are recorded. If {@link CommonTextToolsConfig#SIMILARITY_ADAPTIVE_MEASURE_ORDERING adaptive measure ordering} is enabled, strategies whose verdict
+ * does not depend on the order of the measures get the measures in ascending order of their expected cost per acceptance, so cheap measures that often
+ * accept run first. The order is recomputed after every {@value #REORDER_INTERVAL} such comparisons. A measure that runs behind a measure that accepts is only
+ * evaluated for the pairs the measures before it reject, so its statistics describe these pairs only and stop changing if the measures before it accept
+ * every pair. Its rank then stays as it is, which never changes a verdict; {@link #setMeasures(Collection)} starts with fresh statistics.
  */
 public class WordSimUtils {
+    /**
+     * Minimum number of pairs of a similarity matrix for its rows to be computed in parallel.
+     */
+    private static final int PARALLEL_MATRIX_THRESHOLD = 1024;
+    /**
+     * The measures are reordered once every this many comparisons of an order independent strategy.
+     */
+    static final int REORDER_INTERVAL = 4096;
+    /**
+     * Minimum number of timed evaluations of every measure before the measures are reordered.
+     */
+    private static final int MIN_SAMPLES_FOR_REORDER = 32;
 
-    private MutableList<WordSimMeasure> measures = Lists.mutable.withAll(WordSimLoader.loadUsingProperties());
-    private ComparisonStrategy strategy = ComparisonStrategy.AT_LEAST_ONE;
-    private SimilarityStrategy similarityStrategy = new AverageStrategy();
+    private final LongSupplier clock;
+    private volatile MeasureConfiguration measureConfiguration;
+    private volatile ComparisonStrategy strategy = ComparisonStrategy.AT_LEAST_ONE;
+    private volatile SimilarityStrategy similarityStrategy = new AverageStrategy();
+    private volatile WordSimCache cache = CommonTextToolsConfig.SIMILARITY_CACHE_SIZE > 0 ?
+            new WordSimCache(CommonTextToolsConfig.SIMILARITY_CACHE_SIZE) :
+            null;
+    private volatile boolean adaptiveMeasureOrdering = CommonTextToolsConfig.SIMILARITY_ADAPTIVE_MEASURE_ORDERING;
+
+    /**
+     * Creates a new instance with the measures configured in {@link CommonTextToolsConfig}.
+     */
+    public WordSimUtils() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance with the measures configured in {@link CommonTextToolsConfig} whose cost is timed with the given clock.
+     *
+     * @param clock the clock in nanoseconds
+     */
+    WordSimUtils(LongSupplier clock) {
+        this.clock = clock;
+        this.measureConfiguration = new MeasureConfiguration(WordSimLoader.loadUsingProperties().castToList(), clock);
+    }
 
     /**
-     * Sets which measures should be used for similarity comparison.
+     * Sets which measures should be used for similarity comparison. Clears the cache and the measure statistics.
      *
      * @param measures the measures to use
      */
     public void setMeasures(Collection<WordSimMeasure> measures) {
-        this.measures = Lists.mutable.withAll(measures);
+        this.measureConfiguration = new MeasureConfiguration(measures, this.clock);
+        var currentCache = this.cache;
+        if (currentCache != null) {
+            currentCache.clear();
+        }
+    }
+
+    /**
+     * Sets whether order independent strategies get the measures in ascending order of their expected cost per acceptance instead of the configured order.
+     *
+     * @param adaptiveMeasureOrdering whether to reorder the measures
+     */
+    public void setAdaptiveMeasureOrdering(boolean adaptiveMeasureOrdering) {
+        this.adaptiveMeasureOrdering = adaptiveMeasureOrdering;
+    }
+
+    /**
+     * {@return the measures used for similarity comparison in the configured order}
+     */
+    public ImmutableList<WordSimMeasure> getMeasures() {
+        return this.measureConfiguration.measures;
+    }
+
+    /**
+     * {@return the default comparison strategy}
+     */
+    public ComparisonStrategy getComparisonStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * {@return the statistics of the measures in the configured order}
+     */
+    public ImmutableList<MeasureStatistics> getMeasureStatistics() {
+        return Lists.immutable.withAll(this.measureConfiguration.instrumentedMeasures).collect(InstrumentedMeasure::getStatistics);
+    }
+
+    private static List<InstrumentedMeasure> instrument(Collection<WordSimMeasure> measures, LongSupplier clock) {
+        List<InstrumentedMeasure> instrumented = new ArrayList<>();
+        for (WordSimMeasure measure : measures) {
+            instrumented.add(new InstrumentedMeasure(measure, clock));
+        }
+        return List.copyOf(instrumented);
+    }
+
+    private List<WordSimMeasure> getMeasures(MeasureConfiguration configuration, ComparisonStrategy comparisonStrategy) {
+        if (!this.adaptiveMeasureOrdering || !comparisonStrategy.isOrderIndependent()) {
+            return configuration.configuredOrderMeasures;
+        }
+        return configuration.getAdaptivelyOrderedMeasures();
+    }
+
+    /**
+     * Sets the maximum number of cached verdicts. A size of 0 disables the cache.
+     *
+     * @param maximumSize the maximum number of cached verdicts
+     */
+    public void setCacheSize(int maximumSize) {
+        this.cache = maximumSize > 0 ? new WordSimCache(maximumSize) : null;
+    }
+
+    /**
+     * {@return the cache of verdicts including its hit and miss statistics, or an empty optional if caching is disabled}
+     */
+    public Optional<WordSimCache> getCache() {
+        return Optional.ofNullable(this.cache);
+    }
+
+    private static boolean areSymmetric(Collection<WordSimMeasure> measures) {
+        for (WordSimMeasure measure : measures) {
+            if (!measure.isSymmetric()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -62,17 +194,43 @@ public boolean areWordsSimilar(ComparisonContext ctx, ComparisonStrategy strateg
         Objects.requireNonNull(ctx);
         Objects.requireNonNull(strategy);
 
-        if (!this.splitLengthTest(ctx)) {
+        var firstTerm = ctx.firstTerm();
+        var secondTerm = ctx.secondTerm();
+        if (countSplitParts(firstTerm) != countSplitParts(secondTerm)) {
             return false;
         }
 
-        return strategy.areWordsSimilar(ctx, this.measures.toList());
+        return this.areTermsSimilar(ctx, firstTerm, secondTerm, strategy);
+    }
+
+    private boolean areTermsSimilar(ComparisonContext ctx, String firstTerm, String secondTerm, ComparisonStrategy strategy) {
+        var configuration = this.measureConfiguration;
+        var currentCache = this.cache;
+        if (currentCache == null || configuration.wordDependentMeasures && (ctx.firstWord() != null || ctx.secondWord() != null)) {
+            return strategy.areWordsSimilar(ctx, this.getMeasures(configuration, strategy));
+        }
+        return currentCache.getOrCompute(firstTerm, secondTerm, strategy, configuration.symmetricMeasures, () -> strategy.areWordsSimilar(ctx, this.getMeasures(
+                configuration, strategy)));
     }
 
-    private boolean splitLengthTest(ComparisonContext ctx) {
-        var first = ctx.firstTerm().toLowerCase();
-        var second = ctx.secondTerm().toLowerCase();
-        return (first.split(" ").length == second.split(" ").length);
+    /**
+     * Counts the parts of the given term as {@code term.split(" ").length} would, without creating the parts.
+     */
+    private static int countSplitParts(String term) {
+        if (term.isEmpty()) {
+            return 1;
+        }
+        int parts = 0;
+        int trailingEmptyParts = 0;
+        int partStart = 0;
+        for (int i = 0; i <= term.length(); i++) {
+            if (i == term.length() || term.charAt(i) == ' ') {
+                trailingEmptyParts = i == partStart ? trailingEmptyParts + 1 : 0;
+                parts++;
+                partStart = i + 1;
+            }
+        }
+        return parts - trailingEmptyParts;
     }
 
     /**
@@ -155,6 +313,105 @@ public boolean areWordsSimilar(String firstWord, Word secondWord, ComparisonStra
         return this.areWordsSimilar(new ComparisonContext(firstWord, secondWord.getText(), null, secondWord, false), strategy);
     }
 
+    /**
+     * Compares each of the first terms with each of the second terms using the default comparison strategy. Equivalent to calling
+     * {@link #areWordsSimilar(String, String)} for each pair.
+     *
+     * @param firstTerms  the terms of the rows
+     * @param secondTerms the terms of the columns
+     * @return the verdicts for all pairs
+     */
+    public SimilarityMatrix getSimilarityMatrix(ImmutableList<String> firstTerms, ImmutableList<String> secondTerms) {
+        return this.getSimilarityMatrix(firstTerms, secondTerms, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Compares each of the first terms with each of the second terms using the default comparison strategy. The split length of each term is computed only
+     * once, and pairs with different split lengths are rejected without running the measures. Once a row contains the given number of similar terms, the
+     * remaining columns of the row are skipped. Large matrices are computed row-parallel; the measures and strategy must then be thread-safe, which holds for
+     * the built-in ones.
+     *
+     * @param firstTerms       the terms of the rows
+     * @param secondTerms      the terms of the columns
+     * @param maxSimilarPerRow the number of similar columns after which a row is complete, e.g., 1 to only check for any similar term
+     * @return the verdicts for all pairs
+     */
+    public SimilarityMatrix getSimilarityMatrix(ImmutableList<String> firstTerms, ImmutableList<String> secondTerms, int maxSimilarPerRow) {
+        if (maxSimilarPerRow <= 0) {
+            throw new IllegalArgumentException("maxSimilarPerRow must be positive: " + maxSimilarPerRow);
+        }
+        String[] columns = secondTerms.toArray(new String[0]);
+        int[] columnSplitParts = countSplitParts(columns);
+
+        var currentStrategy = this.strategy;
+        IntStream rowIndices = IntStream.range(0, firstTerms.size());
+        if ((long) firstTerms.size() * columns.length >= PARALLEL_MATRIX_THRESHOLD) {
+            rowIndices = rowIndices.parallel();
+        }
+        BitSet[] rows = rowIndices.mapToObj(row -> this.computeSimilarityRow(firstTerms.get(row), columns, columnSplitParts, maxSimilarPerRow,
+                currentStrategy)).toArray(BitSet[]::new);
+        return new SimilarityMatrix(rows, columns.length);
+    }
+
+    /**
+     * Checks whether at least the given number of pairs of the first and second terms are similar using the default comparison strategy. Equivalent to
+     * counting the similar pairs of {@link #getSimilarityMatrix(ImmutableList, ImmutableList)}, but the pairs are compared row by row and the comparison stops
+     * as soon as the required number of similar pairs is reached or can no longer be reached.
+     *
+     * @param firstTerms      the terms of the rows
+     * @param secondTerms     the terms of the columns
+     * @param minSimilarPairs the required number of similar pairs
+     * @return true if at least the required number of pairs are similar
+     */
+    public boolean hasSimilarPairs(ImmutableList<String> firstTerms, ImmutableList<String> secondTerms, int minSimilarPairs) {
+        String[] columns = secondTerms.toArray(new String[0]);
+        long undecidedPairs = (long) firstTerms.size() * columns.length;
+        if (minSimilarPairs <= 0 || undecidedPairs < minSimilarPairs) {
+            return minSimilarPairs <= 0;
+        }
+        int[] columnSplitParts = countSplitParts(columns);
+
+        var currentStrategy = this.strategy;
+        int similarPairs = 0;
+        for (String rowTerm : firstTerms) {
+            int rowSplitParts = countSplitParts(rowTerm);
+            for (int column = 0; column < columns.length; column++) {
+                undecidedPairs--;
+                if (rowSplitParts == columnSplitParts[column] && this.areTermsSimilar(new ComparisonContext(rowTerm, columns[column], false), rowTerm,
+                        columns[column], currentStrategy)) {
+                    if (++similarPairs >= minSimilarPairs) {
+                        return true;
+                    }
+                } else if (similarPairs + undecidedPairs < minSimilarPairs) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int[] countSplitParts(String[] terms) {
+        int[] splitParts = new int[terms.length];
+        for (int index = 0; index < terms.length; index++) {
+            splitParts[index] = countSplitParts(terms[index]);
+        }
+        return splitParts;
+    }
+
+    private BitSet computeSimilarityRow(String rowTerm, String[] columns, int[] columnSplitParts, int maxSimilarPerRow, ComparisonStrategy comparisonStrategy) {
+        BitSet similarColumns = new BitSet(columns.length);
+        int rowSplitParts = countSplitParts(rowTerm);
+        int similarCount = 0;
+        for (int column = 0; column < columns.length && similarCount < maxSimilarPerRow; column++) {
+            if (rowSplitParts == columnSplitParts[column] && this.areTermsSimilar(new ComparisonContext(rowTerm, columns[column], false), rowTerm,
+                    columns[column], comparisonStrategy)) {
+                similarColumns.set(column);
+                similarCount++;
+            }
+        }
+        return similarColumns;
+    }
+
     /**
      * Evaluates the similarity of the given words using the specified similarity strategy.
      *
@@ -165,7 +422,7 @@ public boolean areWordsSimilar(String firstWord, Word secondWord, ComparisonStra
      * @return similarity in range [0,1]
      */
     public double getSimilarity(String firstWord, String secondWord, SimilarityStrategy strategy, boolean ignoreCase) {
-        var allMeasuresExceptDefault = this.measures.stream().filter(m -> !(m instanceof EqualityMeasure)).collect(Collectors.toCollection(ArrayList::new));
+        var allMeasuresExceptDefault = this.measureConfiguration.measures.stream().filter(m -> !(m instanceof EqualityMeasure)).collect(Collectors.toCollection(ArrayList::new));
         if (allMeasuresExceptDefault.isEmpty()) {
             allMeasuresExceptDefault.add(new EqualityMeasure());
         }
@@ -197,4 +454,45 @@ public double getSimilarity(String firstWord, String secondWord) {
     public double getSimilarity(String firstWord, String secondWord, boolean ignoreCase) {
         return this.getSimilarity(firstWord, secondWord, this.similarityStrategy, ignoreCase);
     }
+
+    /**
+     * An immutable snapshot of the configured measures together with their instrumented wrappers. Only the adaptive order and the number of comparisons
+     * that used it change; the order is published through a volatile field, so a snapshot can be shared by concurrent comparisons.
+     */
+    private static final class MeasureConfiguration {
+        private final ImmutableList<WordSimMeasure> measures;
+        private final boolean symmetricMeasures;
+        private final boolean wordDependentMeasures;
+        private final List<InstrumentedMeasure> instrumentedMeasures;
+        private final List<WordSimMeasure> configuredOrderMeasures;
+        private final AtomicLong adaptiveComparisons = new AtomicLong();
+        private volatile List<WordSimMeasure> adaptivelyOrderedMeasures;
+
+        private MeasureConfiguration(Collection<WordSimMeasure> measures, LongSupplier clock) {
+            this.measures = Lists.immutable.withAll(measures);
+            this.symmetricMeasures = areSymmetric(measures);
+            this.wordDependentMeasures = measures.stream().anyMatch(WordSimMeasure::dependsOnWords);
+            this.instrumentedMeasures = instrument(measures, clock);
+            this.configuredOrderMeasures = List.copyOf(this.instrumentedMeasures);
+            this.adaptivelyOrderedMeasures = this.configuredOrderMeasures;
+        }
+
+        private List<WordSimMeasure> getAdaptivelyOrderedMeasures() {
+            if (this.adaptiveComparisons.incrementAndGet() % REORDER_INTERVAL == 0) {
+                this.reorderMeasures();
+            }
+            return this.adaptivelyOrderedMeasures;
+        }
+
+        private void reorderMeasures() {
+            List<InstrumentedMeasure> ordered = new ArrayList<>(this.instrumentedMeasures);
+            for (InstrumentedMeasure measure : ordered) {
+                if (measure.getStatistics().getSampledEvaluations() < MIN_SAMPLES_FOR_REORDER) {
+                    return;
+                }
+            }
+            ordered.sort(Comparator.comparingDouble(measure -> measure.getStatistics().getExpectedCostPerAcceptance()));
+            this.adaptivelyOrderedMeasures = List.copyOf(ordered);
+        }
+    }
 }
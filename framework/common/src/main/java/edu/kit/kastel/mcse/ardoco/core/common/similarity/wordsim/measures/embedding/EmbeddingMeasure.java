@@ -0,0 +1,196 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.embedding;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
+
+/**
+ * This word similarity measure compares the word vectors of the terms by their cosine similarity. The vectors are read from a local
+ * {@link Float16VectorStore}, so no network access is needed. The store is only opened on the first comparison, and decoded (normalized) vectors are kept in
+ * a bounded LRU cache.
+ * <p>
+ * A term is looked up as is, in lower case, and as the lemma of its word if the {@link ComparisonContext} has one. Pairs with a term without vector are not
+ * similar; their similarity is NaN so that averaging strategies ignore this measure for them. If the store cannot be opened, the error is logged once and the
+ * measure never considers words similar.
+ * <p>
+ * Since the lemma fallback makes the verdict depend on the words of the context, the measure {@link #dependsOnWords() depends on words}. The owner of the
+ * measure closes it to release the mapped store; a closed measure never considers words similar.
+ */
+@Deterministic
+public class EmbeddingMeasure implements WordSimMeasure, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddingMeasure.class);
+    private static final float[] NO_VECTOR = new float[0];
+
+    private final Path vectorFile;
+    private final double similarityThreshold;
+    private final Map<String, float[]> vectorCache;
+    private volatile Float16VectorStore store;
+    private volatile boolean unavailable;
+
+    /**
+     * Constructs a new {@link EmbeddingMeasure} using the settings provided by {@link CommonTextToolsConfig}.
+     */
+    public EmbeddingMeasure() {
+        this(Path.of(CommonTextToolsConfig.EMBEDDING_VECTOR_FILE), CommonTextToolsConfig.EMBEDDING_SIMILARITY_THRESHOLD,
+                CommonTextToolsConfig.EMBEDDING_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a new {@link EmbeddingMeasure}. The vector file is not opened before the first comparison.
+     *
+     * @param vectorFile          the {@link Float16VectorStore} file
+     * @param similarityThreshold the cosine similarity from which words are considered similar, between -1 and 1
+     * @param cacheSize           the maximum number of decoded vectors to keep, must be positive
+     * @throws IllegalArgumentException if the threshold or the cache size are out of range
+     */
+    public EmbeddingMeasure(Path vectorFile, double similarityThreshold, int cacheSize) throws IllegalArgumentException {
+        if (similarityThreshold < -1.0 || similarityThreshold > 1.0) {
+            throw new IllegalArgumentException("similarityThreshold outside of valid range: " + similarityThreshold);
+        }
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("cacheSize must be positive: " + cacheSize);
+        }
+        this.vectorFile = vectorFile;
+        this.similarityThreshold = similarityThreshold;
+        this.vectorCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return this.size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public boolean areWordsSimilar(ComparisonContext comparisonContext) {
+        double similarity = this.getSimilarity(comparisonContext);
+        return !Double.isNaN(similarity) && similarity >= this.similarityThreshold;
+    }
+
+    @Override
+    public double getSimilarity(ComparisonContext comparisonContext) {
+        var lemmaContext = lemmaContext(comparisonContext);
+        float[] first = this.findVector(comparisonContext.firstTerm(), lemmaContext.firstTerm());
+        if (first == NO_VECTOR) {
+            return Double.NaN;
+        }
+        float[] second = this.findVector(comparisonContext.secondTerm(), lemmaContext.secondTerm());
+        if (second == NO_VECTOR) {
+            return Double.NaN;
+        }
+        double dotProduct = 0;
+        for (int i = 0; i < first.length; i++) {
+            dotProduct += first[i] * second[i];
+        }
+        return dotProduct;
+    }
+
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+
+    @Override
+    public boolean dependsOnWords() {
+        return true;
+    }
+
+    /**
+     * Closes the vector store if it was opened. Afterwards, the measure never considers words similar.
+     *
+     * @throws IOException if the store cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        Float16VectorStore vectorStore;
+        synchronized (this) {
+            vectorStore = this.store;
+            this.store = null;
+            this.unavailable = true;
+        }
+        synchronized (this.vectorCache) {
+            this.vectorCache.clear();
+        }
+        if (vectorStore != null) {
+            vectorStore.close();
+        }
+    }
+
+    private static ComparisonContext lemmaContext(ComparisonContext comparisonContext) {
+        if (comparisonContext.lemmatize()) {
+            return comparisonContext;
+        }
+        return new ComparisonContext(comparisonContext.firstString(), comparisonContext.secondString(), comparisonContext.firstWord(), comparisonContext
+                .secondWord(), true);
+    }
+
+    private float[] findVector(String term, String lemma) {
+        float[] vector = this.getVector(term);
+        if (vector == NO_VECTOR) {
+            vector = this.getVector(term.toLowerCase(Locale.ROOT));
+        }
+        if (vector == NO_VECTOR && lemma != null && !lemma.equals(term)) {
+            vector = this.getVector(lemma.toLowerCase(Locale.ROOT));
+        }
+        return vector;
+    }
+
+    private float[] getVector(String term) {
+        synchronized (this.vectorCache) {
+            float[] cached = this.vectorCache.get(term);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Float16VectorStore vectorStore = this.getStore();
+        float[] vector = vectorStore == null ? NO_VECTOR : vectorStore.getVector(term).map(EmbeddingMeasure::normalize).orElse(NO_VECTOR);
+        synchronized (this.vectorCache) {
+            this.vectorCache.put(term, vector);
+        }
+        return vector;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double squaredNorm = 0;
+        for (float component : vector) {
+            squaredNorm += component * component;
+        }
+        if (squaredNorm == 0) {
+            return NO_VECTOR;
+        }
+        float inverseNorm = (float) (1 / Math.sqrt(squaredNorm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverseNorm;
+        }
+        return vector;
+    }
+
+    private Float16VectorStore getStore() {
+        Float16VectorStore vectorStore = this.store;
+        if (vectorStore != null || this.unavailable) {
+            return vectorStore;
+        }
+        synchronized (this) {
+            if (this.store == null && !this.unavailable) {
+                try {
+                    this.store = Float16VectorStore.open(this.vectorFile);
+                } catch (IOException | UncheckedIOException e) {
+                    LOGGER.error("Failed to open word vectors at {}, the embedding measure will not consider any words similar", this.vectorFile, e);
+                    this.unavailable = true;
+                }
+            }
+            return this.store;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.embedding;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A read-only store of word vectors in a memory-mapped file with half precision (float16) components. Words are looked up by binary search over the sorted
+ * word table in the file, so opening a store does not read the file and the resident memory only grows with the pages that lookups touch.
+ * <p>
+ * The file starts with a header of four big-endian ints: the magic number {@value #MAGIC}, the format version, the dimension and the number of words. It is
+ * followed by the end offsets of the words within the word table ({@code count} ints), the word table (the UTF-8 bytes of the words in ascending unsigned
+ * byte order, padded to an even length) and the vectors ({@code count * dimension} float16 values in the order of the words). Such files are created from
+ * the text format of fastText and GloVe with {@link #convertTextFormat(Path, Path)}.
+ */
+public final class Float16VectorStore implements AutoCloseable {
+    /**
+     * "ARDV" in ASCII.
+     */
+    public static final int MAGIC = 0x41524456;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    private final FileChannel channel;
+    private final int dimension;
+    private final int count;
+    private final MappedByteBuffer wordOffsets;
+    private final MappedByteBuffer words;
+    /**
+     * The vectors split into mappings of at most {@link #vectorsPerChunk} vectors, as a single mapping is limited to 2 GiB.
+     */
+    private final MappedByteBuffer[] vectorChunks;
+    private final int vectorsPerChunk;
+
+    private Float16VectorStore(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a float16 vector store");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported float16 vector store version: " + version);
+        }
+        this.dimension = header.getInt();
+        this.count = header.getInt();
+        if (this.dimension <= 0 || this.count < 0) {
+            throw new IOException("Invalid float16 vector store header");
+        }
+
+        long position = HEADER_BYTES;
+        this.wordOffsets = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) this.count * Integer.BYTES);
+        position += (long) this.count * Integer.BYTES;
+        int wordBytes = this.count == 0 ? 0 : this.wordOffsets.getInt((this.count - 1) * Integer.BYTES);
+        this.words = channel.map(FileChannel.MapMode.READ_ONLY, position, wordBytes);
+        position += wordBytes + (wordBytes & 1);
+
+        long vectorBytes = (long) this.dimension * Short.BYTES;
+        this.vectorsPerChunk = (int) Math.max(1, Integer.MAX_VALUE / vectorBytes);
+        int chunks = (this.count + this.vectorsPerChunk - 1) / this.vectorsPerChunk;
+        this.vectorChunks = new MappedByteBuffer[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int vectorsInChunk = Math.min(this.vectorsPerChunk, this.count - chunk * this.vectorsPerChunk);
+            this.vectorChunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, position + chunk * this.vectorsPerChunk * vectorBytes,
+                    vectorsInChunk * vectorBytes);
+        }
+    }
+
+    /**
+     * Opens the store in the given file.
+     *
+     * @param file the file
+     * @return the store
+     * @throws IOException if the file cannot be read or is not a float16 vector store
+     */
+    public static Float16VectorStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new Float16VectorStore(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * {@return the dimension of the vectors}
+     */
+    public int getDimension() {
+        return this.dimension;
+    }
+
+    /**
+     * {@return the number of words}
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Returns the vector of the given word.
+     *
+     * @param word the word
+     * @return the decoded vector, or an empty optional if the store does not contain the word
+     */
+    public Optional<float[]> getVector(String word) {
+        int index = this.indexOf(word.getBytes(StandardCharsets.UTF_8));
+        if (index < 0) {
+            return Optional.empty();
+        }
+        ByteBuffer chunk = this.vectorChunks[index / this.vectorsPerChunk];
+        int offset = (index % this.vectorsPerChunk) * this.dimension * Short.BYTES;
+        float[] vector = new float[this.dimension];
+        for (int i = 0; i < this.dimension; i++) {
+            vector[i] = Float.float16ToFloat(chunk.getShort(offset + i * Short.BYTES));
+        }
+        return Optional.of(vector);
+    }
+
+    private int indexOf(byte[] word) {
+        int low = 0;
+        int high = this.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = this.compareWord(middle, word);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private int compareWord(int index, byte[] word) {
+        int start = index == 0 ? 0 : this.wordOffsets.getInt((index - 1) * Integer.BYTES);
+        int end = this.wordOffsets.getInt(index * Integer.BYTES);
+        int length = Math.min(end - start, word.length);
+        for (int i = 0; i < length; i++) {
+            int comparison = Byte.compareUnsigned(this.words.get(start + i), word[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(end - start, word.length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Converts word vectors in the text format of fastText ({@code .vec}, with a header line of the number of words and the dimension) or GloVe (without
+     * header) into a float16 vector store. If a word occurs more than once, its first vector is kept.
+     *
+     * @param textVectors the file with one word and its vector components per line, separated by spaces
+     * @param target      the file to write the store to
+     * @throws IOException if reading or writing fails or the vectors do not have the same dimension
+     */
+    public static void convertTextFormat(Path textVectors, Path target) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        int dimension = -1;
+        try (BufferedReader reader = Files.newBufferedReader(textVectors, StandardCharsets.UTF_8)) {
+            String line;
+            boolean firstLine = true;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.strip().split(" ");
+                if (firstLine && parts.length == 2) {
+                    firstLine = false;
+                    continue;
+                }
+                firstLine = false;
+                if (parts.length < 2) {
+                    continue;
+                }
+                if (dimension < 0) {
+                    dimension = parts.length - 1;
+                } else if (parts.length - 1 != dimension) {
+                    throw new IOException("Expected " + dimension + " components for '" + parts[0] + "' but found " + (parts.length - 1));
+                }
+                short[] vector = new short[dimension];
+                for (int i = 0; i < dimension; i++) {
+                    vector[i] = Float.floatToFloat16(Float.parseFloat(parts[i + 1]));
+                }
+                entries.add(new Entry(parts[0].getBytes(StandardCharsets.UTF_8), vector));
+            }
+        }
+        write(entries, Math.max(dimension, 1), target);
+    }
+
+    private static void write(List<Entry> entries, int dimension, Path target) throws IOException {
+        // stable sort keeps the first occurrence of duplicates first
+        entries.sort((first, second) -> Arrays.compareUnsigned(first.word(), second.word()));
+        List<Entry> distinct = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            if (distinct.isEmpty() || !Arrays.equals(distinct.get(distinct.size() - 1).word(), entry.word())) {
+                distinct.add(entry);
+            }
+        }
+
+        try (OutputStream file = Files.newOutputStream(target); DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(dimension);
+            output.writeInt(distinct.size());
+            int end = 0;
+            for (Entry entry : distinct) {
+                end += entry.word().length;
+                output.writeInt(end);
+            }
+            for (Entry entry : distinct) {
+                output.write(entry.word());
+            }
+            if ((end & 1) != 0) {
+                output.writeByte(0);
+            }
+            for (Entry entry : distinct) {
+                for (short component : entry.vector()) {
+                    output.writeShort(component);
+                }
+            }
+        }
+    }
+
+    private record Entry(byte[] word, short[] vector) {
+    }
+}
@@ -29,4 +29,17 @@ public boolean areWordsSimilar(ComparisonContext comparisonContext) {
     public double getSimilarity(ComparisonContext comparisonContext) {
         return this.areWordsSimilar(comparisonContext) ? 1 : 0;
     }
+
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+
+    /**
+     * Terms of different lengths are never equal ignoring case.
+     */
+    @Override
+    public boolean canBeSimilar(String firstTerm, String secondTerm) {
+        return firstTerm.length() == secondTerm.length();
+    }
 }
@@ -0,0 +1,171 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.jarowinkler;
+
+import java.util.Arrays;
+
+/**
+ * Computes the Jaro-Winkler similarity with the same results as {@link org.apache.commons.text.similarity.JaroWinklerSimilarity}, but without allocating:
+ * the match flags are kept in reused thread-local buffers and the matched characters are compared in place. If only a verdict against a threshold is needed,
+ * {@link #isSimilar(CharSequence, CharSequence, double)} stops as soon as the lengths of the strings or the number of matches found so far prove that the
+ * threshold cannot be reached.
+ */
+public final class BoundedJaroWinklerSimilarity {
+    private static final double SCALING_FACTOR = 0.1;
+    private static final double BOOST_THRESHOLD = 0.7;
+    private static final int MAX_PREFIX_LENGTH = 4;
+    /**
+     * Tolerance for comparing upper bounds with the threshold, so that rounding never prunes a pair that reaches the threshold.
+     */
+    private static final double EPSILON = 1e-9;
+    private static final double PRUNED = -1;
+
+    private static final ThreadLocal<MatchBuffers> BUFFERS = ThreadLocal.withInitial(MatchBuffers::new);
+
+    private BoundedJaroWinklerSimilarity() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Computes the Jaro-Winkler similarity of the given strings.
+     *
+     * @param first  the first string
+     * @param second the second string
+     * @return the similarity in range [0,1]
+     */
+    public static double similarity(CharSequence first, CharSequence second) {
+        return compute(first, second, 0);
+    }
+
+    /**
+     * Returns whether the Jaro-Winkler similarity of the given strings is at least the given threshold.
+     *
+     * @param first     the first string
+     * @param second    the second string
+     * @param threshold the threshold
+     * @return true if the similarity is at least the threshold
+     */
+    public static boolean isSimilar(CharSequence first, CharSequence second, double threshold) {
+        return compute(first, second, threshold) >= threshold;
+    }
+
+    /**
+     * Returns whether the Jaro-Winkler similarity of the given strings can reach the given threshold if at most the given number of characters can be matched
+     * between them, for example because the strings only share that many characters. A negative answer is definite; a positive one still needs
+     * {@link #isSimilar(CharSequence, CharSequence, double)}.
+     *
+     * @param first      the first string
+     * @param second     the second string
+     * @param maxMatches the maximal number of matching characters
+     * @param threshold  the threshold
+     * @return false if the similarity is certainly below the threshold
+     */
+    public static boolean canBeSimilar(CharSequence first, CharSequence second, int maxMatches, double threshold) {
+        if (CharSequence.compare(first, second) == 0) {
+            return true;
+        }
+        int shorterLength = Math.min(first.length(), second.length());
+        int prefix = 0;
+        while (prefix < Math.min(MAX_PREFIX_LENGTH, shorterLength) && first.charAt(prefix) == second.charAt(prefix)) {
+            prefix++;
+        }
+        return upperBound(Math.min(maxMatches, shorterLength), first, second, prefix) >= threshold - EPSILON;
+    }
+
+    private static double compute(CharSequence first, CharSequence second, double threshold) {
+        if (CharSequence.compare(first, second) == 0) {
+            return 1;
+        }
+        CharSequence longer = first.length() > second.length() ? first : second;
+        CharSequence shorter = longer == first ? second : first;
+        int shorterLength = shorter.length();
+        int longerLength = longer.length();
+        if (shorterLength == 0) {
+            return 0;
+        }
+
+        int prefix = 0;
+        while (prefix < Math.min(MAX_PREFIX_LENGTH, shorterLength) && first.charAt(prefix) == second.charAt(prefix)) {
+            prefix++;
+        }
+        boolean prune = threshold > 0;
+        if (prune && upperBound(shorterLength, first, second, prefix) < threshold - EPSILON) {
+            return PRUNED;
+        }
+
+        MatchBuffers buffers = BUFFERS.get();
+        buffers.ensureCapacity(shorterLength, longerLength);
+        boolean[] shorterMatched = buffers.shorterMatched;
+        boolean[] longerMatched = buffers.longerMatched;
+        try {
+            int range = Math.max(longerLength / 2 - 1, 0);
+            int matches = 0;
+            for (int si = 0; si < shorterLength; si++) {
+                char c = shorter.charAt(si);
+                for (int li = Math.max(si - range, 0), end = Math.min(si + range + 1, longerLength); li < end; li++) {
+                    if (!longerMatched[li] && c == longer.charAt(li)) {
+                        shorterMatched[si] = true;
+                        longerMatched[li] = true;
+                        matches++;
+                        break;
+                    }
+                }
+                if (prune && upperBound(matches + shorterLength - si - 1, first, second, prefix) < threshold - EPSILON) {
+                    return PRUNED;
+                }
+            }
+            if (matches == 0) {
+                return 0;
+            }
+
+            int transpositions = 0;
+            int li = 0;
+            for (int si = 0; si < shorterLength; si++) {
+                if (shorterMatched[si]) {
+                    while (!longerMatched[li]) {
+                        li++;
+                    }
+                    if (shorter.charAt(si) != longer.charAt(li)) {
+                        transpositions++;
+                    }
+                    li++;
+                }
+            }
+
+            double m = matches;
+            double jaro = (m / first.length() + m / second.length() + (m - (double) transpositions / 2) / m) / 3;
+            return boost(jaro, prefix);
+        } finally {
+            Arrays.fill(shorterMatched, 0, shorterLength, false);
+            Arrays.fill(longerMatched, 0, longerLength, false);
+        }
+    }
+
+    /**
+     * The similarity if the given number of matches were found without transpositions, which bounds the similarity for at most that many matches.
+     */
+    private static double upperBound(int maxMatches, CharSequence first, CharSequence second, int prefix) {
+        if (maxMatches == 0) {
+            return 0;
+        }
+        double m = maxMatches;
+        return boost((m / first.length() + m / second.length() + 1) / 3, prefix);
+    }
+
+    private static double boost(double jaro, int prefix) {
+        return jaro < BOOST_THRESHOLD ? jaro : jaro + SCALING_FACTOR * prefix * (1 - jaro);
+    }
+
+    private static final class MatchBuffers {
+        private boolean[] shorterMatched = new boolean[32];
+        private boolean[] longerMatched = new boolean[32];
+
+        void ensureCapacity(int shorterLength, int longerLength) {
+            if (this.shorterMatched.length < shorterLength) {
+                this.shorterMatched = new boolean[Math.max(shorterLength, 2 * this.shorterMatched.length)];
+            }
+            if (this.longerMatched.length < longerLength) {
+                this.longerMatched = new boolean[Math.max(longerLength, 2 * this.longerMatched.length)];
+            }
+        }
+    }
+}
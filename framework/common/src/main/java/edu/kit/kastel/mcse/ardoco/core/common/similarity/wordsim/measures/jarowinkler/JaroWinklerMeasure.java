@@ -1,19 +1,16 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.jarowinkler;
 
-import org.apache.commons.text.similarity.JaroWinklerSimilarity;
-
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.ComparisonContext;
 import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimMeasure;
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
 
 /**
- * This word similarity measure uses the jaro winkler algorithm to calculate similarity.
+ * This word similarity measure uses the jaro winkler algorithm to calculate similarity. The similarity is computed by
+ * {@link BoundedJaroWinklerSimilarity}, which stops early if the threshold cannot be reached.
  */
 public class JaroWinklerMeasure implements WordSimMeasure {
 
-    private final JaroWinklerSimilarity jaroWinklerSimilarity = new JaroWinklerSimilarity();
-
     private final double similarityThreshold;
 
     /**
@@ -37,15 +34,33 @@ public JaroWinklerMeasure(double similarityThreshold) throws IllegalArgumentExce
         this.similarityThreshold = similarityThreshold;
     }
 
+    /**
+     * {@return the threshold above which words are considered similar}
+     */
+    public double getSimilarityThreshold() {
+        return this.similarityThreshold;
+    }
+
     @Override
     public boolean areWordsSimilar(ComparisonContext comparisonContext) {
-        double similarity = this.getSimilarity(comparisonContext);
-        return similarity >= this.similarityThreshold;
+        return BoundedJaroWinklerSimilarity.isSimilar(comparisonContext.firstTerm(), comparisonContext.secondTerm(), this.similarityThreshold);
     }
 
     @Override
     public double getSimilarity(ComparisonContext comparisonContext) {
-        return this.jaroWinklerSimilarity.apply(comparisonContext.firstTerm(), comparisonContext.secondTerm());
+        return BoundedJaroWinklerSimilarity.similarity(comparisonContext.firstTerm(), comparisonContext.secondTerm());
     }
 
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+
+    /**
+     * Rejects pairs whose lengths and common prefix alone rule out reaching the threshold.
+     */
+    @Override
+    public boolean canBeSimilar(String firstTerm, String secondTerm) {
+        return BoundedJaroWinklerSimilarity.canBeSimilar(firstTerm, secondTerm, Integer.MAX_VALUE, this.similarityThreshold);
+    }
 }
@@ -0,0 +1,52 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein;
+
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
+
+/**
+ * A {@link LevenshteinMeasure} that computes the distance with {@link BoundedLevenshteinDistance}. It yields the same verdicts and similarities, but
+ * {@link #areWordsSimilar(ComparisonContext)} only determines whether the distance is within the allowed distance, using a bit-parallel algorithm for words
+ * of up to 64 characters and a banded algorithm for longer words.
+ */
+public class BitParallelLevenshteinMeasure extends LevenshteinMeasure {
+
+    /**
+     * Constructs a new {@link BitParallelLevenshteinMeasure} using the settings provided by {@link CommonTextToolsConfig}.
+     */
+    public BitParallelLevenshteinMeasure() {
+        super();
+    }
+
+    /**
+     * Constructs a new {@link BitParallelLevenshteinMeasure}. The arguments are explained in {@link LevenshteinMeasure}.
+     *
+     * @param minLength   the min length
+     * @param maxDistance the max distance
+     * @param threshold   the threshold
+     */
+    public BitParallelLevenshteinMeasure(int minLength, int maxDistance, double threshold) {
+        super(minLength, maxDistance, threshold);
+    }
+
+    @Override
+    public boolean areWordsSimilar(ComparisonContext comparisonContext) {
+        String firstWord = comparisonContext.firstTerm().toLowerCase();
+        String secondWord = comparisonContext.secondTerm().toLowerCase();
+
+        if (firstWord.length() <= this.minLength) {
+            return (secondWord.contains(firstWord) || firstWord.contains(secondWord))
+                    && BoundedLevenshteinDistance.distance(firstWord, secondWord, this.maxDistance) >= 0;
+        }
+        int maxDynamicDistance = (int) Math.min(this.maxDistance, this.threshold * Math.min(firstWord.length(), secondWord.length()));
+        return BoundedLevenshteinDistance.distance(firstWord, secondWord, maxDynamicDistance) >= 0;
+    }
+
+    @Override
+    public double getSimilarity(ComparisonContext comparisonContext) {
+        String firstWord = comparisonContext.firstTerm().toLowerCase();
+        String secondWord = comparisonContext.secondTerm().toLowerCase();
+        int distance = BoundedLevenshteinDistance.distance(firstWord, secondWord);
+        return 1.0 - (distance / (double) Math.max(firstWord.length(), secondWord.length()));
+    }
+}
@@ -0,0 +1,179 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein;
+
+/**
+ * Computes the levenshtein distance of two strings. If the shorter string has at most 64 characters, the bit-parallel algorithm of Myers (1999) in the
+ * formulation of Hyyrö (2003) computes the distance in {@code O(n)} word operations. Otherwise, a dynamic programming algorithm restricted to a diagonal band
+ * around the threshold is used.
+ */
+public final class BoundedLevenshteinDistance {
+    private static final int MAX_BIT_PARALLEL_LENGTH = Long.SIZE;
+    private static final int ASCII = 128;
+    private static final int UNREACHABLE = Integer.MAX_VALUE / 2;
+
+    private static final ThreadLocal<long[]> ASCII_PATTERN_MASKS = ThreadLocal.withInitial(() -> new long[ASCII]);
+
+    private BoundedLevenshteinDistance() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Computes the levenshtein distance of the given strings.
+     *
+     * @param first  the first string
+     * @param second the second string
+     * @return the levenshtein distance
+     */
+    public static int distance(CharSequence first, CharSequence second) {
+        return distance(first, second, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Computes the levenshtein distance of the given strings if it is at most the given threshold.
+     *
+     * @param first     the first string
+     * @param second    the second string
+     * @param threshold the maximum distance of interest, must not be negative
+     * @return the levenshtein distance, or -1 if it is larger than the threshold
+     */
+    public static int distance(CharSequence first, CharSequence second, int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        CharSequence shorter = first.length() <= second.length() ? first : second;
+        CharSequence longer = shorter == first ? second : first;
+        if (longer.length() - shorter.length() > threshold) {
+            return -1;
+        }
+        if (shorter.isEmpty()) {
+            return longer.length();
+        }
+
+        int distance = shorter.length() <= MAX_BIT_PARALLEL_LENGTH ? bitParallelDistance(shorter, longer) : bandedDistance(shorter, longer, threshold);
+        return distance <= threshold ? distance : -1;
+    }
+
+    private static int bitParallelDistance(CharSequence pattern, CharSequence text) {
+        long[] asciiMasks = ASCII_PATTERN_MASKS.get();
+        char[] otherChars = null;
+        long[] otherMasks = null;
+        int otherCount = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c < ASCII) {
+                asciiMasks[c] |= 1L << i;
+                continue;
+            }
+            if (otherChars == null) {
+                otherChars = new char[pattern.length()];
+                otherMasks = new long[pattern.length()];
+            }
+            int index = indexOf(otherChars, otherCount, c);
+            if (index < 0) {
+                index = otherCount++;
+                otherChars[index] = c;
+            }
+            otherMasks[index] |= 1L << i;
+        }
+
+        long lastBit = 1L << (pattern.length() - 1);
+        long positiveVertical = -1L;
+        long negativeVertical = 0L;
+        int score = pattern.length();
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            long equal;
+            if (c < ASCII) {
+                equal = asciiMasks[c];
+            } else {
+                int index = otherChars == null ? -1 : indexOf(otherChars, otherCount, c);
+                equal = index < 0 ? 0L : otherMasks[index];
+            }
+
+            long verticalChange = equal | negativeVertical;
+            long horizontalChange = (((equal & positiveVertical) + positiveVertical) ^ positiveVertical) | equal;
+            long positiveHorizontal = negativeVertical | ~(horizontalChange | positiveVertical);
+            long negativeHorizontal = positiveVertical & horizontalChange;
+            if ((positiveHorizontal & lastBit) != 0) {
+                score++;
+            } else if ((negativeHorizontal & lastBit) != 0) {
+                score--;
+            }
+            positiveHorizontal = (positiveHorizontal << 1) | 1L;
+            negativeHorizontal <<= 1;
+            positiveVertical = negativeHorizontal | ~(verticalChange | positiveHorizontal);
+            negativeVertical = positiveHorizontal & verticalChange;
+        }
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c < ASCII) {
+                asciiMasks[c] = 0L;
+            }
+        }
+        return score;
+    }
+
+    private static int indexOf(char[] chars, int count, char c) {
+        for (int i = 0; i < count; i++) {
+            if (chars[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Dynamic programming over the diagonal band of width {@code 2 * threshold + 1}. Cells outside the band cannot lead to a distance within the threshold.
+     */
+    private static int bandedDistance(CharSequence shorter, CharSequence longer, int threshold) {
+        int n = shorter.length();
+        int m = longer.length();
+        int band = Math.min(threshold, m);
+        int[] previous = new int[n + 1];
+        int[] current = new int[n + 1];
+
+        int boundary = Math.min(n, band) + 1;
+        for (int i = 0; i < boundary; i++) {
+            previous[i] = i;
+        }
+        for (int i = boundary; i <= n; i++) {
+            previous[i] = UNREACHABLE;
+        }
+        for (int i = 0; i <= n; i++) {
+            current[i] = UNREACHABLE;
+        }
+
+        for (int j = 1; j <= m; j++) {
+            char c = longer.charAt(j - 1);
+            current[0] = j;
+
+            int from = Math.max(1, j - band);
+            int to = j > Integer.MAX_VALUE - band ? n : Math.min(n, j + band);
+            if (from > to) {
+                return UNREACHABLE;
+            }
+            if (from > 1) {
+                current[from - 1] = UNREACHABLE;
+            }
+
+            int rowMinimum = from == 1 ? j : UNREACHABLE;
+            for (int i = from; i <= to; i++) {
+                if (shorter.charAt(i - 1) == c) {
+                    current[i] = previous[i - 1];
+                } else {
+                    current[i] = 1 + Math.min(Math.min(current[i - 1], previous[i]), previous[i - 1]);
+                }
+                rowMinimum = Math.min(rowMinimum, current[i]);
+            }
+            if (rowMinimum > threshold) {
+                return UNREACHABLE;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[n];
+    }
+}
@@ -24,9 +24,9 @@
 public class LevenshteinMeasure implements WordSimMeasure {
 
     private final LevenshteinDistance levenshteinDistance = new LevenshteinDistance();
-    private final int minLength;
-    private final int maxDistance;
-    private final double threshold;
+    protected final int minLength;
+    protected final int maxDistance;
+    protected final double threshold;
 
     /**
      * Constructs a new {@link LevenshteinMeasure} using the settings provided by {@link CommonTextToolsConfig}.
@@ -60,6 +60,13 @@ public LevenshteinMeasure(int minLength, int maxDistance, double threshold) {
         }
     }
 
+    /**
+     * {@return the maximal distance of similar terms}
+     */
+    public int getMaxDistance() {
+        return this.maxDistance;
+    }
+
     @Override
     public boolean areWordsSimilar(ComparisonContext comparisonContext) {
         // FIXME cast to lower case seems unwarranted given that this is delegated to WordSimUtils already
@@ -84,4 +91,21 @@ public double getSimilarity(ComparisonContext comparisonContext) {
         return 1.0 - (distance / (double) Math.max(firstWord.length(), secondWord.length()));
     }
 
+    /**
+     * The distance is at least the difference of the lengths, so pairs whose lengths differ by more than the maximal distance are rejected. Lower casing
+     * is only guaranteed to keep the length of ASCII terms, so other terms are never rejected.
+     */
+    @Override
+    public boolean canBeSimilar(String firstTerm, String secondTerm) {
+        return Math.abs(firstTerm.length() - secondTerm.length()) <= this.maxDistance || !isAscii(firstTerm) || !isAscii(secondTerm);
+    }
+
+    private static boolean isAscii(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            if (term.charAt(i) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
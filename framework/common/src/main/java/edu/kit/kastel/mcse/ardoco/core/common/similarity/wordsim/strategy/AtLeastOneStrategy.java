@@ -29,4 +29,8 @@ public boolean areWordsSimilar(ComparisonContext comparisonContext, List<WordSim
         return false;
     }
 
+    @Override
+    public boolean isOrderIndependent() {
+        return true;
+    }
 }
@@ -22,4 +22,13 @@ public interface ComparisonStrategy {
      */
     boolean areWordsSimilar(ComparisonContext comparisonContext, List<WordSimMeasure> measures);
 
+    /**
+     * Returns whether the verdict does not depend on the order of the measures, so that the measures may be reordered, e.g., to run cheap measures first.
+     *
+     * @return true if the order of the measures never changes the verdict
+     */
+    default boolean isOrderIndependent() {
+        return false;
+    }
+
 }
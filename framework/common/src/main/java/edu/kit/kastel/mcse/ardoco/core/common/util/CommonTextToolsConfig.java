@@ -39,6 +39,10 @@ private CommonTextToolsConfig() {
      * The levenshtein distance threshold which, multiplied with the length of the shortest word of a comparison, acts as a dynamic distance limit.
      */
     public static final double LEVENSHTEIN_THRESHOLD = CONFIG.getPropertyAsDouble("levenshtein_Threshold");
+    /**
+     * Decides whether the levenshtein distance is computed with the bit-parallel, threshold-bounded algorithm instead of the full dynamic programming table.
+     */
+    public static final boolean LEVENSHTEIN_BIT_PARALLEL = CONFIG.isPropertyEnabled("levenshtein_BitParallel");
 
     /**
      * Decides whether the JaroWinkler similarity measure should be used.
@@ -49,6 +53,34 @@ private CommonTextToolsConfig() {
      */
     public static final double JAROWINKLER_SIMILARITY_THRESHOLD = CONFIG.getPropertyAsDouble("jaroWinkler_SimilarityThreshold");
 
+    /**
+     * The maximum number of cached verdicts of word similarity comparisons per {@link edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimUtils}.
+     * A value of 0 disables the cache.
+     */
+    public static final int SIMILARITY_CACHE_SIZE = CONFIG.getPropertyAsInt("similarityCache_Size");
+    /**
+     * Decides whether {@link edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimUtils} reorders the measures of order independent strategies
+     * by their observed cost per acceptance.
+     */
+    public static final boolean SIMILARITY_ADAPTIVE_MEASURE_ORDERING = CONFIG.isPropertyEnabled("similarity_AdaptiveMeasureOrdering");
+
+    /**
+     * Decides whether the word vector similarity measure should be used.
+     */
+    public static final boolean EMBEDDING_ENABLED = CONFIG.isPropertyEnabled("embedding_Enabled");
+    /**
+     * Path of the float16 word vector store used by the word vector similarity measure.
+     */
+    public static final String EMBEDDING_VECTOR_FILE = CONFIG.getProperty("embedding_VectorFile");
+    /**
+     * Cosine similarity of word vectors from which words are considered similar.
+     */
+    public static final double EMBEDDING_SIMILARITY_THRESHOLD = CONFIG.getPropertyAsDouble("embedding_SimilarityThreshold");
+    /**
+     * Maximum number of decoded word vectors kept in memory.
+     */
+    public static final int EMBEDDING_CACHE_SIZE = CONFIG.getPropertyAsInt("embedding_CacheSize");
+
     /**
      * The minimal proportion of two lists that need to be similar, that both are similar. Used in SimilarityUtils.
      */
@@ -174,11 +174,7 @@ public static double powerMean(List<Double> values, double power) {
      * @return reference with whitespaces instead of separators
      */
     public static ImmutableList<String> splitAtSeparators(String reference) {
-        var ref = reference;
-        for (String sep : CommonTextToolsConfig.SEPARATORS_TO_SPLIT) {
-            ref = ref.replaceAll(sep, " ");
-        }
-        return Lists.immutable.withAll(Lists.immutable.with(ref.split(" ")));
+        return IdentifierSplitter.splitAtSeparators(reference);
     }
 
     /**
@@ -254,11 +250,7 @@ public static SortedSet<String> getSplittedTypeIdentifiers(Model model) {
      * @return the name split at snake and kebab case
      */
     public static String splitSnakeAndKebabCase(String name) {
-        var joiner = new StringJoiner(" ");
-        for (String namePart : name.split("[-_]")) {
-            joiner.add(namePart);
-        }
-        return joiner.toString().replaceAll("\\s+", " ");
+        return IdentifierSplitter.splitSnakeAndKebabCase(name);
     }
 
     /**
@@ -268,11 +260,7 @@ public static String splitSnakeAndKebabCase(String name) {
      * @return the name split at camel case
      */
     public static String splitCamelCase(String name) {
-        var joiner = new StringJoiner(" ");
-        for (String namePart : name.split("(?<!(^|[A-Z]))(?=[A-Z])|(?<!^)(?=[A-Z][a-z])")) {
-            joiner.add(namePart);
-        }
-        return joiner.toString().replaceAll("\\s+", " ");
+        return IdentifierSplitter.splitCamelCase(name);
     }
 
     /**
@@ -282,7 +270,7 @@ public static String splitCamelCase(String name) {
      * @return the split name
      */
     public static String splitCases(String name) {
-        return splitCamelCase(splitSnakeAndKebabCase(name));
+        return IdentifierSplitter.splitCases(name);
     }
 
     /**
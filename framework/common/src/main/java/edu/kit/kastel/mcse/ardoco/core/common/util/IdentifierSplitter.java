@@ -0,0 +1,258 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * Splits identifiers at camel case, snake case, kebab case and the {@link CommonTextToolsConfig#SEPARATORS_TO_SPLIT configured separators} with hand-written
+ * single-pass tokenizers instead of regular expressions. The results match the former regular expression based implementations of {@link CommonUtilities}
+ * exactly. Every result is cached per distinct input, so the parts of an identifier are computed once and the same instance is returned afterwards.
+ * <p>
+ * The caches are bounded: once a cache holds {@value #MAXIMUM_CACHE_SIZE} entries it is cleared, which only costs recomputation.
+ */
+@Deterministic
+public final class IdentifierSplitter {
+    private static final int MAXIMUM_CACHE_SIZE = 1 << 16;
+    private static final String REGEX_META_CHARACTERS = "\\.[]{}()*+?^$|";
+
+    /**
+     * The configured separators as literals, or {@code null} if a separator is a regular expression that is not a plain literal.
+     */
+    private static final List<String> LITERAL_SEPARATORS = toLiterals(CommonTextToolsConfig.SEPARATORS_TO_SPLIT);
+
+    private static final InterningCache<String> SNAKE_AND_KEBAB_CASE_CACHE = new InterningCache<>(IdentifierSplitter::computeSplitSnakeAndKebabCase);
+    private static final InterningCache<String> CAMEL_CASE_CACHE = new InterningCache<>(IdentifierSplitter::computeSplitCamelCase);
+    private static final InterningCache<String> CASES_CACHE = new InterningCache<>(name -> splitCamelCase(splitSnakeAndKebabCase(name)));
+    private static final InterningCache<ImmutableList<String>> SEPARATORS_CACHE = new InterningCache<>(IdentifierSplitter::computeSplitAtSeparators);
+
+    private IdentifierSplitter() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Splits the given name at snake and kebab case. For example, "test-string" and "test_string" become "test string".
+     *
+     * @param name the name
+     * @return the name split at snake and kebab case
+     * @see CommonUtilities#splitSnakeAndKebabCase(String)
+     */
+    public static String splitSnakeAndKebabCase(String name) {
+        return SNAKE_AND_KEBAB_CASE_CACHE.get(name);
+    }
+
+    /**
+     * Splits the given name at camel case. For example, "testString" becomes "test String".
+     *
+     * @param name the name
+     * @return the name split at camel case
+     * @see CommonUtilities#splitCamelCase(String)
+     */
+    public static String splitCamelCase(String name) {
+        return CAMEL_CASE_CACHE.get(name);
+    }
+
+    /**
+     * Splits the given name at snake, kebab and camel case.
+     *
+     * @param name the name
+     * @return the split name
+     * @see CommonUtilities#splitCases(String)
+     */
+    public static String splitCases(String name) {
+        return CASES_CACHE.get(name);
+    }
+
+    /**
+     * Splits the given reference at the configured separators and at spaces.
+     *
+     * @param reference the reference
+     * @return the parts of the reference
+     * @see CommonUtilities#splitAtSeparators(String)
+     */
+    public static ImmutableList<String> splitAtSeparators(String reference) {
+        return SEPARATORS_CACHE.get(reference);
+    }
+
+    /**
+     * Clears all caches.
+     */
+    public static void clearCaches() {
+        SNAKE_AND_KEBAB_CASE_CACHE.clear();
+        CAMEL_CASE_CACHE.clear();
+        CASES_CACHE.clear();
+        SEPARATORS_CACHE.clear();
+    }
+
+    /**
+     * Replaces every hyphen and underscore with a space, drops trailing hyphens and underscores (as {@link String#split(String)} drops trailing empty parts)
+     * and collapses whitespace runs into a single space.
+     */
+    private static String computeSplitSnakeAndKebabCase(String name) {
+        int end = name.length();
+        while (end > 0 && isSnakeOrKebabSeparator(name.charAt(end - 1))) {
+            end--;
+        }
+        var builder = new WhitespaceCollapsingBuilder(end);
+        for (int i = 0; i < end; i++) {
+            char c = name.charAt(i);
+            if (isSnakeOrKebabSeparator(c)) {
+                builder.appendSpace();
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Inserts a space before every upper case letter that follows a character other than an upper case letter, and before every upper case letter that is
+     * followed by a lower case letter, except at the start. Whitespace runs are collapsed into a single space.
+     */
+    private static String computeSplitCamelCase(String name) {
+        var builder = new WhitespaceCollapsingBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (i > 0 && isUpperCase(c) && (!isUpperCase(name.charAt(i - 1)) || i + 1 < name.length() && isLowerCase(name.charAt(i + 1)))) {
+                builder.appendSpace();
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private static ImmutableList<String> computeSplitAtSeparators(String reference) {
+        var ref = reference;
+        if (LITERAL_SEPARATORS == null) {
+            for (String separator : CommonTextToolsConfig.SEPARATORS_TO_SPLIT) {
+                ref = ref.replaceAll(separator, " ");
+            }
+        } else {
+            for (String separator : LITERAL_SEPARATORS) {
+                ref = ref.replace(separator, " ");
+            }
+        }
+        return splitAtSpaces(ref);
+    }
+
+    /**
+     * Splits at every single space with the semantics of {@link String#split(String)}: no space yields the input itself, empty parts between spaces and at the
+     * start are kept, and trailing empty parts are dropped.
+     */
+    private static ImmutableList<String> splitAtSpaces(String text) {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end == text.length() && text.indexOf(' ') < 0) {
+            return Lists.immutable.with(text);
+        }
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < end; i++) {
+            if (text.charAt(i) == ' ') {
+                parts.add(text.substring(start, i));
+                start = i + 1;
+            }
+        }
+        if (start < end) {
+            parts.add(text.substring(start, end));
+        }
+        return Lists.immutable.withAll(parts);
+    }
+
+    private static List<String> toLiterals(ImmutableList<String> regularExpressions) {
+        List<String> literals = new ArrayList<>();
+        for (String regularExpression : regularExpressions) {
+            var literal = new StringBuilder();
+            for (int i = 0; i < regularExpression.length(); i++) {
+                char c = regularExpression.charAt(i);
+                if (c == '\\' && i + 1 < regularExpression.length() && REGEX_META_CHARACTERS.indexOf(regularExpression.charAt(i + 1)) >= 0) {
+                    literal.append(regularExpression.charAt(++i));
+                } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+                    return null;
+                } else {
+                    literal.append(c);
+                }
+            }
+            literals.add(literal.toString());
+        }
+        return literals;
+    }
+
+    private static boolean isSnakeOrKebabSeparator(char c) {
+        return c == '-' || c == '_';
+    }
+
+    private static boolean isUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLowerCase(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    /**
+     * Collapses every run of whitespace (as matched by the regular expression {@code \s}) and inserted spaces into a single space.
+     */
+    private static final class WhitespaceCollapsingBuilder {
+        private final StringBuilder builder;
+        private boolean endsWithSpace;
+
+        WhitespaceCollapsingBuilder(int capacity) {
+            this.builder = new StringBuilder(capacity);
+        }
+
+        void append(char c) {
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                this.appendSpace();
+            } else {
+                this.builder.append(c);
+                this.endsWithSpace = false;
+            }
+        }
+
+        void appendSpace() {
+            if (!this.endsWithSpace) {
+                this.builder.append(' ');
+                this.endsWithSpace = true;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.builder.toString();
+        }
+    }
+
+    private static final class InterningCache<V> {
+        private final ConcurrentHashMap<String, V> cache = new ConcurrentHashMap<>();
+        private final Function<String, V> computation;
+
+        InterningCache(Function<String, V> computation) {
+            this.computation = computation;
+        }
+
+        V get(String key) {
+            V value = this.cache.get(key);
+            if (value == null) {
+                if (this.cache.size() >= MAXIMUM_CACHE_SIZE) {
+                    this.cache.clear();
+                }
+                value = this.cache.computeIfAbsent(key, this.computation);
+            }
+            return value;
+        }
+
+        void clear() {
+            this.cache.clear();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads data written by {@link CompactDataOutput}.
+ */
+public final class CompactDataInput {
+    private final byte[] bytes;
+    private final List<String> stringTable = new ArrayList<>();
+    private int position = 0;
+
+    /**
+     * Creates an input for the given bytes.
+     *
+     * @param bytes the bytes written by a {@link CompactDataOutput}
+     */
+    public CompactDataInput(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * {@return the next byte}
+     *
+     * @throws IOException if the end of the input is reached
+     */
+    public int readByte() throws IOException {
+        if (this.position >= this.bytes.length) {
+            throw new EOFException("Unexpected end of data at position " + this.position);
+        }
+        return this.bytes[this.position++] & 0xFF;
+    }
+
+    /**
+     * {@return the next variable-length quantity}
+     *
+     * @throws IOException if the end of the input is reached or the quantity is malformed
+     */
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int currentByte = this.readByte();
+            value |= (currentByte & 0x7F) << shift;
+            if ((currentByte & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length quantity at position " + this.position);
+    }
+
+    /**
+     * {@return the next length-prefixed array of integers}
+     *
+     * @throws IOException if the end of the input is reached
+     */
+    public int[] readIntArray() throws IOException {
+        int[] values = new int[this.readLength()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.readVarInt();
+        }
+        return values;
+    }
+
+    /**
+     * {@return the next (nullable) string}
+     *
+     * @throws IOException if the end of the input is reached or the string reference is invalid
+     */
+    public String readString() throws IOException {
+        int reference = this.readVarInt();
+        if (reference == CompactDataOutput.NULL_STRING) {
+            return null;
+        }
+        if (reference == CompactDataOutput.NEW_STRING) {
+            int length = this.readLength();
+            String value = new String(this.bytes, this.position, length, StandardCharsets.UTF_8);
+            this.position += length;
+            this.stringTable.add(value);
+            return value;
+        }
+        int index = reference - CompactDataOutput.STRING_REFERENCE_OFFSET;
+        if (index >= this.stringTable.size()) {
+            throw new IOException("Invalid string reference " + index + " at position " + this.position);
+        }
+        return this.stringTable.get(index);
+    }
+
+    /**
+     * Reads the next (nullable) enum constant, which is written by its name.
+     *
+     * @param enumType the type of the enum
+     * @param <E>      the enum type
+     * @return the enum constant or null
+     * @throws IOException if the end of the input is reached or the enum has no constant with the name
+     */
+    public <E extends Enum<E>> E readEnum(Class<E> enumType) throws IOException {
+        String name = this.readString();
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(enumType, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown constant " + name + " of " + enumType.getSimpleName() + " at position " + this.position, e);
+        }
+    }
+
+    /**
+     * {@return whether all bytes were read}
+     */
+    public boolean isAtEnd() {
+        return this.position == this.bytes.length;
+    }
+
+    /**
+     * Reads the next length of a sequence, e.g., an array or a string. Each element of a sequence takes at least one byte, so the length cannot exceed the
+     * number of remaining bytes.
+     *
+     * @return the length
+     * @throws IOException if the end of the input is reached or the length exceeds the remaining data
+     */
+    public int readLength() throws IOException {
+        int length = this.readVarInt();
+        if (length > this.bytes.length - this.position) {
+            throw new EOFException("Length " + length + " exceeds the remaining data at position " + this.position);
+        }
+        return length;
+    }
+}
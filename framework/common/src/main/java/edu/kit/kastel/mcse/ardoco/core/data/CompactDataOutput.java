@@ -0,0 +1,108 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * Compact binary output used by {@link PipelineStepDataCodec codecs}. Integers are written as variable-length quantities, arrays and strings are
+ * length-prefixed, and strings are interned, i.e., each distinct string is written once and referenced by its index afterwards.
+ */
+@Deterministic
+public final class CompactDataOutput {
+    /**
+     * Reference that marks a null string.
+     */
+    static final int NULL_STRING = 0;
+    /**
+     * Reference that marks a string that is written inline (and added to the string table).
+     */
+    static final int NEW_STRING = 1;
+    /**
+     * Offset of references to strings in the string table.
+     */
+    static final int STRING_REFERENCE_OFFSET = 2;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final LinkedHashMap<String, Integer> stringTable = new LinkedHashMap<>();
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value the byte
+     */
+    public void writeByte(int value) {
+        this.buffer.write(value);
+    }
+
+    /**
+     * Writes a non-negative integer as variable-length quantity.
+     *
+     * @param value the integer
+     */
+    public void writeVarInt(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative values cannot be written as variable-length quantity: " + value);
+        }
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            this.buffer.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        this.buffer.write(remaining);
+    }
+
+    /**
+     * Writes a length-prefixed array of non-negative integers.
+     *
+     * @param values the integers
+     */
+    public void writeIntArray(int[] values) {
+        this.writeVarInt(values.length);
+        for (int value : values) {
+            this.writeVarInt(value);
+        }
+    }
+
+    /**
+     * Writes a (nullable) string. Strings that were already written are only referenced.
+     *
+     * @param value the string or null
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            this.writeVarInt(NULL_STRING);
+            return;
+        }
+        Integer index = this.stringTable.get(value);
+        if (index != null) {
+            this.writeVarInt(index + STRING_REFERENCE_OFFSET);
+            return;
+        }
+        this.stringTable.put(value, this.stringTable.size());
+        this.writeVarInt(NEW_STRING);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        this.writeVarInt(bytes.length);
+        this.buffer.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a (nullable) enum constant by its name, which is interned like other strings. Unlike ordinals, names stay valid if constants are added to the
+     * enum or reordered.
+     *
+     * @param value the enum constant or null
+     */
+    public void writeEnum(Enum<?> value) {
+        this.writeString(value == null ? null : value.name());
+    }
+
+    /**
+     * {@return the bytes written so far}
+     */
+    public byte[] toByteArray() {
+        return this.buffer.toByteArray();
+    }
+}
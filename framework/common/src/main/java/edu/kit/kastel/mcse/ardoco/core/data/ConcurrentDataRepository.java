@@ -0,0 +1,109 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.io.Serial;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * Thread-safe {@link DataRepository} without a global lock. Data is kept in a concurrent skip list, so reads never block and iteration stays sorted by
+ * identifier. Writes are guarded by lock stripes chosen by identifier, which makes {@link #computeDataIfAbsent(String, Class, Supplier)} atomic while writes
+ * to different identifiers rarely contend. Data of a {@link #fork() fork} is restored from its snapshot under the stripe lock of its identifier.
+ */
+public class ConcurrentDataRepository extends DataRepository {
+
+    @Serial
+    private static final long serialVersionUID = 4377470139466380127L;
+
+    private static final int NUMBER_OF_STRIPES = 16;
+
+    private final ConcurrentSkipListMap<String, PipelineStepData> concurrentData;
+    private final ReentrantLock[] stripes;
+
+    public ConcurrentDataRepository() {
+        this(new ConcurrentSkipListMap<>());
+    }
+
+    private ConcurrentDataRepository(ConcurrentSkipListMap<String, PipelineStepData> concurrentData) {
+        super(concurrentData);
+        this.concurrentData = concurrentData;
+        this.stripes = new ReentrantLock[NUMBER_OF_STRIPES];
+        for (int i = 0; i < NUMBER_OF_STRIPES; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public <T extends PipelineStepData> Optional<T> getData(String identifier, Class<T> clazz) {
+        if (!this.isSharedData(identifier)) {
+            return this.lookupData(identifier, clazz);
+        }
+        var stripe = this.getStripe(identifier);
+        stripe.lock();
+        try {
+            return this.lookupData(identifier, clazz);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public void addData(String identifier, PipelineStepData pipelineStepData) {
+        var stripe = this.getStripe(identifier);
+        stripe.lock();
+        try {
+            this.storeData(identifier, pipelineStepData);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public <T extends PipelineStepData> T computeDataIfAbsent(String identifier, Class<T> clazz, Supplier<? extends T> supplier) {
+        if (this.concurrentData.containsKey(identifier) && !this.isSharedData(identifier)) {
+            return this.lookupOrStoreData(identifier, clazz, supplier);
+        }
+        var stripe = this.getStripe(identifier);
+        stripe.lock();
+        try {
+            return this.lookupOrStoreData(identifier, clazz, supplier);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    @Override
+    public DataRepository fork() {
+        for (var stripe : this.stripes) {
+            stripe.lock();
+        }
+        try {
+            DataRepository fork = this.createEmptyRepository();
+            this.shareDataWith(fork);
+            return fork;
+        } finally {
+            for (var stripe : this.stripes) {
+                stripe.unlock();
+            }
+        }
+    }
+
+    @Override
+    protected DataRepository createEmptyRepository() {
+        return new ConcurrentDataRepository();
+    }
+
+    @Override
+    public ImmutableList<String> getDataIdentifiers() {
+        return Lists.immutable.withAll(this.concurrentData.keySet());
+    }
+
+    private ReentrantLock getStripe(String identifier) {
+        return this.stripes[Math.floorMod(identifier.hashCode(), NUMBER_OF_STRIPES)];
+    }
+}
@@ -1,15 +1,17 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.core.data;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions;
@@ -17,7 +19,12 @@
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
 
 /**
- * Represents a confidence value for a result, aggregating confidences from multiple claimants using a specified aggregation function.
+ * Represents a confidence value for a result, aggregating confidences from multiple claimants using a specified aggregation function. The confidences of a
+ * claimant are combined by their maximum. These per-claimant maxima are kept up to date incrementally, and the aggregated value is cached until the next
+ * confidence is added.
+ * <p>
+ * Confidences are thread-safe. Reading the aggregated value updates the cache, so all access to the confidences and the running aggregates is synchronized on
+ * the confidence. A confidence never holds its own lock while acquiring the lock of another confidence.
  */
 @Deterministic
 public final class Confidence implements Comparable<Confidence>, Serializable {
@@ -25,11 +32,25 @@ public final class Confidence implements Comparable<Confidence>, Serializable {
     @Serial
     private static final long serialVersionUID = 4307327201754195030L;
 
+    private static final int INITIAL_CLAIMANT_CAPACITY = 4;
+    private static final String UNKNOWN_METHOD = "Unknown Method";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
     private final AggregationFunctions confidenceAggregator;
 
     // Claimant, Confidence, MethodName
     private List<Triple<Claimant, Double, String>> agentConfidences;
 
+    // Running aggregates (derived from agentConfidences): claimants in order of their first claim, their maximum confidence, and the rolling average
+    private transient Claimant[] claimants;
+    private transient double[] claimantMaxima;
+    private transient int numberOfClaimants;
+    private transient int numberOfAggregatedConfidences;
+    private transient double rollingAverage;
+
+    private transient double cachedConfidence;
+    private transient boolean cacheValid;
+
     /**
      * Constructor for the confidence with a given aggregator function.
      *
@@ -40,9 +61,41 @@ public Confidence(AggregationFunctions confidenceAggregator) {
         this.agentConfidences = new ArrayList<>();
     }
 
-    private Confidence(AggregationFunctions confidenceAggregator, List<Triple<Claimant, Double, String>> agentConfidence) {
-        this(confidenceAggregator);
-        this.agentConfidences = new ArrayList<>(agentConfidence);
+    /**
+     * Copies the given confidence. The caller has to hold the lock of the original.
+     */
+    private Confidence(Confidence original) {
+        this.confidenceAggregator = original.confidenceAggregator;
+        this.agentConfidences = new ArrayList<>(original.agentConfidences);
+        if (original.claimants != null) {
+            this.claimants = Arrays.copyOf(original.claimants, original.claimants.length);
+            this.claimantMaxima = Arrays.copyOf(original.claimantMaxima, original.claimantMaxima.length);
+            this.numberOfClaimants = original.numberOfClaimants;
+            this.numberOfAggregatedConfidences = original.numberOfAggregatedConfidences;
+            this.rollingAverage = original.rollingAverage;
+            this.cachedConfidence = original.cachedConfidence;
+            this.cacheValid = original.cacheValid;
+        }
+    }
+
+    /**
+     * Defines how much provenance is recorded when a claimant adds a confidence. The mode is taken from the {@link Claimant#getProvenanceMode() claimant}, so
+     * pipeline steps record provenance as configured for their pipeline. The recorded provenance is not part of the {@link #equals(Object) equality} of
+     * confidences.
+     */
+    public enum ProvenanceMode {
+        /**
+         * Do not record the method of the claimant.
+         */
+        OFF,
+        /**
+         * Record the name of the method of the claimant. The stack is only walked until the frame of the claimant.
+         */
+        LAZY,
+        /**
+         * Record the method of the claimant including its class, source file, and line.
+         */
+        FULL
     }
 
     /**
@@ -50,7 +103,7 @@ private Confidence(AggregationFunctions confidenceAggregator, List<Triple<Claima
      *
      * @return the claimants
      */
-    public Set<Claimant> getClaimants() {
+    public synchronized Set<Claimant> getClaimants() {
         Set<Claimant> identitySet = Collections.newSetFromMap(new IdentityHashMap<>());
         for (var confidence : this.agentConfidences) {
             identitySet.add(confidence.first());
@@ -58,13 +111,24 @@ public Set<Claimant> getClaimants() {
         return identitySet;
     }
 
+    /**
+     * {@return the recorded methods of the claimants in the order their confidences were added}
+     */
+    public synchronized List<String> getClaimingMethods() {
+        List<String> methods = new ArrayList<>(this.agentConfidences.size());
+        for (var agentConfidence : this.agentConfidences) {
+            methods.add(agentConfidence.third());
+        }
+        return methods;
+    }
+
     /**
      * Creates a copy of this confidence object.
      *
      * @return a new instance of Confidence with the same properties
      */
-    public Confidence createCopy() {
-        return new Confidence(this.confidenceAggregator, this.agentConfidences);
+    public synchronized Confidence createCopy() {
+        return new Confidence(this);
     }
 
     /**
@@ -75,17 +139,64 @@ public Confidence createCopy() {
      */
     public void addAgentConfidence(Claimant claimant, double confidence) {
         String method = this.getMethodInClaimant(claimant);
-        this.agentConfidences.add(new Triple<>(claimant, confidence, method));
+        this.add(new Triple<>(claimant, confidence, method));
     }
 
-    private String getMethodInClaimant(Claimant claimant) {
-        var trace = new Exception().getStackTrace();
-        for (var te : trace) {
-            if (te.getClassName().equals(claimant.getClass().getName())) {
-                return te.getMethodName();
+    private synchronized void add(Triple<Claimant, Double, String> agentConfidence) {
+        this.ensureAggregates();
+        this.agentConfidences.add(agentConfidence);
+        this.aggregate(agentConfidence.first(), agentConfidence.second());
+        this.cacheValid = false;
+    }
+
+    /**
+     * Updates the running aggregates with a new confidence. Claimants are compared by identity, as there are only a few claimants per confidence.
+     */
+    private void aggregate(Claimant claimant, double confidence) {
+        this.rollingAverage = this.numberOfAggregatedConfidences == 0 ? confidence : (this.rollingAverage + confidence) / 2;
+        this.numberOfAggregatedConfidences++;
+        for (int i = 0; i < this.numberOfClaimants; i++) {
+            if (this.claimants[i] == claimant) {
+                this.claimantMaxima[i] = Math.max(this.claimantMaxima[i], confidence);
+                return;
             }
         }
-        return "Unknown Method";
+        if (this.numberOfClaimants == this.claimants.length) {
+            this.claimants = Arrays.copyOf(this.claimants, this.numberOfClaimants * 2);
+            this.claimantMaxima = Arrays.copyOf(this.claimantMaxima, this.numberOfClaimants * 2);
+        }
+        this.claimants[this.numberOfClaimants] = claimant;
+        this.claimantMaxima[this.numberOfClaimants] = confidence;
+        this.numberOfClaimants++;
+    }
+
+    /**
+     * Initializes the running aggregates, e.g., after deserialization.
+     */
+    private void ensureAggregates() {
+        if (this.claimants != null) {
+            return;
+        }
+        this.claimants = new Claimant[INITIAL_CLAIMANT_CAPACITY];
+        this.claimantMaxima = new double[INITIAL_CLAIMANT_CAPACITY];
+        this.numberOfClaimants = 0;
+        this.numberOfAggregatedConfidences = 0;
+        for (var agentConfidence : this.agentConfidences) {
+            this.aggregate(agentConfidence.first(), agentConfidence.second());
+        }
+        this.cacheValid = false;
+    }
+
+    private String getMethodInClaimant(Claimant claimant) {
+        var mode = Objects.requireNonNull(claimant.getProvenanceMode());
+        if (mode == ProvenanceMode.OFF) {
+            return UNKNOWN_METHOD;
+        }
+        Class<?> claimantClass = claimant.getClass();
+        return STACK_WALKER.walk(frames -> frames.filter(frame -> frame.getDeclaringClass() == claimantClass)
+                .findFirst()
+                .map(frame -> mode == ProvenanceMode.FULL ? frame.toStackTraceElement().toString() : frame.getMethodName())
+                .orElse(UNKNOWN_METHOD));
     }
 
     @Override
@@ -106,25 +217,42 @@ public String toString() {
      *
      * @return the (aggregated) confidence value
      */
-    public double getConfidence() {
+    public synchronized double getConfidence() {
         if (this.agentConfidences.isEmpty()) {
             return 0;
         }
+        if (!this.cacheValid) {
+            this.ensureAggregates();
+            this.cachedConfidence = this.aggregateConfidence();
+            this.cacheValid = true;
+        }
+        return this.cachedConfidence;
+    }
+
+    private double aggregateConfidence() {
         if (this.confidenceAggregator == AggregationFunctions.ROLLING_AVERAGE) {
             // No aggregate
-            return this.confidenceAggregator.applyAsDouble(this.agentConfidences.stream().map(Triple::second).toList());
+            return this.rollingAverage;
         }
-        var groupAggregator = AggregationFunctions.MAX;
-        var claimantGroupings = this.agentConfidences.stream().collect(Collectors.groupingBy(Triple::first)).values();
-        var claimantConfidences = claimantGroupings.stream().map(l -> l.stream().map(Triple::second).toList()).map(groupAggregator::applyAsDouble).toList();
-        return this.confidenceAggregator.applyAsDouble(claimantConfidences);
+        return this.confidenceAggregator.applyAsDouble(this.claimantMaxima, 0, this.numberOfClaimants);
+    }
+
+    private synchronized List<Triple<Claimant, Double, String>> getAgentConfidences() {
+        return List.copyOf(this.agentConfidences);
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hash(this.agentConfidences, this.confidenceAggregator);
+    public synchronized int hashCode() {
+        int hash = Objects.hashCode(this.confidenceAggregator);
+        for (var agentConfidence : this.agentConfidences) {
+            hash = 31 * hash + Objects.hash(agentConfidence.first(), agentConfidence.second());
+        }
+        return hash;
     }
 
+    /**
+     * Confidences are equal if the same claimants added the same confidences in the same order, regardless of the recorded methods.
+     */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -134,10 +262,38 @@ public boolean equals(Object obj) {
             return false;
         }
         var other = (Confidence) obj;
-        return Objects.equals(this.agentConfidences, other.agentConfidences) && this.confidenceAggregator == other.confidenceAggregator;
+        if (this.confidenceAggregator != other.confidenceAggregator) {
+            return false;
+        }
+        var agentConfidences = this.getAgentConfidences();
+        var otherAgentConfidences = other.getAgentConfidences();
+        if (agentConfidences.size() != otherAgentConfidences.size()) {
+            return false;
+        }
+        for (int i = 0; i < agentConfidences.size(); i++) {
+            var agentConfidence = agentConfidences.get(i);
+            var otherAgentConfidence = otherAgentConfidences.get(i);
+            if (!Objects.equals(agentConfidence.first(), otherAgentConfidence.first()) || !Objects.equals(agentConfidence.second(), otherAgentConfidence
+                    .second())) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Adds all confidences of the other confidence to this confidence.
+     *
+     * @param other the other confidence
+     */
     public void addAllConfidences(Confidence other) {
-        this.agentConfidences.addAll(other.agentConfidences);
+        for (var agentConfidence : other.getAgentConfidences()) {
+            this.add(agentConfidence);
+        }
+    }
+
+    @Serial
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
     }
 }
@@ -6,13 +6,20 @@
 import java.util.Optional;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.Supplier;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Represents a data repository for storing and fetching pipeline step data by identifier. Data can be added and fetched using a string identifier and the
- * expected class type.
+ * expected class type. Access is synchronized, so pipeline steps running concurrently can share a repository. See {@link ConcurrentDataRepository} for a
+ * variant without a global lock.
+ * <p>
+ * Repositories can be forked via {@link #fork()}, e.g., to run shared stages once and the diverging stages per configuration. A fork works on a snapshot
+ * of the data at the time of forking, while the forked repository keeps the original data.
  */
 public class DataRepository implements Serializable {
 
@@ -27,7 +34,16 @@ public class DataRepository implements Serializable {
     private final SortedMap<String, PipelineStepData> data;
 
     public DataRepository() {
-        this.data = new TreeMap<>();
+        this(new TreeMap<>());
+    }
+
+    /**
+     * Creates a repository that stores its data in the given map.
+     *
+     * @param data the (empty) map that stores the data
+     */
+    protected DataRepository(SortedMap<String, PipelineStepData> data) {
+        this.data = data;
     }
 
     /**
@@ -39,8 +55,99 @@ public DataRepository() {
      * @param <T>        Type of data that is expected and cast into
      * @return Optional containing the requested data cast into the given class. The optional is empty is data could not be found or casting was unsuccessful.
      */
-    public <T extends PipelineStepData> Optional<T> getData(String identifier, Class<T> clazz) {
-        var possibleData = this.data.get(identifier);
+    public synchronized <T extends PipelineStepData> Optional<T> getData(String identifier, Class<T> clazz) {
+        return this.lookupData(identifier, clazz);
+    }
+
+    /**
+     * Adds data to this repository using the identifier. If data with the given identifier already exists, overwrites it.
+     *
+     * @param identifier       Data identifier
+     * @param pipelineStepData Data that should be saved
+     */
+    public synchronized void addData(String identifier, PipelineStepData pipelineStepData) {
+        this.storeData(identifier, pipelineStepData);
+    }
+
+    /**
+     * Returns the data with the given identifier. If no such data exists, the data is created with the given supplier and added atomically, so concurrent
+     * callers always receive the same instance.
+     *
+     * @param identifier Data identifier string
+     * @param clazz      class that the data should have
+     * @param supplier   supplier that creates the data if it is absent
+     * @param <T>        Type of data that is expected and cast into
+     * @return the existing or newly created data
+     * @throws IllegalArgumentException if the existing data cannot be cast into the given class
+     */
+    public synchronized <T extends PipelineStepData> T computeDataIfAbsent(String identifier, Class<T> clazz, Supplier<? extends T> supplier) {
+        return this.lookupOrStoreData(identifier, clazz, supplier);
+    }
+
+    /**
+     * Creates a fork of this repository that initially contains the same data. All data is serialized into one snapshot (using Java serialization) when
+     * forking, so references between different data are kept in the fork. The fork deserializes the snapshot when it first fetches data via
+     * {@link #getData(String, Class)} or {@link #computeDataIfAbsent(String, Class, Supplier)}. This repository keeps the original data. Neither this
+     * repository nor the fork observe modifications of the other one after forking, even via references that steps obtained before. A fork that is never
+     * modified can serve as a snapshot.
+     *
+     * @return the fork
+     * @throws IllegalStateException if the data of this repository cannot be serialized
+     */
+    public synchronized DataRepository fork() {
+        DataRepository fork = this.createEmptyRepository();
+        this.shareDataWith(fork);
+        return fork;
+    }
+
+    /**
+     * {@return the identifiers of all data in this repository in their natural (sorted) order}
+     */
+    public synchronized ImmutableList<String> getDataIdentifiers() {
+        return Lists.immutable.withAll(this.data.keySet());
+    }
+
+    /**
+     * Creates an empty repository of the same kind as this repository. Used for {@link #fork() forking}.
+     *
+     * @return the empty repository
+     */
+    protected DataRepository createEmptyRepository() {
+        return new DataRepository();
+    }
+
+    /**
+     * Shares a snapshot of all data of this repository with the given (empty) repository without acquiring any lock. If this repository is a fork itself,
+     * its own snapshot is restored first.
+     *
+     * @param target the repository that should share the data
+     */
+    protected final void shareDataWith(DataRepository target) {
+        for (var identifier : Lists.immutable.withAll(this.data.keySet())) {
+            this.ownData(identifier);
+        }
+        target.data.putAll(SharedPipelineStepData.fork(this.data));
+    }
+
+    /**
+     * {@return whether the data with the given identifier is still part of the snapshot of a fork and needs to be restored upon access}
+     *
+     * @param identifier Data identifier string
+     */
+    protected final boolean isSharedData(String identifier) {
+        return this.data.get(identifier) instanceof SharedPipelineStepData;
+    }
+
+    /**
+     * Looks up data without acquiring the lock of this repository.
+     *
+     * @param identifier Data identifier string
+     * @param clazz      class that the data should have
+     * @param <T>        Type of data that is expected and cast into
+     * @return Optional containing the requested data cast into the given class
+     */
+    protected final <T extends PipelineStepData> Optional<T> lookupData(String identifier, Class<T> clazz) {
+        var possibleData = this.ownData(identifier);
         if (possibleData != null) {
             return possibleData.asPipelineStepData(clazz);
         }
@@ -49,14 +156,44 @@ public <T extends PipelineStepData> Optional<T> getData(String identifier, Class
     }
 
     /**
-     * Adds data to this repository using the identifier. If data with the given identifier already exists, overwrites it.
+     * Stores data without acquiring the lock of this repository.
      *
      * @param identifier       Data identifier
      * @param pipelineStepData Data that should be saved
      */
-    public void addData(String identifier, PipelineStepData pipelineStepData) {
-        if (this.data.put(identifier, pipelineStepData) != null) {
+    protected final void storeData(String identifier, PipelineStepData pipelineStepData) {
+        var previousData = this.data.put(identifier, pipelineStepData);
+        if (previousData != null) {
             DataRepository.logger.warn("Overriding data with identifier '{}'", identifier);
         }
     }
+
+    /**
+     * Looks up data and stores newly created data if it is absent, without acquiring the lock of this repository.
+     *
+     * @param identifier Data identifier string
+     * @param clazz      class that the data should have
+     * @param supplier   supplier that creates the data if it is absent
+     * @param <T>        Type of data that is expected and cast into
+     * @return the existing or newly created data
+     */
+    protected final <T extends PipelineStepData> T lookupOrStoreData(String identifier, Class<T> clazz, Supplier<? extends T> supplier) {
+        var existingData = this.ownData(identifier);
+        if (existingData != null) {
+            return existingData.asPipelineStepData(clazz)
+                    .orElseThrow(() -> new IllegalArgumentException("Data with identifier '" + identifier + "' is not of type " + clazz.getSimpleName()));
+        }
+        T createdData = supplier.get();
+        this.data.put(identifier, createdData);
+        return createdData;
+    }
+
+    private PipelineStepData ownData(String identifier) {
+        var possibleData = this.data.get(identifier);
+        if (possibleData instanceof SharedPipelineStepData sharedData) {
+            possibleData = sharedData.takeOwnership();
+            this.data.put(identifier, possibleData);
+        }
+        return possibleData;
+    }
 }
@@ -35,11 +35,20 @@ default <T extends PipelineStepData> Optional<T> asPipelineStepData(Class<T> cla
     }
 
     /**
-     * Serializes this data into a JSON string.
+     * Serializes this data into a string. Uses the {@link PipelineStepDataCodec} registered for this type of data, if any, and JSON otherwise.
      *
-     * @return JSON string representation of this data or null if serialization fails.
+     * @return string representation of this data or null if serialization fails.
      */
     default String serialize() {
+        var codec = PipelineStepDataCodecs.find(this.getClass());
+        if (codec.isPresent()) {
+            try {
+                return PipelineStepDataCodecs.serialize(codec.get(), this);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+                return null;
+            }
+        }
         var oom = JsonHandling.createObjectMapper();
         try {
             return oom.writeValueAsString(this);
@@ -50,12 +59,21 @@ default String serialize() {
     }
 
     /**
-     * Deserializes the given JSON string into an instance of this data type.
+     * Deserializes the given string (created by {@link #serialize()}) into an instance of this data type.
      *
-     * @param data JSON string to deserialize
+     * @param data string to deserialize
      * @return Deserialized instance of this data type or null if deserialization fails.
      */
     default PipelineStepData deserialize(String data) {
+        var codec = PipelineStepDataCodecs.find(this.getClass());
+        if (codec.isPresent() && PipelineStepDataCodecs.isBinary(data)) {
+            try {
+                return PipelineStepDataCodecs.deserialize(codec.get(), data);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+                return null;
+            }
+        }
         var oom = JsonHandling.createObjectMapper();
         try {
             return oom.readValue(data, this.getClass());
@@ -0,0 +1,46 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for a type of {@link PipelineStepData}. Codecs are discovered via {@link java.util.ServiceLoader} and replace the JSON-based default of
+ * {@link PipelineStepData#serialize()} and {@link PipelineStepData#deserialize(String)} for their data type. See {@link PipelineStepDataCodecs}.
+ *
+ * @param <T> the type of data that can be encoded
+ */
+public interface PipelineStepDataCodec<T extends PipelineStepData> {
+
+    /**
+     * {@return the type of data this codec encodes}
+     */
+    Class<T> getDataType();
+
+    /**
+     * Returns the version of the encoding of this codec. Codecs must increase it whenever the encoding changes, so that persisted data (e.g., checkpoints)
+     * encoded by an older version is not decoded.
+     *
+     * @return the version of the encoding
+     */
+    default int getVersion() {
+        return 1;
+    }
+
+    /**
+     * Encodes the given data.
+     *
+     * @param data   the data
+     * @param output the output to write to
+     * @throws IOException if the data cannot be encoded
+     */
+    void encode(T data, CompactDataOutput output) throws IOException;
+
+    /**
+     * Decodes data that was written by {@link #encode(PipelineStepData, CompactDataOutput)}.
+     *
+     * @param input the input to read from
+     * @return the decoded data
+     * @throws IOException if the data cannot be decoded
+     */
+    T decode(CompactDataInput input) throws IOException;
+}
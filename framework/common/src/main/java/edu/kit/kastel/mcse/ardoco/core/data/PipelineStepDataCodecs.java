@@ -0,0 +1,140 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * Registry of the {@link PipelineStepDataCodec codecs} that are available via {@link ServiceLoader}. Encoded data is represented as a string with the
+ * {@link #BINARY_PREFIX} followed by the Base64 encoding of the bytes, so it fits the string-based {@link PipelineStepData#serialize()} contract and can be
+ * distinguished from JSON.
+ */
+public final class PipelineStepDataCodecs {
+    /**
+     * Prefix of serialized data that was encoded by a binary codec.
+     */
+    public static final String BINARY_PREFIX = "binary:";
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static ImmutableList<PipelineStepDataCodec<?>> codecs;
+
+    private PipelineStepDataCodecs() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Returns the codec for the given data type. Codecs are also used for subtypes of their data type.
+     *
+     * @param dataType the type of data
+     * @return the codec or an empty optional if there is no codec for the type
+     */
+    public static Optional<PipelineStepDataCodec<?>> find(Class<?> dataType) {
+        return Optional.ofNullable(getCodecs().detect(codec -> codec.getDataType().isAssignableFrom(dataType)));
+    }
+
+    /**
+     * Describes the version of the binary format and of all available codecs. Persisted data (e.g., checkpoints) can store it to detect data that was
+     * encoded by a different build.
+     *
+     * @return the description of the versions
+     */
+    public static String getVersion() {
+        var codecVersions = getCodecs().collect(codec -> codec.getClass().getName() + " " + codec.getVersion()).toSortedList();
+        return "format " + FORMAT_VERSION + (codecVersions.isEmpty() ? "" : ", " + codecVersions.makeString(", "));
+    }
+
+    /**
+     * Encodes the given data with the given codec.
+     *
+     * @param codec the codec
+     * @param data  the data
+     * @param <T>   the type of data
+     * @return the encoded bytes
+     * @throws IOException if the data cannot be encoded
+     */
+    public static <T extends PipelineStepData> byte[] encode(PipelineStepDataCodec<T> codec, PipelineStepData data) throws IOException {
+        CompactDataOutput output = new CompactDataOutput();
+        output.writeVarInt(FORMAT_VERSION);
+        codec.encode(codec.getDataType().cast(data), output);
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes the given bytes with the given codec.
+     *
+     * @param codec the codec
+     * @param bytes the encoded bytes
+     * @param <T>   the type of data
+     * @return the decoded data
+     * @throws IOException if the bytes cannot be decoded
+     */
+    public static <T extends PipelineStepData> T decode(PipelineStepDataCodec<T> codec, byte[] bytes) throws IOException {
+        CompactDataInput input = new CompactDataInput(bytes);
+        int version = input.readVarInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+        T data = codec.decode(input);
+        if (!input.isAtEnd()) {
+            throw new IOException("Unexpected trailing data");
+        }
+        return data;
+    }
+
+    /**
+     * Serializes the given data with the given codec into the string representation used by {@link PipelineStepData#serialize()}.
+     *
+     * @param codec the codec
+     * @param data  the data
+     * @return the serialized data
+     * @throws IOException if the data cannot be encoded
+     */
+    public static String serialize(PipelineStepDataCodec<?> codec, PipelineStepData data) throws IOException {
+        return BINARY_PREFIX + Base64.getEncoder().encodeToString(encode(codec, data));
+    }
+
+    /**
+     * Deserializes data that was serialized by {@link #serialize(PipelineStepDataCodec, PipelineStepData)}.
+     *
+     * @param codec the codec
+     * @param data  the serialized data
+     * @return the deserialized data
+     * @throws IOException if the data cannot be decoded
+     */
+    public static PipelineStepData deserialize(PipelineStepDataCodec<?> codec, String data) throws IOException {
+        if (!isBinary(data)) {
+            throw new IOException("Data was not serialized by a binary codec");
+        }
+        try {
+            return decode(codec, Base64.getDecoder().decode(data.substring(BINARY_PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid Base64 data", e);
+        }
+    }
+
+    /**
+     * {@return whether the serialized data was encoded by a binary codec}
+     *
+     * @param data the serialized data
+     */
+    public static boolean isBinary(String data) {
+        return data != null && data.startsWith(BINARY_PREFIX);
+    }
+
+    private static synchronized ImmutableList<PipelineStepDataCodec<?>> getCodecs() {
+        if (codecs == null) {
+            var loadedCodecs = Lists.mutable.<PipelineStepDataCodec<?>>empty();
+            for (var codec : ServiceLoader.load(PipelineStepDataCodec.class)) {
+                loadedCodecs.add(codec);
+            }
+            codecs = loadedCodecs.toImmutable();
+        }
+        return codecs;
+    }
+}
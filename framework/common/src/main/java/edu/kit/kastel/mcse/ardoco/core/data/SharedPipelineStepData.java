@@ -0,0 +1,92 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Placeholder for {@link PipelineStepData} in a fork of a {@link DataRepository}. All data of the forked repository is serialized into one snapshot when the
+ * fork is created, so the fork does not observe modifications that the forked repository makes afterwards, and references between different data (e.g.,
+ * words that are referenced by several states) are kept. The snapshot is deserialized as a whole when the fork accesses any of its data for the first time.
+ */
+final class SharedPipelineStepData implements PipelineStepData {
+    @Serial
+    private static final long serialVersionUID = -6198413725180322816L;
+
+    private final Snapshot snapshot;
+    private final String identifier;
+
+    private SharedPipelineStepData(Snapshot snapshot, String identifier) {
+        this.snapshot = snapshot;
+        this.identifier = identifier;
+    }
+
+    /**
+     * Creates a snapshot of the given data and returns placeholders for a fork that refer to the snapshot.
+     *
+     * @param data the data of the forked repository, which must not contain placeholders
+     * @return the placeholders for the fork by identifier
+     * @throws IllegalStateException if the data cannot be serialized
+     */
+    static SortedMap<String, PipelineStepData> fork(SortedMap<String, PipelineStepData> data) {
+        var snapshot = new Snapshot(serialize(new TreeMap<>(data)));
+        SortedMap<String, PipelineStepData> placeholders = new TreeMap<>();
+        for (var identifier : data.keySet()) {
+            placeholders.put(identifier, new SharedPipelineStepData(snapshot, identifier));
+        }
+        return placeholders;
+    }
+
+    /**
+     * {@return the data from the snapshot, which is exclusively owned by the fork that holds this placeholder}
+     */
+    PipelineStepData takeOwnership() {
+        return this.snapshot.get(this.identifier);
+    }
+
+    private static final class Snapshot implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 2749061935381268204L;
+
+        private byte[] serializedData;
+        private SortedMap<String, PipelineStepData> data;
+
+        private Snapshot(byte[] serializedData) {
+            this.serializedData = serializedData;
+        }
+
+        synchronized PipelineStepData get(String identifier) {
+            if (this.data == null) {
+                this.data = deserialize(this.serializedData);
+                this.serializedData = null;
+            }
+            return this.data.get(identifier);
+        }
+    }
+
+    private static byte[] serialize(SortedMap<String, PipelineStepData> data) {
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        try (var objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(data);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create a snapshot of the data for a fork", e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SortedMap<String, PipelineStepData> deserialize(byte[] serializedData) {
+        try (var objectInputStream = new ObjectInputStream(new ByteArrayInputStream(serializedData))) {
+            return (SortedMap<String, PipelineStepData>) objectInputStream.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Could not restore the snapshot of the data of a fork", e);
+        }
+    }
+}
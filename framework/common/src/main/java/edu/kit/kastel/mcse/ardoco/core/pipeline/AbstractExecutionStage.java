@@ -2,6 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.core.pipeline;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
@@ -15,6 +16,10 @@
 /**
  * Abstract class representing an execution stage in ArDoCo, such as Text-Extraction or Recommendation-Generator.
  * Subclasses must implement {@link #initializeState()} to set up the state for processing.
+ * <p>
+ * If parallel execution is enabled for the stage, its agents run their {@link #processPerMetamodel(java.util.Collection, java.util.function.Function)
+ * per-metamodel work} in parallel on the executor of the stage as well. Agents that already run as tasks of a bounded executor do their per-metamodel work on
+ * their own thread instead (see {@link #setExecutor(java.util.concurrent.Executor)}).
  */
 public abstract class AbstractExecutionStage extends Pipeline {
     private final MutableList<PipelineAgent> agents;
@@ -43,6 +48,10 @@ protected final void preparePipelineSteps() {
 
         for (var agent : this.agents) {
             if (this.enabledAgents.contains(agent.getId())) {
+                if (this.isParallelExecution()) {
+                    agent.setParallelExecution(true);
+                    agent.setExecutor(this.getExecutor());
+                }
                 this.addPipelineStep(agent);
             }
         }
@@ -69,6 +78,17 @@ protected void after() {
         // Nothing by default
     }
 
+    /**
+     * Returns the {@link DataAccess} of this stage, which is unknown by default: stages set up their state in {@link #initializeState()}, which is not
+     * covered by the data access of their agents. Stages that know all data they access can override this method.
+     *
+     * @return an empty optional
+     */
+    @Override
+    public Optional<DataAccess> getDataAccess() {
+        return Optional.empty();
+    }
+
     /**
      * {@return the {@link PipelineAgent agents}}
      */
@@ -1,7 +1,12 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.core.pipeline;
 
+import java.util.List;
+import java.util.Optional;
+
 import edu.kit.kastel.mcse.ardoco.core.configuration.AbstractConfigurable;
+import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
+import edu.kit.kastel.mcse.ardoco.core.data.Confidence;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 
 /**
@@ -12,6 +17,11 @@ public abstract class AbstractPipelineStep extends AbstractConfigurable {
     protected final String id;
     protected final DataRepository dataRepository;
 
+    @Configurable
+    private Confidence.ProvenanceMode provenanceMode = Confidence.ProvenanceMode.LAZY;
+
+    private volatile PipelineStepMetrics metrics;
+
     /**
      * Constructor for a pipeline step
      *
@@ -25,12 +35,35 @@ protected AbstractPipelineStep(String id, DataRepository dataRepository) {
 
     /**
      * Runs the pipeline step beginning with {@link #before()}, {@link #process()} and finally
-     * {@link #after()}
+     * {@link #after()}. The resource usage of the run is available via {@link #getMetrics()} afterward.
      */
     public void run() {
+        var measurement = PipelineStepMeasurement.start();
         this.before();
         this.process();
         this.after();
+        this.metrics = measurement.stop(this.getId(), this.getClass().getSimpleName(), this.getChildMetrics(), this.areChildrenRunOnOtherThreads());
+    }
+
+    /**
+     * {@return the resource usage of the last run of this step, or an empty optional if the step did not run yet}
+     */
+    public Optional<PipelineStepMetrics> getMetrics() {
+        return Optional.ofNullable(this.metrics);
+    }
+
+    /**
+     * {@return the metrics of the sub-steps that ran as part of the last run of this step in execution order}
+     */
+    protected List<PipelineStepMetrics> getChildMetrics() {
+        return List.of();
+    }
+
+    /**
+     * {@return whether the sub-steps of the last run were executed on other threads than this step}
+     */
+    protected boolean areChildrenRunOnOtherThreads() {
+        return false;
     }
 
     /**
@@ -55,6 +88,28 @@ protected DataRepository getDataRepository() {
         return this.dataRepository;
     }
 
+    /**
+     * Returns the {@link DataAccess} of this step, i.e., the identifiers of the data it reads and writes in the {@link DataRepository}. Steps that do not
+     * declare their data access are never executed concurrently with other steps. The data access is unknown by default, so a step has to override this
+     * method to benefit from {@link Pipeline#setParallelExecution(boolean) parallel execution}. A {@link Pipeline}, and thus an agent, declares the combined
+     * data access of its steps if all of them declare theirs.
+     *
+     * @return the declared data access, or an empty optional if unknown
+     */
+    public Optional<DataAccess> getDataAccess() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns how much provenance the {@link Confidence confidences} claimed by this step record. The mode is configured for all steps of a pipeline with the
+     * key {@code AbstractPipelineStep::provenanceMode}, e.g., {@code OFF} for production runs and {@code FULL} for debugging runs.
+     *
+     * @return the provenance mode
+     */
+    public Confidence.ProvenanceMode getProvenanceMode() {
+        return this.provenanceMode;
+    }
+
     /**
      * Returns the id
      *
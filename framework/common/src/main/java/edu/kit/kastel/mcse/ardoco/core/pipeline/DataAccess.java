@@ -0,0 +1,50 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * Declares which {@link edu.kit.kastel.mcse.ardoco.core.data.DataRepository} entries a pipeline step reads and writes. Used by {@link Pipeline} to determine
+ * which steps can run concurrently without changing the results of the sequential execution order.
+ *
+ * @param readIds    identifiers of the data the step reads
+ * @param writtenIds identifiers of the data the step adds, replaces, or modifies
+ */
+public record DataAccess(ImmutableList<String> readIds, ImmutableList<String> writtenIds) {
+
+    /**
+     * Creates a data access declaration.
+     *
+     * @param readIds    identifiers of the data the step reads
+     * @param writtenIds identifiers of the data the step adds, replaces, or modifies
+     * @return the data access declaration
+     */
+    public static DataAccess of(ImmutableList<String> readIds, ImmutableList<String> writtenIds) {
+        return new DataAccess(readIds.distinct(), writtenIds.distinct());
+    }
+
+    /**
+     * Returns whether the two declarations touch the same data in a way that requires ordering, i.e., at least one of them writes data the other one reads or
+     * writes.
+     *
+     * @param other the other declaration
+     * @return true, if the steps must not run concurrently
+     */
+    public boolean conflictsWith(DataAccess other) {
+        return this.writesAnyOf(other.readIds) || this.writesAnyOf(other.writtenIds) || other.writesAnyOf(this.readIds);
+    }
+
+    /**
+     * Combines this declaration with another one, e.g., to describe a pipeline consisting of multiple steps.
+     *
+     * @param other the other declaration
+     * @return the combined declaration
+     */
+    public DataAccess union(DataAccess other) {
+        return of(this.readIds.newWithAll(other.readIds), this.writtenIds.newWithAll(other.writtenIds));
+    }
+
+    private boolean writesAnyOf(ImmutableList<String> ids) {
+        return ids.anySatisfy(this.writtenIds::contains);
+    }
+}
@@ -1,22 +1,59 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.core.pipeline;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
+import org.eclipse.collections.api.factory.SortedMaps;
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 
+import edu.kit.kastel.mcse.ardoco.core.api.models.Metamodel;
+import edu.kit.kastel.mcse.ardoco.core.configuration.ChildClassConfigurable;
+import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 
 /**
  * Represents a pipeline consisting of multiple {@link AbstractPipelineStep} steps executed in sequence. Steps are executed in the order they are added to the
- * pipeline.
+ * pipeline. If parallel execution is enabled, steps whose {@link DataAccess} does not conflict are executed concurrently while keeping the results of the
+ * sequential order.
+ * <p>
+ * Only steps that declare their data access via {@link AbstractPipelineStep#getDataAccess()} can run concurrently. Agents declare the combined data access
+ * of their informants, but no informant or stage in this framework declares its own. Parallel execution therefore does not change the execution of a pipeline
+ * until its steps (e.g., the informants of its agents) override {@link AbstractPipelineStep#getDataAccess()} and declare what they read and write.
+ * <p>
+ * If a checkpoint directory is set, the pipeline writes the contents of its {@link DataRepository} after the configured steps and resumes from the last valid
+ * checkpoint on the next run.
  */
 public class Pipeline extends AbstractPipelineStep {
     private final List<AbstractPipelineStep> pipelineSteps;
     private boolean executed = false;
+    private boolean executedInParallel = false;
+
+    @Configurable
+    @ChildClassConfigurable
+    private boolean parallelExecution = false;
+
+    private Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Ids of the steps after which a checkpoint is written. If empty, a checkpoint is written after each step.
+     */
+    @Configurable
+    @ChildClassConfigurable
+    private List<String> checkpointSteps = new ArrayList<>();
+
+    private Path checkpointDirectory = null;
+    private List<Path> checkpointInputs = List.of();
 
     /**
      * Constructs a Pipeline with the given id and {@link DataRepository}.
@@ -60,6 +97,64 @@ public boolean addPipelineStep(AbstractPipelineStep pipelineStep) {
         return this.pipelineSteps.add(pipelineStep);
     }
 
+    /**
+     * Enables or disables the parallel execution of independent pipeline steps. Steps that do not declare their {@link DataAccess} still run one after
+     * another in the order they were added.
+     *
+     * @param parallelExecution whether independent steps should be executed concurrently
+     */
+    public void setParallelExecution(boolean parallelExecution) {
+        this.parallelExecution = parallelExecution;
+    }
+
+    /**
+     * Sets the executor that runs the pipeline steps if parallel execution is enabled. Defaults to the common {@link ForkJoinPool}. If this pipeline itself
+     * runs as a task of the same executor (e.g., an agent of a parallel stage), its steps and per-metamodel work run on the current thread instead, unless the
+     * executor is a {@link ForkJoinPool}. Waiting for nested tasks on a bounded executor could otherwise block all of its threads.
+     *
+     * @param executor the executor
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the directory for checkpoints. If set, the pipeline writes checkpoints after the configured steps and resumes from the last valid checkpoint in this
+     * directory. Checkpoints are only used for sequential execution.
+     * <p>
+     * Each data of the repository is restored on its own, so objects that several data refer to are restored as separate copies. Use the configurable
+     * checkpoint steps to only write checkpoints after steps after which such shared objects are not modified anymore.
+     *
+     * @param checkpointDirectory the directory for checkpoints or null to disable checkpointing
+     */
+    public void setCheckpointDirectory(Path checkpointDirectory) {
+        this.checkpointDirectory = checkpointDirectory;
+    }
+
+    /**
+     * Sets the input files or directories of the pipeline, e.g., the text and the models. Checkpoints store a fingerprint of their contents, the applied
+     * configuration, and the data repository before the first step, and are discarded if the fingerprint of the current run differs.
+     *
+     * @param checkpointInputs the input files or directories
+     */
+    public void setCheckpointInputs(List<Path> checkpointInputs) {
+        this.checkpointInputs = List.copyOf(checkpointInputs);
+    }
+
+    /**
+     * {@return whether independent pipeline steps are executed concurrently}
+     */
+    protected boolean isParallelExecution() {
+        return this.parallelExecution;
+    }
+
+    /**
+     * {@return the executor that runs the pipeline steps if parallel execution is enabled}
+     */
+    protected Executor getExecutor() {
+        return this.executor;
+    }
+
     /**
      * {@return whether the pipeline has finished execution}
      */
@@ -70,28 +165,134 @@ public boolean hasFinished() {
     @Override
     public void process() {
         this.preparePipelineSteps();
+        this.executedInParallel = this.parallelExecution && this.pipelineSteps.size() > 1 && !PipelineStepScheduler.mustRunInline(this.executor);
+        if (this.executedInParallel) {
+            if (this.checkpointDirectory != null) {
+                this.getLogger().warn("Checkpoints of {} are ignored because steps are executed in parallel", this.getId());
+            }
+            new PipelineStepScheduler(this.pipelineSteps, this.executor, this::runPipelineStep).execute();
+            return;
+        }
+
+        PipelineCheckpointStore checkpointStore = null;
+        int firstStepIndex = 0;
+        if (this.checkpointDirectory != null) {
+            checkpointStore = PipelineCheckpointStore.create(this.checkpointDirectory, this.getId(), this.pipelineSteps.stream()
+                    .map(AbstractPipelineStep::getId)
+                    .toList(), this.checkpointInputs, this.getLastAppliedConfiguration(), this.getDataRepository()).orElse(null);
+        }
+        if (checkpointStore != null) {
+            firstStepIndex = checkpointStore.restoreLatest(this.getDataRepository()).map(stepIndex -> stepIndex + 1).orElse(0);
+        }
+
+        for (int stepIndex = firstStepIndex; stepIndex < this.pipelineSteps.size(); stepIndex++) {
+            var pipelineStep = this.pipelineSteps.get(stepIndex);
+            this.runPipelineStep(pipelineStep);
+            if (checkpointStore != null && (this.checkpointSteps.isEmpty() || this.checkpointSteps.contains(pipelineStep.getId()))) {
+                checkpointStore.write(stepIndex, this.getDataRepository());
+            }
+        }
+    }
+
+    /**
+     * Runs the given work once for each metamodel and merges the results into a map sorted by metamodel. Agents and stages use it to process their
+     * per-metamodel states. If parallel execution is enabled for this pipeline, the work for the different metamodels runs concurrently on its executor. The
+     * work for one metamodel must therefore only modify data that belongs to this metamodel (e.g., the recommendation state of the metamodel). The merged
+     * result does not depend on the order in which the work completes. If the work fails for several metamodels, the failure of the first metamodel in the
+     * given order is rethrown. If the current thread already runs a task of the executor, the work runs on the current thread (see
+     * {@link #setExecutor(Executor)}).
+     *
+     * @param metamodels the metamodels to process
+     * @param work       the work that should be done for a single metamodel
+     * @param <T>        the type of the per-metamodel results
+     * @return the results of the work, sorted by metamodel
+     */
+    protected final <T> ImmutableSortedMap<Metamodel, T> processPerMetamodel(Collection<Metamodel> metamodels, Function<Metamodel, T> work) {
+        MutableSortedMap<Metamodel, T> results = SortedMaps.mutable.empty();
+        if (!this.isParallelExecution() || metamodels.size() < 2 || PipelineStepScheduler.mustRunInline(this.getExecutor())) {
+            for (var metamodel : metamodels) {
+                results.put(metamodel, work.apply(metamodel));
+            }
+            return results.toImmutable();
+        }
+
+        List<Metamodel> orderedMetamodels = new ArrayList<>(metamodels);
+        List<CompletableFuture<T>> futures = new ArrayList<>(orderedMetamodels.size());
+        Executor trackingExecutor = PipelineStepScheduler.tracking(this.getExecutor());
+        for (var metamodel : orderedMetamodels) {
+            futures.add(CompletableFuture.supplyAsync(() -> work.apply(metamodel), trackingExecutor));
+        }
+        PipelineStepScheduler.awaitAll(futures);
+        for (int i = 0; i < orderedMetamodels.size(); i++) {
+            results.put(orderedMetamodels.get(i), futures.get(i).join());
+        }
+        return results.toImmutable();
+    }
+
+    private void runPipelineStep(AbstractPipelineStep pipelineStep) {
+        this.getLogger().info("Starting {} - {}", this.getId(), pipelineStep.getId());
+        var start = Instant.now();
+
+        pipelineStep.run();
+
+        if (this.getLogger().isInfoEnabled()) {
+            var end = Instant.now();
+            var duration = Duration.between(start, end);
+            long minutesPart = duration.toMinutes();
+            int secondsPart = duration.toSecondsPart();
+            int millisPart = duration.toMillisPart();
+            String durationString;
+            if (minutesPart > 0) {
+                durationString = String.format("%02d:%02d.%03d", minutesPart, secondsPart, millisPart);
+            } else {
+                durationString = String.format("%01d.%03d s", secondsPart, millisPart);
+            }
+
+            this.getLogger().info("Finished {} - {} in {}", this.getId(), pipelineStep.getId(), durationString);
+        }
+    }
+
+    @Override
+    protected List<PipelineStepMetrics> getChildMetrics() {
+        List<PipelineStepMetrics> childMetrics = new ArrayList<>();
         for (var pipelineStep : this.pipelineSteps) {
-            this.getLogger().info("Starting {} - {}", this.getId(), pipelineStep.getId());
-            var start = Instant.now();
-
-            pipelineStep.run();
-
-            if (this.getLogger().isInfoEnabled()) {
-                var end = Instant.now();
-                var duration = Duration.between(start, end);
-                long minutesPart = duration.toMinutes();
-                int secondsPart = duration.toSecondsPart();
-                int millisPart = duration.toMillisPart();
-                String durationString;
-                if (minutesPart > 0) {
-                    durationString = String.format("%02d:%02d.%03d", minutesPart, secondsPart, millisPart);
-                } else {
-                    durationString = String.format("%01d.%03d s", secondsPart, millisPart);
-                }
-
-                this.getLogger().info("Finished {} - {} in {}", this.getId(), pipelineStep.getId(), durationString);
+            pipelineStep.getMetrics().ifPresent(childMetrics::add);
+        }
+        return childMetrics;
+    }
+
+    @Override
+    protected boolean areChildrenRunOnOtherThreads() {
+        return this.executedInParallel;
+    }
+
+    /**
+     * Returns the combined {@link DataAccess} of all pipeline steps. The data access is unknown if the pipeline has no steps (yet) or if any step does not
+     * declare its data access.
+     *
+     * @return the combined data access, or an empty optional if unknown
+     */
+    @Override
+    public Optional<DataAccess> getDataAccess() {
+        return combineDataAccess(this.pipelineSteps);
+    }
+
+    /**
+     * Combines the {@link DataAccess} of the given steps. The data access is unknown if there are no steps or if any step does not declare its data access.
+     *
+     * @param pipelineSteps the steps
+     * @return the combined data access, or an empty optional if unknown
+     */
+    protected static Optional<DataAccess> combineDataAccess(Iterable<? extends AbstractPipelineStep> pipelineSteps) {
+        DataAccess combined = null;
+        for (var pipelineStep : pipelineSteps) {
+            var dataAccess = pipelineStep.getDataAccess();
+            if (dataAccess.isEmpty()) {
+                return Optional.empty();
             }
+            combined = combined == null ? dataAccess.get() : combined.union(dataAccess.get());
         }
+        return Optional.ofNullable(combined);
     }
 
     @Override
@@ -0,0 +1,349 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import edu.kit.kastel.mcse.ardoco.core.common.JsonHandling;
+import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
+import edu.kit.kastel.mcse.ardoco.core.data.PipelineStepData;
+import edu.kit.kastel.mcse.ardoco.core.data.PipelineStepDataCodecs;
+
+/**
+ * Local store for checkpoints of a {@link Pipeline}. A checkpoint contains the contents of the {@link DataRepository} after a pipeline step, serialized via
+ * {@link PipelineStepData#serialize()}. Checkpoints are only valid for the same sequence of pipeline steps and are written atomically, so an interrupted run
+ * never leaves a partially written checkpoint behind.
+ * <p>
+ * Each checkpoint also stores a fingerprint of the inputs of the run: the contents of the input files (e.g., text and model), the applied configuration, and
+ * the contents of the data repository before the first step. Checkpoints with a different fingerprint are discarded. Data that is unchanged since the start
+ * of the run is covered by the fingerprint and therefore not written again. If any other data cannot be serialized, no checkpoint is written after that step,
+ * so a run resumes from the last step after which all data could be serialized.
+ * <p>
+ * The fingerprint also covers the version of the checkpoint format, of the binary {@link PipelineStepDataCodecs codecs}, and of the framework build (if
+ * known). In addition, each entry stores the version of its type: the version of its codec or, without a codec, the serial version UID and the fields of its
+ * class hierarchy. Checkpoints with an entry whose type changed are ignored, so checkpoints of an older build are not restored into changed classes.
+ * <p>
+ * Each data is serialized on its own. Objects that several data refer to (e.g., the words of the text that are referenced by several states) are therefore
+ * restored as separate copies per data, and changes to the copy of one data are not visible in the others. Checkpoints should only be written after steps
+ * after which no such shared objects are modified anymore, see {@link Pipeline#setCheckpointDirectory(Path)}.
+ */
+final class PipelineCheckpointStore {
+    private static final Logger logger = LoggerFactory.getLogger(PipelineCheckpointStore.class);
+
+    /**
+     * Version of the checkpoint format, which must be increased whenever the format changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String FIELD_FINGERPRINT = "fingerprint";
+    private static final String FIELD_STEPS = "steps";
+    private static final String FIELD_STEP_INDEX = "stepIndex";
+    private static final String FIELD_ENTRIES = "entries";
+    private static final String FIELD_IDENTIFIER = "identifier";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_DATA = "data";
+
+    private final Path directory;
+    private final List<String> stepIds;
+    private final String fingerprint;
+    private final SortedMap<String, String> initialData;
+    private final ObjectMapper objectMapper = JsonHandling.createObjectMapper();
+
+    private PipelineCheckpointStore(Path checkpointDirectory, String pipelineId, List<String> stepIds, String fingerprint,
+            SortedMap<String, String> initialData) {
+        this.directory = checkpointDirectory.resolve(pipelineId.replaceAll("[^A-Za-z0-9._-]", "_"));
+        this.stepIds = List.copyOf(stepIds);
+        this.fingerprint = fingerprint;
+        this.initialData = initialData;
+    }
+
+    /**
+     * Creates a checkpoint store for a pipeline that is about to run. The fingerprint of the run is computed from the versions of the checkpoint format, the
+     * codecs and the framework, the given inputs, the given configuration and the current contents of the data repository.
+     *
+     * @param checkpointDirectory the base directory of all checkpoints
+     * @param pipelineId          the id of the pipeline
+     * @param stepIds             the ids of the pipeline steps in execution order
+     * @param inputs              the input files or directories of the run
+     * @param configuration       the configuration applied to the pipeline
+     * @param dataRepository      the data repository before the first step
+     * @return the checkpoint store, or an empty optional if the fingerprint cannot be computed because an input cannot be read or initial data cannot be
+     *         serialized
+     */
+    static Optional<PipelineCheckpointStore> create(Path checkpointDirectory, String pipelineId, List<String> stepIds, List<Path> inputs,
+            ImmutableSortedMap<String, String> configuration, DataRepository dataRepository) {
+        MessageDigest digest = createDigest();
+        update(digest, String.valueOf(FORMAT_VERSION));
+        update(digest, PipelineStepDataCodecs.getVersion());
+        update(digest, String.valueOf(PipelineCheckpointStore.class.getPackage().getImplementationVersion()));
+        for (var input : inputs) {
+            update(digest, input.getFileName() == null ? "" : input.getFileName().toString());
+            try {
+                updateWithInput(digest, input);
+            } catch (IOException e) {
+                logger.warn("Checkpoints of {} are disabled because input {} cannot be read: {}", pipelineId, input, e.getMessage());
+                return Optional.empty();
+            }
+        }
+        configuration.forEachKeyValue((key, value) -> {
+            update(digest, key);
+            update(digest, value);
+        });
+        SortedMap<String, String> initialData = new TreeMap<>();
+        for (var identifier : dataRepository.getDataIdentifiers()) {
+            var data = dataRepository.getData(identifier, PipelineStepData.class).orElseThrow();
+            var serializedData = data.serialize();
+            if (serializedData == null) {
+                logger.warn("Checkpoints of {} are disabled because initial data '{}' cannot be serialized", pipelineId, identifier);
+                return Optional.empty();
+            }
+            update(digest, identifier);
+            update(digest, data.getClass().getName());
+            update(digest, getTypeVersion(data.getClass()));
+            update(digest, serializedData);
+            initialData.put(identifier, serializedData);
+        }
+        return Optional.of(new PipelineCheckpointStore(checkpointDirectory, pipelineId, stepIds, HexFormat.of().formatHex(digest.digest()), initialData));
+    }
+
+    /**
+     * Writes a checkpoint with the contents of the data repository after the step with the given index. Data that is unchanged since the start of the run is
+     * omitted. If any other data cannot be serialized, no checkpoint is written.
+     *
+     * @param stepIndex      the index of the finished step
+     * @param dataRepository the data repository
+     */
+    void write(int stepIndex, DataRepository dataRepository) {
+        ObjectNode checkpoint = this.objectMapper.createObjectNode();
+        checkpoint.put(FIELD_FINGERPRINT, this.fingerprint);
+        ArrayNode steps = checkpoint.putArray(FIELD_STEPS);
+        for (var stepId : this.stepIds) {
+            steps.add(stepId);
+        }
+        checkpoint.put(FIELD_STEP_INDEX, stepIndex);
+        ArrayNode entries = checkpoint.putArray(FIELD_ENTRIES);
+
+        for (var identifier : dataRepository.getDataIdentifiers()) {
+            var data = dataRepository.getData(identifier, PipelineStepData.class).orElseThrow();
+            var serializedData = data.serialize();
+            if (serializedData == null) {
+                logger.warn("Skipping checkpoint after {} because data '{}' could not be serialized", this.stepIds.get(stepIndex), identifier);
+                return;
+            }
+            if (serializedData.equals(this.initialData.get(identifier))) {
+                continue;
+            }
+            ObjectNode entry = entries.addObject();
+            entry.put(FIELD_IDENTIFIER, identifier);
+            entry.put(FIELD_TYPE, data.getClass().getName());
+            entry.put(FIELD_VERSION, getTypeVersion(data.getClass()));
+            entry.put(FIELD_DATA, serializedData);
+        }
+
+        try {
+            Files.createDirectories(this.directory);
+            Path checkpointFile = this.getCheckpointFile(stepIndex);
+            Path temporaryFile = Files.createTempFile(this.directory, "checkpoint", ".tmp");
+            Files.writeString(temporaryFile, this.objectMapper.writeValueAsString(checkpoint), StandardCharsets.UTF_8);
+            try {
+                Files.move(temporaryFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            logger.info("Wrote checkpoint after {} to {}", this.stepIds.get(stepIndex), checkpointFile);
+        } catch (IOException e) {
+            logger.warn("Could not write checkpoint after {}: {}", this.stepIds.get(stepIndex), e.getMessage());
+        }
+    }
+
+    /**
+     * Restores the last valid checkpoint into the data repository.
+     *
+     * @param dataRepository the data repository
+     * @return the index of the step after which the restored checkpoint was written, or an empty optional if there is no valid checkpoint
+     */
+    Optional<Integer> restoreLatest(DataRepository dataRepository) {
+        for (int stepIndex = this.stepIds.size() - 1; stepIndex >= 0; stepIndex--) {
+            var entries = this.read(stepIndex);
+            if (entries.isPresent()) {
+                for (var entry : entries.get()) {
+                    dataRepository.addData(entry.identifier(), entry.data());
+                }
+                logger.info("Resuming after {} from checkpoint", this.stepIds.get(stepIndex));
+                return Optional.of(stepIndex);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<List<CheckpointEntry>> read(int stepIndex) {
+        Path checkpointFile = this.getCheckpointFile(stepIndex);
+        if (!Files.isRegularFile(checkpointFile)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode checkpoint = this.objectMapper.readTree(checkpointFile.toFile());
+            if (!this.fingerprint.equals(checkpoint.path(FIELD_FINGERPRINT).asText())) {
+                logger.info("Discarding checkpoint {} because it was written for different inputs or a different configuration", checkpointFile);
+                Files.deleteIfExists(checkpointFile);
+                return Optional.empty();
+            }
+            List<String> steps = new ArrayList<>();
+            for (JsonNode step : checkpoint.path(FIELD_STEPS)) {
+                steps.add(step.asText());
+            }
+            if (!this.stepIds.equals(steps) || checkpoint.path(FIELD_STEP_INDEX).asInt(-1) != stepIndex) {
+                logger.info("Ignoring checkpoint {} because it was written for different pipeline steps", checkpointFile);
+                return Optional.empty();
+            }
+
+            List<CheckpointEntry> entries = new ArrayList<>();
+            for (JsonNode entry : checkpoint.path(FIELD_ENTRIES)) {
+                var typeVersion = getTypeVersion(entry.path(FIELD_TYPE).asText());
+                if (typeVersion.isEmpty() || !typeVersion.get().equals(entry.path(FIELD_VERSION).asText())) {
+                    logger.info("Ignoring checkpoint {} because the type of data '{}' changed", checkpointFile, entry.path(FIELD_IDENTIFIER).asText());
+                    return Optional.empty();
+                }
+                var data = deserialize(entry.path(FIELD_TYPE).asText(), entry.path(FIELD_DATA).asText());
+                if (data == null) {
+                    logger.warn("Ignoring checkpoint {} because data '{}' could not be deserialized", checkpointFile, entry.path(FIELD_IDENTIFIER).asText());
+                    return Optional.empty();
+                }
+                entries.add(new CheckpointEntry(entry.path(FIELD_IDENTIFIER).asText(), data));
+            }
+            return Optional.of(entries);
+        } catch (IOException e) {
+            logger.warn("Ignoring invalid checkpoint {}: {}", checkpointFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deserializes data via its {@link edu.kit.kastel.mcse.ardoco.core.data.PipelineStepDataCodec codec}, if the data was encoded by one. Otherwise, uses
+     * {@link PipelineStepData#deserialize(String)} of a prototype created with the no-argument constructor of the given type.
+     */
+    private static PipelineStepData deserialize(String type, String serializedData) {
+        try {
+            Class<? extends PipelineStepData> clazz = Class.forName(type).asSubclass(PipelineStepData.class);
+            var codec = PipelineStepDataCodecs.find(clazz);
+            if (codec.isPresent() && PipelineStepDataCodecs.isBinary(serializedData)) {
+                return PipelineStepDataCodecs.deserialize(codec.get(), serializedData);
+            }
+            var constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance().deserialize(serializedData);
+        } catch (ReflectiveOperationException | ClassCastException | IOException e) {
+            logger.warn("Cannot deserialize data of type {}: {}", type, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Optional<String> getTypeVersion(String type) {
+        try {
+            return Optional.of(getTypeVersion(Class.forName(type)));
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Describes the version of a type of data: the version of its codec or, without a codec, the serial version UID and the serializable fields of each class
+     * in its hierarchy.
+     */
+    private static String getTypeVersion(Class<?> type) {
+        var codec = PipelineStepDataCodecs.find(type);
+        if (codec.isPresent()) {
+            return codec.get().getClass().getName() + " " + codec.get().getVersion();
+        }
+        StringJoiner version = new StringJoiner(";");
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            ObjectStreamClass streamClass = ObjectStreamClass.lookupAny(current);
+            version.add(current.getName() + " " + streamClass.getSerialVersionUID());
+            for (ObjectStreamField field : streamClass.getFields()) {
+                version.add(field.getName() + ":" + field.getType().getName());
+            }
+        }
+        return version.toString();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Updates the digest with the length and the contents of the given value, so that different sequences of values never produce the same input.
+     */
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    /**
+     * Updates the digest with the contents of a file or, for a directory, with the relative paths and contents of all files in it in sorted order.
+     */
+    private static void updateWithInput(MessageDigest digest, Path input) throws IOException {
+        if (!Files.isDirectory(input)) {
+            updateWithFile(digest, input);
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(input)) {
+            files = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+        for (var file : files) {
+            update(digest, input.relativize(file).toString().replace('\\', '/'));
+            updateWithFile(digest, file);
+        }
+    }
+
+    private static void updateWithFile(MessageDigest digest, Path file) throws IOException {
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(Files.size(file)).array());
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    private Path getCheckpointFile(int stepIndex) {
+        return this.directory.resolve(String.format("checkpoint-%03d.json", stepIndex));
+    }
+
+    private record CheckpointEntry(String identifier, PipelineStepData data) {
+    }
+}
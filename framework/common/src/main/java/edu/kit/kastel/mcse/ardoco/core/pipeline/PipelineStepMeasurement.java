@@ -0,0 +1,71 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Measures wall time, CPU time, and allocated bytes of the current thread between {@link #start()} and {@link #stop(String, String, List, boolean)}.
+ */
+final class PipelineStepMeasurement {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean ALLOCATION_MX_BEAN = THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported() ? bean : null;
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private final long startWallTime;
+    private final long startCpuTime;
+    private final long startAllocatedBytes;
+
+    private PipelineStepMeasurement() {
+        this.startWallTime = System.nanoTime();
+        this.startCpuTime = currentCpuTime();
+        this.startAllocatedBytes = currentAllocatedBytes();
+    }
+
+    /**
+     * {@return a new measurement that starts now on the current thread}
+     */
+    static PipelineStepMeasurement start() {
+        return new PipelineStepMeasurement();
+    }
+
+    /**
+     * Stops the measurement. Must be called on the thread that started it.
+     *
+     * @param id                     the id of the measured step
+     * @param type                   the type of the measured step
+     * @param children               the metrics of the sub-steps
+     * @param childrenOnOtherThreads whether the sub-steps ran on other threads, so that their CPU time and allocations have to be added
+     * @return the metrics
+     */
+    PipelineStepMetrics stop(String id, String type, List<PipelineStepMetrics> children, boolean childrenOnOtherThreads) {
+        long wallTime = System.nanoTime() - this.startWallTime;
+        long cpuTime = difference(this.startCpuTime, currentCpuTime());
+        long allocatedBytes = difference(this.startAllocatedBytes, currentAllocatedBytes());
+        if (childrenOnOtherThreads) {
+            for (var child : children) {
+                cpuTime = sum(cpuTime, child.cpuTimeNanos());
+                allocatedBytes = sum(allocatedBytes, child.allocatedBytes());
+            }
+        }
+        return new PipelineStepMetrics(id, type, wallTime, cpuTime, allocatedBytes, children);
+    }
+
+    private static long currentCpuTime() {
+        return CPU_TIME_SUPPORTED && THREAD_MX_BEAN.isThreadCpuTimeEnabled() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long currentAllocatedBytes() {
+        return ALLOCATION_MX_BEAN != null && ALLOCATION_MX_BEAN.isThreadAllocatedMemoryEnabled() ? ALLOCATION_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static long difference(long start, long end) {
+        return start < 0 || end < 0 ? -1 : end - start;
+    }
+
+    private static long sum(long first, long second) {
+        return first < 0 || second < 0 ? -1 : first + second;
+    }
+}
@@ -0,0 +1,134 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import edu.kit.kastel.mcse.ardoco.core.common.JsonHandling;
+import edu.kit.kastel.mcse.ardoco.core.data.PipelineStepData;
+
+/**
+ * Resource usage of one execution of an {@link AbstractPipelineStep}, including the metrics of its sub-steps if the step is a {@link Pipeline}. All values
+ * are inclusive, i.e., the values of a pipeline contain the values of its sub-steps. CPU time and allocated bytes are measured per thread; they are -1 if the
+ * JVM does not support measuring them.
+ *
+ * @param id             the id of the step
+ * @param type           the simple class name of the step
+ * @param wallTimeNanos  the elapsed wall-clock time in nanoseconds
+ * @param cpuTimeNanos   the CPU time in nanoseconds
+ * @param allocatedBytes the number of bytes allocated on the heap
+ * @param children       the metrics of the sub-steps in execution order
+ */
+public record PipelineStepMetrics(String id, String type, long wallTimeNanos, long cpuTimeNanos, long allocatedBytes, List<PipelineStepMetrics> children)
+        implements PipelineStepData {
+    /**
+     * The id of the metrics of the complete run in the {@link edu.kit.kastel.mcse.ardoco.core.data.DataRepository}.
+     */
+    public static final String ID = "PipelineStepMetrics";
+
+    private static final String CSV_HEADER = "path,type,depth,wallTimeNanos,cpuTimeNanos,allocatedBytes";
+
+    /**
+     * Creates new metrics. The children are copied.
+     */
+    public PipelineStepMetrics {
+        children = List.copyOf(children);
+    }
+
+    /**
+     * Searches this node and its descendants (depth-first, in execution order) for the metrics of the step with the given id.
+     *
+     * @param stepId the id of the step
+     * @return the metrics of the first step with the given id, or an empty optional if there is none
+     */
+    public Optional<PipelineStepMetrics> find(String stepId) {
+        if (this.id.equals(stepId)) {
+            return Optional.of(this);
+        }
+        for (var child : this.children) {
+            var result = child.find(stepId);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@return this node and all its descendants in depth-first order}
+     */
+    public List<PipelineStepMetrics> flatten() {
+        List<PipelineStepMetrics> nodes = new ArrayList<>();
+        this.collect(nodes);
+        return List.copyOf(nodes);
+    }
+
+    private void collect(List<PipelineStepMetrics> nodes) {
+        nodes.add(this);
+        for (var child : this.children) {
+            child.collect(nodes);
+        }
+    }
+
+    /**
+     * {@return the wall-clock time of this step that is not spent in its sub-steps, in nanoseconds}
+     */
+    public long selfWallTimeNanos() {
+        long childTime = 0;
+        for (var child : this.children) {
+            childTime += child.wallTimeNanos;
+        }
+        return Math.max(0, this.wallTimeNanos - childTime);
+    }
+
+    /**
+     * {@return the metrics tree as JSON}
+     */
+    public String toJson() {
+        try {
+            return JsonHandling.createObjectMapper().writeValueAsString(this);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the metrics tree as CSV with one line per step. Steps are identified by the slash-separated path of ids from the root.
+     *
+     * @return the metrics as CSV including a header line
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        this.appendCsv(csv, "", 0);
+        return csv.toString();
+    }
+
+    private void appendCsv(StringBuilder csv, String parentPath, int depth) {
+        String path = parentPath.isEmpty() ? this.id : parentPath + "/" + this.id;
+        csv.append(escapeCsv(path))
+                .append(',')
+                .append(escapeCsv(this.type))
+                .append(',')
+                .append(depth)
+                .append(',')
+                .append(this.wallTimeNanos)
+                .append(',')
+                .append(this.cpuTimeNanos)
+                .append(',')
+                .append(this.allocatedBytes)
+                .append('\n');
+        for (var child : this.children) {
+            child.appendCsv(csv, path, depth + 1);
+        }
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,141 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Schedules pipeline steps as a directed acyclic graph derived from their {@link DataAccess}. A step depends on every earlier step whose data access
+ * conflicts with its own (or that does not declare its data access), so independent steps run concurrently while the results stay the same as for the
+ * sequential execution order.
+ * <p>
+ * Tasks submitted by the scheduler (and by {@link Pipeline#processPerMetamodel(java.util.Collection, java.util.function.Function)}) remember the executor
+ * they run on. Nested work for the same executor must run inline (see {@link #mustRunInline(Executor)}): a task that submits work to its own bounded
+ * executor and waits for it would otherwise wait for threads that are all blocked in the same way.
+ */
+final class PipelineStepScheduler {
+    private static final ThreadLocal<Executor> currentExecutor = new ThreadLocal<>();
+
+    private final List<AbstractPipelineStep> pipelineSteps;
+    private final Executor executor;
+    private final Consumer<AbstractPipelineStep> stepRunner;
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param pipelineSteps the steps in their sequential order
+     * @param executor      the executor that runs the steps
+     * @param stepRunner    the action that runs a single step
+     */
+    PipelineStepScheduler(List<AbstractPipelineStep> pipelineSteps, Executor executor, Consumer<AbstractPipelineStep> stepRunner) {
+        this.pipelineSteps = List.copyOf(pipelineSteps);
+        this.executor = tracking(executor);
+        this.stepRunner = stepRunner;
+    }
+
+    /**
+     * Runs all steps and waits for their completion. If steps fail, the exception of the first failed step (in sequential order) is rethrown. Steps that depend
+     * on a failed step are not executed.
+     */
+    void execute() {
+        int numberOfSteps = this.pipelineSteps.size();
+        List<Optional<DataAccess>> dataAccesses = new ArrayList<>(numberOfSteps);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(numberOfSteps);
+
+        for (int i = 0; i < numberOfSteps; i++) {
+            var pipelineStep = this.pipelineSteps.get(i);
+            var dataAccess = pipelineStep.getDataAccess();
+
+            List<CompletableFuture<Void>> predecessors = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                if (mustBeOrdered(dataAccesses.get(j), dataAccess)) {
+                    predecessors.add(futures.get(j));
+                }
+            }
+
+            Runnable task = () -> this.stepRunner.accept(pipelineStep);
+            CompletableFuture<Void> future;
+            if (predecessors.isEmpty()) {
+                future = CompletableFuture.runAsync(task, this.executor);
+            } else {
+                future = CompletableFuture.allOf(predecessors.toArray(CompletableFuture[]::new)).thenRunAsync(task, this.executor);
+            }
+            dataAccesses.add(dataAccess);
+            futures.add(future);
+        }
+
+        awaitAll(futures);
+    }
+
+    /**
+     * Waits for the completion of all futures. If futures failed, the exception of the first failed future (in list order) is rethrown, so the reported failure
+     * does not depend on the completion order.
+     *
+     * @param futures the futures to wait for
+     */
+    static void awaitAll(List<? extends CompletableFuture<?>> futures) {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(throwable -> null).join();
+        for (var future : futures) {
+            if (future.isCompletedExceptionally()) {
+                rethrow(future);
+            }
+        }
+    }
+
+    /**
+     * Returns whether work for the given executor must run on the current thread instead of being submitted to the executor. This is the case if the current
+     * thread already runs a task of this executor, as waiting for further tasks of the executor could block all of its threads. A {@link ForkJoinPool}
+     * compensates blocked threads, so work for it is always submitted.
+     *
+     * @param executor the executor
+     * @return whether the work must run inline
+     */
+    static boolean mustRunInline(Executor executor) {
+        return !(executor instanceof ForkJoinPool) && currentExecutor.get() == executor;
+    }
+
+    /**
+     * {@return an executor that submits tasks to the given executor and remembers the executor while the tasks run}
+     *
+     * @param executor the executor
+     */
+    static Executor tracking(Executor executor) {
+        return command -> executor.execute(() -> {
+            Executor previousExecutor = currentExecutor.get();
+            currentExecutor.set(executor);
+            try {
+                command.run();
+            } finally {
+                currentExecutor.set(previousExecutor);
+            }
+        });
+    }
+
+    private static boolean mustBeOrdered(Optional<DataAccess> earlier, Optional<DataAccess> later) {
+        if (earlier.isEmpty() || later.isEmpty()) {
+            return true;
+        }
+        return earlier.get().conflictsWith(later.get());
+    }
+
+    private static void rethrow(CompletableFuture<?> failedFuture) {
+        try {
+            failedFuture.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
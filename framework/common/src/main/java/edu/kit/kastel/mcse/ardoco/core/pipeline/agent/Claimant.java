@@ -1,9 +1,18 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.core.pipeline.agent;
 
+import edu.kit.kastel.mcse.ardoco.core.data.Confidence;
+
 /**
- * Marker interface for classes that claim intermediate results, usually with a certain confidence.
+ * Interface for classes that claim intermediate results, usually with a certain confidence.
  */
 // TODO Serializable for Confidence ??
 public interface Claimant {
+
+    /**
+     * {@return how much provenance a {@link Confidence} records when this claimant adds a confidence}
+     */
+    default Confidence.ProvenanceMode getProvenanceMode() {
+        return Confidence.ProvenanceMode.LAZY;
+    }
 }
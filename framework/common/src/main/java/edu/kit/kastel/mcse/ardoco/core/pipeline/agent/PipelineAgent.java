@@ -3,6 +3,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 
@@ -10,6 +11,7 @@
 import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.AbstractExecutionStage;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.DataAccess;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.Pipeline;
 
 /**
@@ -90,6 +92,18 @@ public List<Informant> getInformants() {
         return List.copyOf(this.informants);
     }
 
+    /**
+     * Returns the combined {@link DataAccess} of the enabled informants. The informants only become pipeline steps when the agent runs, so the data access is
+     * derived from them directly. It is unknown if any enabled informant does not declare its data access. Agents that access the data repository outside of
+     * their informants, e.g., in {@link #initializeState()}, have to override this method and include that access.
+     *
+     * @return the combined data access, or an empty optional if unknown
+     */
+    @Override
+    public Optional<DataAccess> getDataAccess() {
+        return combineDataAccess(this.informants.stream().filter(informant -> this.enabledInformants.contains(informant.getId())).toList());
+    }
+
     /**
      * Applies additional configuration to internal objects and informants.
      */
@@ -0,0 +1,117 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AggregationFunctions} and its online variants.
+ */
+class AggregationFunctionsTest {
+    private static final double[] VALUES = { 0.4, 0.9, 0.1, 0.7, 0.5, 0.3 };
+
+    @Test
+    void primitiveMatchesCollectionTest() {
+        List<Double> boxed = List.of(0.4, 0.9, 0.1, 0.7, 0.5, 0.3);
+        for (AggregationFunctions function : AggregationFunctions.values()) {
+            Assertions.assertEquals(function.applyAsDouble(boxed), function.applyAsDouble(VALUES), 1e-12, function.name());
+        }
+        Assertions.assertEquals(0.45, AggregationFunctions.MEDIAN.applyAsDouble(VALUES), 1e-12);
+        Assertions.assertEquals(0.3, AggregationFunctions.USE_MOST_RECENT.applyAsDouble(VALUES), 1e-12);
+    }
+
+    @Test
+    void sliceTest() {
+        Assertions.assertEquals(1.6, AggregationFunctions.SUM.applyAsDouble(VALUES, 1, 4), 1e-12);
+        Assertions.assertEquals(0.7, AggregationFunctions.MEDIAN.applyAsDouble(VALUES, 1, 4), 1e-12);
+        Assertions.assertEquals(0.1, AggregationFunctions.MIN.applyAsDouble(VALUES, 1, 4), 1e-12);
+        Assertions.assertArrayEquals(new double[] { 0.4, 0.9, 0.1, 0.7, 0.5, 0.3 }, VALUES);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> AggregationFunctions.SUM.applyAsDouble(VALUES, 4, 7));
+    }
+
+    @Test
+    void emptyValuesTest() {
+        double[] empty = new double[0];
+        for (AggregationFunctions function : AggregationFunctions.values()) {
+            switch (function) {
+            case SUM, USE_MOST_RECENT -> {
+                Assertions.assertEquals(0.0, function.applyAsDouble(empty), function.name());
+                Assertions.assertEquals(0.0, function.applyAsDouble(List.of()), function.name());
+                Assertions.assertEquals(0.0, function.applyAsDouble(VALUES, 2, 2), function.name());
+                Assertions.assertEquals(0.0, function.createOnlineAggregator().getValue(), function.name());
+            }
+            case HARMONIC, ROOTMEANSQUARED, CUBICMEAN -> {
+                Assertions.assertTrue(Double.isNaN(function.applyAsDouble(empty)), function.name());
+                Assertions.assertTrue(Double.isNaN(function.applyAsDouble(List.of())), function.name());
+                Assertions.assertTrue(Double.isNaN(function.applyAsDouble(VALUES, 2, 2)), function.name());
+                Assertions.assertTrue(Double.isNaN(function.createOnlineAggregator().getValue()), function.name());
+            }
+            default -> {
+                Assertions.assertThrows(NoSuchElementException.class, () -> function.applyAsDouble(empty), function.name());
+                Assertions.assertThrows(NoSuchElementException.class, () -> function.applyAsDouble(List.of()), function.name());
+                Assertions.assertThrows(NoSuchElementException.class, () -> function.applyAsDouble(VALUES, 2, 2), function.name());
+                Assertions.assertThrows(NoSuchElementException.class, () -> function.createOnlineAggregator().getValue(), function.name());
+            }
+            }
+        }
+    }
+
+    @Test
+    void onlineMatchesBatchTest() {
+        for (AggregationFunctions function : AggregationFunctions.values()) {
+            OnlineAggregator aggregator = function.createOnlineAggregator();
+            for (int i = 0; i < 5; i++) {
+                aggregator.add(VALUES[i]);
+            }
+            Assertions.assertEquals(5, aggregator.getCount());
+            Assertions.assertEquals(function.applyAsDouble(VALUES, 0, 5), aggregator.getValue(), function.name());
+        }
+    }
+
+    @Test
+    void sumsAreCompensatedTest() {
+        Random random = new Random(42);
+        double[] values = new double[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * Math.pow(10, random.nextInt(20) - 10);
+        }
+        Assertions.assertEquals(DoubleStream.of(values).sum(), AggregationFunctions.SUM.applyAsDouble(values));
+        Assertions.assertEquals(DoubleStream.of(values).average().getAsDouble(), AggregationFunctions.AVERAGE.applyAsDouble(values));
+        // A naive sum of ten times 0.1 yields 0.9999999999999999
+        double[] tenths = new double[10];
+        Arrays.fill(tenths, 0.1);
+        Assertions.assertEquals(1.0, AggregationFunctions.SUM.applyAsDouble(tenths));
+
+        for (AggregationFunctions function : List.of(AggregationFunctions.SUM, AggregationFunctions.AVERAGE, AggregationFunctions.HARMONIC,
+                AggregationFunctions.ROOTMEANSQUARED, AggregationFunctions.CUBICMEAN)) {
+            OnlineAggregator aggregator = function.createOnlineAggregator();
+            for (double value : values) {
+                aggregator.add(value);
+            }
+            Assertions.assertEquals(function.applyAsDouble(values), aggregator.getValue(), function.name());
+        }
+
+        OnlineAggregator infiniteSum = AggregationFunctions.SUM.createOnlineAggregator();
+        infiniteSum.add(Double.POSITIVE_INFINITY);
+        infiniteSum.add(Double.POSITIVE_INFINITY);
+        Assertions.assertEquals(DoubleStream.of(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY).sum(), infiniteSum.getValue());
+    }
+
+    @Test
+    void medianEstimateTest() {
+        Random random = new Random(42);
+        double[] values = new double[10_000];
+        OnlineAggregator estimator = AggregationFunctions.MEDIAN.createOnlineAggregator();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble();
+            estimator.add(values[i]);
+        }
+        Assertions.assertEquals(AggregationFunctions.MEDIAN.applyAsDouble(values), estimator.getValue(), 0.02);
+    }
+}
@@ -0,0 +1,144 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.apache.commons.text.similarity.CosineSimilarity;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * Tests for {@link PhraseVector}.
+ */
+@Deterministic
+class PhraseVectorTest {
+    private static final String[] TERMS = { "the", "database", "server", "stores", "data", "cache", "web" };
+
+    @Test
+    void cosineSimilarityMatchesCommonsText() {
+        var random = new Random(42);
+        var cosineSimilarity = new CosineSimilarity();
+        for (int i = 0; i < 1_000; i++) {
+            var first = randomPhraseVector(random, 0);
+            var second = randomPhraseVector(random, 1);
+            var dictionary = new TermDictionary();
+
+            double expected = cosineSimilarity.cosineSimilarity(toTextVector(first), toTextVector(second));
+            assertEquals(expected, PhraseVector.of(first, dictionary).cosineSimilarity(PhraseVector.of(second, dictionary)));
+        }
+    }
+
+    @Test
+    void coversChecksContainedWords() {
+        var dictionary = new TermDictionary();
+        var the = new TestWord("the", 0, 0);
+        var database = new TestWord("database", 0, 1);
+        var server = new TestWord("server", 0, 2);
+        var otherDatabase = new TestWord("database", 1, 7);
+
+        var large = PhraseVector.of(new TreeMap<>(Map.of(the, 1, database, 1, server, 1)), dictionary);
+        var small = PhraseVector.of(new TreeMap<>(Map.of(database, 1, server, 1)), dictionary);
+        var other = PhraseVector.of(new TreeMap<>(Map.of(otherDatabase, 1)), dictionary);
+
+        assertTrue(large.covers(small));
+        assertTrue(large.covers(large));
+        assertFalse(small.covers(large));
+        assertFalse(large.covers(other));
+        assertEquals(1.0, small.cosineSimilarity(PhraseVector.of(new TreeMap<>(Map.of(otherDatabase, 1, server, 1)), dictionary)), 1e-12);
+        assertEquals(3, dictionary.size());
+    }
+
+    private static Map<Word, Integer> randomPhraseVector(Random random, int sentence) {
+        Map<Word, Integer> vector = new TreeMap<>();
+        int size = random.nextInt(TERMS.length);
+        for (int position = 0; position < size; position++) {
+            vector.putIfAbsent(new TestWord(TERMS[random.nextInt(TERMS.length)], sentence, position), 1 + random.nextInt(3));
+        }
+        // phrase vectors contain each text once
+        Map<String, Word> wordsByText = new LinkedHashMap<>();
+        for (Word word : vector.keySet()) {
+            wordsByText.putIfAbsent(word.getText(), word);
+        }
+        vector.keySet().retainAll(wordsByText.values());
+        return vector;
+    }
+
+    private static Map<CharSequence, Integer> toTextVector(Map<Word, Integer> phraseVector) {
+        Map<CharSequence, Integer> textVector = new LinkedHashMap<>();
+        for (var entry : phraseVector.entrySet()) {
+            textVector.put(entry.getKey().getText(), entry.getValue());
+        }
+        return textVector;
+    }
+
+    private record TestWord(String text, int sentenceNumber, int position) implements Word {
+        @Override
+        public int getSentenceNumber() {
+            return this.sentenceNumber;
+        }
+
+        @Override
+        public Sentence getSentence() {
+            return null;
+        }
+
+        @Override
+        public String getText() {
+            return this.text;
+        }
+
+        @Override
+        public POSTag getPosTag() {
+            return null;
+        }
+
+        @Override
+        public Word getPreWord() {
+            return null;
+        }
+
+        @Override
+        public Word getNextWord() {
+            return null;
+        }
+
+        @Override
+        public int getPosition() {
+            return this.position;
+        }
+
+        @Override
+        public String getLemma() {
+            return this.text;
+        }
+
+        @Override
+        public ImmutableList<Word> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
+            return null;
+        }
+
+        @Override
+        public ImmutableList<Word> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
+            return null;
+        }
+
+        @Override
+        public Phrase getPhrase() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.equality.EqualityMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.jarowinkler.JaroWinklerMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein.BitParallelLevenshteinMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein.LevenshteinMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.strategy.ComparisonStrategy;
+
+/**
+ * Tests for {@link SimilarityCandidateIndex}.
+ */
+class SimilarityCandidateIndexTest {
+
+    @Test
+    void candidatesContainAllSimilarTerms() {
+        assertCandidatesContainAllSimilarTerms(new WordSimUtils(), new SimilarityCandidateIndex<>());
+    }
+
+    @Test
+    void boundsAreDerivedFromMeasures() {
+        List<WordSimMeasure> measures = List.of(new EqualityMeasure(), new BitParallelLevenshteinMeasure(2, 3, 1.0), new JaroWinklerMeasure(0.75));
+        var wordSimUtils = new WordSimUtils();
+        wordSimUtils.setMeasures(measures);
+
+        SimilarityCandidateIndex<Integer> index = SimilarityCandidateIndex.<Integer>forMeasures(measures, ComparisonStrategy.AT_LEAST_ONE).orElseThrow();
+        assertTrue(index.covers(wordSimUtils.getMeasures(), wordSimUtils.getComparisonStrategy()));
+        assertCandidatesContainAllSimilarTerms(wordSimUtils, index);
+
+        assertTrue(index.covers(List.of(new LevenshteinMeasure(0, 1, 0.5), new JaroWinklerMeasure(0.9)), ComparisonStrategy.AT_LEAST_ONE));
+        assertFalse(index.covers(List.of(new LevenshteinMeasure(0, 4, 1.0)), ComparisonStrategy.AT_LEAST_ONE));
+        assertFalse(index.covers(List.of(new JaroWinklerMeasure(0.7)), ComparisonStrategy.AT_LEAST_ONE));
+        assertFalse(new SimilarityCandidateIndex<Integer>(false, 0, true, 0.9).covers(List.of(new LevenshteinMeasure()), ComparisonStrategy.AT_LEAST_ONE));
+    }
+
+    @Test
+    void customMeasuresAndStrategiesAreNotCovered() {
+        List<WordSimMeasure> measures = List.of(new EqualityMeasure(), new AcceptingMeasure());
+        ComparisonStrategy allMeasures = (context, usedMeasures) -> usedMeasures.stream().allMatch(measure -> measure.areWordsSimilar(context));
+
+        assertTrue(SimilarityCandidateIndex.forMeasures(measures, ComparisonStrategy.AT_LEAST_ONE).isEmpty());
+        assertTrue(SimilarityCandidateIndex.forMeasures(List.of(new EqualityMeasure()), allMeasures).isEmpty());
+        assertTrue(SimilarityCandidateIndex.forMeasures(List.of(new LevenshteinMeasure() {
+        }), ComparisonStrategy.AT_LEAST_ONE).isEmpty());
+
+        var index = new SimilarityCandidateIndex<String>();
+        assertFalse(index.covers(measures, ComparisonStrategy.AT_LEAST_ONE));
+        assertFalse(index.covers(List.of(new EqualityMeasure()), allMeasures));
+        assertTrue(index.covers(List.of(new EqualityMeasure()), ComparisonStrategy.AT_LEAST_ONE));
+
+        index.add("database", "database");
+        index.add("xyz", "xyz");
+        assertEquals(Lists.immutable.with("database"), index.getCandidates("databases"));
+        assertEquals(Lists.immutable.with("database", "xyz"), index.getValues());
+    }
+
+    private static void assertCandidatesContainAllSimilarTerms(WordSimUtils wordSimUtils, SimilarityCandidateIndex<Integer> index) {
+        var random = new Random(42);
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            terms.add(randomTerm(random));
+        }
+        terms.addAll(List.of("", "a", "Database", "databases", "DataBase", "server", "servers", "sever", "web cache", "webcache"));
+
+        for (int i = 0; i < terms.size(); i++) {
+            index.add(terms.get(i), i);
+        }
+        assertEquals(terms.size(), index.size());
+
+        for (String query : terms) {
+            var candidates = index.getCandidates(query);
+            for (int i = 0; i < terms.size(); i++) {
+                if (wordSimUtils.areWordsSimilar(query, terms.get(i))) {
+                    assertTrue(candidates.contains(i), () -> "Missing candidate for " + query);
+                }
+            }
+        }
+    }
+
+    @Test
+    void candidatesAreFiltered() {
+        var index = new SimilarityCandidateIndex<String>(true, 1, true, 0.9);
+        for (String term : List.of("database", "server", "logging", "controller", "cache")) {
+            index.add(term, term);
+        }
+        index.add("DB", "database");
+
+        assertEquals(Lists.immutable.with("database"), index.getCandidates("Databases"));
+        assertEquals(Lists.immutable.with("server"), index.getCandidates("sever"));
+        assertEquals(Lists.immutable.with("database", "cache"), index.getCandidates(Lists.immutable.with("db", "caches")));
+        assertTrue(index.getCandidates("xyz").isEmpty());
+    }
+
+    private static String randomTerm(Random random) {
+        var builder = new StringBuilder();
+        int length = 1 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(8)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A custom measure that considers all terms similar.
+     */
+    private static final class AcceptingMeasure implements WordSimMeasure {
+        @Override
+        public boolean areWordsSimilar(ComparisonContext comparisonContext) {
+            return true;
+        }
+
+        @Override
+        public double getSimilarity(ComparisonContext comparisonContext) {
+            return 1.0;
+        }
+    }
+}
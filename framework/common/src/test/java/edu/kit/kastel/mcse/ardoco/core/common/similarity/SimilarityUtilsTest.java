@@ -0,0 +1,294 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity;
+
+import java.io.Serial;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.entity.ArchitectureEntityImpl;
+import edu.kit.kastel.mcse.ardoco.core.api.entity.ModelEntity;
+import edu.kit.kastel.mcse.ardoco.core.api.stage.recommendationgenerator.RecommendedInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.stage.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.equality.EqualityMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
+
+/**
+ * Tests for {@link SimilarityUtils}.
+ */
+class SimilarityUtilsTest {
+    private static final double[][] PROPORTIONS = { { 0.5, 0.05 }, { 0.0, 0.1 }, { 0.3, 0.25 }, { 0.6, 0.2 }, { 0.95, 0.05 }, { 1.1, 0.05 } };
+
+    private static final ImmutableList<ModelEntity> ENTITIES = Lists.immutable.of(new ArchitectureEntityImpl("DatabaseConnector", "Component", "1"),
+            new ArchitectureEntityImpl("Cache", "Component", "2"), new ArchitectureEntityImpl("UserInterface", "Component", "3"), new ArchitectureEntityImpl(
+                    "ImageStorageService", "Component", "4"), new ArchitectureEntityImpl("Logger", "Component", "5"));
+
+    private static final ImmutableList<RecommendedInstance> CANDIDATES = Lists.immutable.of(candidate("database", "database", "Database"), candidate(
+            "database connector", "DatabaseConnector", "database connector"), candidate("connector", "connector"), candidate("data base", "data base"),
+            candidate("db connector", "db-connector"), candidate("cache", "cache", "caches"), candidate("caching", "caching"), candidate("user interface",
+                    "user interface", "UI"), candidate("user", "user", "users"), candidate("interface", "interface"), candidate("image storage", "image storage",
+                            "ImageStorage"), candidate("storage service", "storage service"), candidate("image", "images"), candidate("logger", "logger",
+                                    "logging"), candidate("log", "log"));
+
+    @Test
+    void selectsLikeFormerAlgorithmTest() {
+        SimilarityUtils similarityUtils = new SimilarityUtils(new WordSimUtils());
+        for (double[] proportions : PROPORTIONS) {
+            for (ModelEntity entity : ENTITIES) {
+                for (int offset = 0; offset < CANDIDATES.size(); offset += 4) {
+                    ImmutableList<RecommendedInstance> recommendedInstances = CANDIDATES.drop(offset).newWithAll(CANDIDATES.take(offset));
+                    var expected = FormerSelection.select(similarityUtils, entity, recommendedInstances, proportions[0], proportions[1]);
+                    var actual = similarityUtils.getMostRecommendedInstancesToInstanceByReferences(entity, recommendedInstances, proportions[0],
+                            proportions[1]);
+                    Assertions.assertEquals(expected, actual, entity.getName() + " with proportions " + proportions[0] + " and " + proportions[1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void selectsForSeveralEntitiesTest() {
+        SimilarityUtils similarityUtils = new SimilarityUtils(new WordSimUtils());
+        var selections = similarityUtils.getMostRecommendedInstancesToInstancesByReferences(ENTITIES, CANDIDATES);
+
+        Assertions.assertEquals(ENTITIES.size(), selections.size());
+        for (int i = 0; i < ENTITIES.size(); i++) {
+            var expected = FormerSelection.select(similarityUtils, ENTITIES.get(i), CANDIDATES,
+                    CommonTextToolsConfig.GET_MOST_RECOMMENDED_I_BY_REF_MIN_PROPORTION, CommonTextToolsConfig.GET_MOST_RECOMMENDED_I_BY_REF_INCREASE);
+            Assertions.assertEquals(expected, selections.get(i), ENTITIES.get(i).getName());
+            Assertions.assertEquals(similarityUtils.getMostRecommendedInstancesToInstanceByReferences(ENTITIES.get(i), CANDIDATES), selections.get(i));
+        }
+        Assertions.assertTrue(similarityUtils.getMostRecommendedInstancesToInstancesByReferences(Lists.immutable.empty(), CANDIDATES).isEmpty());
+    }
+
+    @Test
+    void findsSimilarNounMappingsWithCustomMeasureTest() {
+        var wordSimUtils = new WordSimUtils();
+        SimilarityUtils similarityUtils = new SimilarityUtils(wordSimUtils);
+        NounMapping database = nounMapping("database");
+        ImmutableList<NounMapping> nounMappings = Lists.immutable.of(nounMapping("db"), database, nounMapping("cache"), nounMapping("databases"));
+        var indexOfDefaultMeasures = similarityUtils.createNounMappingIndex(nounMappings);
+        Assertions.assertEquals(nounMappings.select(nm -> similarityUtils.areNounMappingsSimilar(database, nm)), similarityUtils.getSimilarNounMappings(
+                database, indexOfDefaultMeasures));
+
+        wordSimUtils.setMeasures(List.of(new EqualityMeasure(), new AbbreviationMeasure()));
+        var expected = Lists.immutable.of(nounMappings.get(0), database);
+        Assertions.assertEquals(expected, similarityUtils.getSimilarNounMappings(database, indexOfDefaultMeasures));
+        Assertions.assertEquals(expected, similarityUtils.getSimilarNounMappings(database, similarityUtils.createNounMappingIndex(nounMappings)));
+    }
+
+    private static RecommendedInstance candidate(String name, String... surfaceForms) {
+        MutableList<NounMapping> nameMappings = Lists.mutable.empty();
+        for (String surfaceForm : surfaceForms) {
+            nameMappings.add(nounMapping(surfaceForm));
+        }
+        return new TestRecommendedInstance(name, nameMappings.toImmutable());
+    }
+
+    private static NounMapping nounMapping(String surfaceForm) {
+        return (NounMapping) Proxy.newProxyInstance(NounMapping.class.getClassLoader(), new Class<?>[] { NounMapping.class }, (proxy, method, args) -> switch (method
+                .getName()) {
+        case "getSurfaceForms" -> Lists.immutable.of(surfaceForm);
+        case "getReference", "toString" -> surfaceForm;
+        case "getReferenceWords" -> Lists.immutable.empty();
+        case "equals" -> proxy == args[0];
+        case "hashCode" -> System.identityHashCode(proxy);
+        default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    /**
+     * Copy of the former selection, which recomputed the proportion and the surface form similarity of every remaining recommended instance for each
+     * required proportion. Kept to check that the selection picks the same recommended instances.
+     */
+    private static final class FormerSelection {
+        private FormerSelection() {
+            throw new IllegalAccessError("Utility class");
+        }
+
+        private static ImmutableList<RecommendedInstance> select(SimilarityUtils similarityUtils, ModelEntity modelEntity,
+                ImmutableList<RecommendedInstance> recommendedInstances, double minProportion, double proportionIncrease) {
+            var instanceNames = modelEntity.getNameParts();
+            var similarity = CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD;
+            var selection = recommendedInstances.select(ri -> checkRecommendedInstanceForSelection(similarityUtils, modelEntity, ri, similarity));
+
+            var getMostRecommendedIByRefMinProportion = minProportion;
+            MutableList<RecommendedInstance> whileSelection = Lists.mutable.withAll(selection);
+            var allListsSimilar = 0;
+
+            while (whileSelection.size() > 1 && getMostRecommendedIByRefMinProportion <= 1) {
+                selection = Lists.immutable.withAll(whileSelection);
+                getMostRecommendedIByRefMinProportion += proportionIncrease;
+                MutableList<RecommendedInstance> risToRemove = Lists.mutable.empty();
+                for (RecommendedInstance ri : whileSelection) {
+                    if (checkRecommendedInstanceWordSimilarityToInstance(similarityUtils, modelEntity, ri)) {
+                        allListsSimilar++;
+                    }
+                    if (!similarityUtils.areWordsOfListsSimilar(instanceNames, Lists.immutable.with(ri.getName()), getMostRecommendedIByRefMinProportion)) {
+                        risToRemove.add(ri);
+                    }
+                }
+                whileSelection.removeAll(risToRemove);
+                if (allListsSimilar == whileSelection.size()) {
+                    return whileSelection.toImmutable();
+                }
+                allListsSimilar = 0;
+            }
+            if (whileSelection.isEmpty()) {
+                return selection;
+            }
+            return whileSelection.toImmutable();
+        }
+
+        private static boolean checkRecommendedInstanceWordSimilarityToInstance(SimilarityUtils similarityUtils, ModelEntity modelEntity,
+                RecommendedInstance ri) {
+            var instanceNames = modelEntity.getNameParts();
+            if (instanceNames.isEmpty()) {
+                return false;
+            }
+            for (var sf : ri.getNameMappings().flatCollect(NounMapping::getSurfaceForms)) {
+                var splitSF = CommonUtilities.splitCases(String.join(" ", CommonUtilities.splitAtSeparators(sf)));
+                if (similarityUtils.areWordsSimilar(String.join(" ", instanceNames), splitSF)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean checkRecommendedInstanceForSelection(SimilarityUtils similarityUtils, ModelEntity modelEntity, RecommendedInstance ri,
+                double similarity) {
+            var entityNameParts = modelEntity.getNameParts();
+            ImmutableList<String> longestNameSplit = Lists.immutable.of(CommonUtilities.splitCases(modelEntity.getName()).split(" "));
+            ImmutableList<String> recommendedInstanceNames = Lists.immutable.with(ri.getName());
+
+            boolean instanceNameAndRIName = similarityUtils.areWordsSimilar(modelEntity.getName(), ri.getName());
+            boolean longestNameSplitAndRINames = similarityUtils.areWordsOfListsSimilar(longestNameSplit, recommendedInstanceNames, similarity);
+            boolean instanceNamesAndRIs = similarityUtils.areWordsOfListsSimilar(entityNameParts, recommendedInstanceNames, similarity);
+            boolean listOfNamesSimilarEnough = 1.0 * similarEntriesOfList(entityNameParts, recommendedInstanceNames) / Math.max(entityNameParts.size(),
+                    recommendedInstanceNames.size()) >= similarity;
+            boolean listOfNameSplitSimilarEnough = 1.0 * similarEntriesOfList(longestNameSplit, recommendedInstanceNames) / Math.max(entityNameParts.size(),
+                    recommendedInstanceNames.size()) >= similarity;
+
+            if (instanceNameAndRIName || instanceNamesAndRIs || longestNameSplitAndRINames || listOfNamesSimilarEnough || listOfNameSplitSimilarEnough) {
+                return true;
+            }
+            for (var nounMapping : ri.getNameMappings()) {
+                for (var surfaceForm : nounMapping.getSurfaceForms()) {
+                    var surfaceFormWords = CommonUtilities.splitAtSeparators(CommonUtilities.splitCases(surfaceForm));
+                    boolean longestNameXSurfaceForms = similarityUtils.areWordsOfListsSimilar(longestNameSplit, surfaceFormWords, similarity);
+                    boolean instanceNamesXSurfaceForms = similarityUtils.areWordsOfListsSimilar(entityNameParts, surfaceFormWords, similarity);
+                    boolean listOfNamesXSurfaceFormSimilarEnough = 1.0 * similarEntriesOfList(entityNameParts, surfaceFormWords) / Math.max(entityNameParts
+                            .size(), surfaceFormWords.size()) >= similarity;
+                    boolean listOfSplitNamesXSurfaceFormSimilarEnough = 1.0 * similarEntriesOfList(longestNameSplit, surfaceFormWords) / Math.max(
+                            longestNameSplit.size(), surfaceFormWords.size()) >= similarity;
+                    if (instanceNamesXSurfaceForms || longestNameXSurfaceForms || listOfNamesXSurfaceFormSimilarEnough
+                            || listOfSplitNamesXSurfaceFormSimilarEnough) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static int similarEntriesOfList(ImmutableList<String> list1, ImmutableList<String> list2) {
+            MutableList<String> removed = Lists.mutable.empty();
+            for (var element : list1) {
+                if (list2.contains(element) || (list2.select(e -> !removed.contains(e) && (e.contains(element) || element.contains(e))).size() == 1)) {
+                    removed.add(element);
+                }
+            }
+            return removed.size();
+        }
+    }
+
+    /**
+     * A custom measure that only knows that "db" abbreviates "database".
+     */
+    private static final class AbbreviationMeasure implements WordSimMeasure {
+        @Override
+        public boolean areWordsSimilar(ComparisonContext comparisonContext) {
+            String firstTerm = comparisonContext.firstTerm().toLowerCase();
+            String secondTerm = comparisonContext.secondTerm().toLowerCase();
+            return "db".equals(firstTerm) && "database".equals(secondTerm) || "database".equals(firstTerm) && "db".equals(secondTerm);
+        }
+
+        @Override
+        public double getSimilarity(ComparisonContext comparisonContext) {
+            return this.areWordsSimilar(comparisonContext) ? 1.0 : 0.0;
+        }
+    }
+
+    private static final class TestRecommendedInstance extends RecommendedInstance {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final ImmutableList<NounMapping> nameMappings;
+
+        private TestRecommendedInstance(String name, ImmutableList<NounMapping> nameMappings) {
+            super(name, name);
+            this.name = name;
+            this.nameMappings = nameMappings;
+        }
+
+        @Override
+        public ImmutableList<NounMapping> getNameMappings() {
+            return this.nameMappings;
+        }
+
+        @Override
+        public ImmutableList<NounMapping> getTypeMappings() {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public double getProbability() {
+            return 1.0;
+        }
+
+        @Override
+        public void addProbability(Claimant claimant, double probability) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addMappings(ImmutableList<NounMapping> nameMapping, ImmutableList<NounMapping> typeMapping) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addName(NounMapping nameMapping) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addType(NounMapping typeMapping) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getType() {
+            return "";
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public void onNounMappingDeletion(NounMapping nounMapping, NounMapping replacement) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
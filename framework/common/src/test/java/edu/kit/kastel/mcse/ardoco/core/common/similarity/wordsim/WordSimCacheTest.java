@@ -0,0 +1,47 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link WordSimCache}.
+ */
+class WordSimCacheTest {
+
+    @Test
+    void symmetricPairsShareEntryTest() {
+        WordSimCache cache = new WordSimCache(100);
+        int[] computations = { 0 };
+        Object configuration = new Object();
+
+        Assertions.assertTrue(cache.getOrCompute("server", "servers", configuration, true, () -> ++computations[0] > 0));
+        Assertions.assertTrue(cache.getOrCompute("servers", "server", configuration, true, () -> ++computations[0] > 0));
+        Assertions.assertEquals(1, computations[0]);
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(0.5, cache.getHitRate(), 1e-9);
+
+        cache.getOrCompute("servers", "server", configuration, false, () -> ++computations[0] > 0);
+        cache.getOrCompute("server", "servers", configuration, false, () -> ++computations[0] > 0);
+        Assertions.assertEquals(3, computations[0]);
+    }
+
+    @Test
+    void configurationIsPartOfKeyTest() {
+        WordSimCache cache = new WordSimCache(100);
+        Assertions.assertTrue(cache.getOrCompute("a", "b", "first", true, () -> true));
+        Assertions.assertFalse(cache.getOrCompute("a", "b", "second", true, () -> false));
+        Assertions.assertTrue(cache.getOrCompute("b", "a", "first", true, () -> false));
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedTest() {
+        WordSimCache cache = new WordSimCache(16);
+        for (int i = 0; i < 1000; i++) {
+            cache.getOrCompute("term" + i, "other", null, true, () -> true);
+        }
+        Assertions.assertTrue(cache.size() <= 16);
+        Assertions.assertEquals(1000 - cache.size(), cache.getEvictionCount());
+    }
+}
@@ -2,9 +2,22 @@
 package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.junit.jupiter.api.Test;
 
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.equality.EqualityMeasure;
+
 class WordSimUtilsTest {
 
     @Test
@@ -15,4 +28,178 @@ void getSimilarity() {
         assertEquals(1, wordSimUtils.getSimilarity("lorem ipsum", "lorem ipsum"));
         assertEquals(1, wordSimUtils.getSimilarity("lOrEm IpSuM", "lorem ipsum", true));
     }
+
+    @Test
+    void areWordsSimilarUsesCache() {
+        var wordSimUtils = new WordSimUtils();
+        wordSimUtils.setCacheSize(1000);
+        var cache = wordSimUtils.getCache().orElseThrow();
+
+        assertTrue(wordSimUtils.areWordsSimilar("database", "databases"));
+        assertTrue(wordSimUtils.areWordsSimilar("database", "databases"));
+        assertFalse(wordSimUtils.areWordsSimilar("database", "data base"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        wordSimUtils.setCacheSize(0);
+        assertTrue(wordSimUtils.getCache().isEmpty());
+        assertTrue(wordSimUtils.areWordsSimilar("database", "databases"));
+    }
+
+    @Test
+    void similarityMatrixMatchesPairwiseComparison() {
+        var wordSimUtils = new WordSimUtils();
+        ImmutableList<String> rows = Lists.immutable.with("database", "server", "web cache", "logging");
+        ImmutableList<String> columns = Lists.immutable.with("databases", "Server", "web caches", "log", "serve");
+
+        var matrix = wordSimUtils.getSimilarityMatrix(rows, columns);
+        assertEquals(rows.size(), matrix.getRowCount());
+        assertEquals(columns.size(), matrix.getColumnCount());
+        int similarPairs = 0;
+        for (int row = 0; row < rows.size(); row++) {
+            for (int column = 0; column < columns.size(); column++) {
+                boolean expected = wordSimUtils.areWordsSimilar(rows.get(row), columns.get(column));
+                assertEquals(expected, matrix.isSimilar(row, column));
+                similarPairs += expected ? 1 : 0;
+            }
+        }
+        assertEquals(similarPairs, matrix.countSimilar());
+
+        var limitedMatrix = wordSimUtils.getSimilarityMatrix(rows, columns, 1);
+        for (int row = 0; row < rows.size(); row++) {
+            assertEquals(matrix.isAnySimilarInRow(row), limitedMatrix.isAnySimilarInRow(row));
+            assertTrue(limitedMatrix.countSimilarInRow(row) <= 1);
+        }
+    }
+
+    @Test
+    void similarPairsMatchSimilarityMatrix() {
+        var wordSimUtils = new WordSimUtils();
+        ImmutableList<String> rows = Lists.immutable.with("database", "server", "web cache", "logging");
+        ImmutableList<String> columns = Lists.immutable.with("databases", "Server", "web caches", "log", "serve");
+
+        int similarPairs = wordSimUtils.getSimilarityMatrix(rows, columns).countSimilar();
+        for (int minSimilarPairs = 0; minSimilarPairs <= rows.size() * columns.size() + 1; minSimilarPairs++) {
+            assertEquals(similarPairs >= minSimilarPairs, wordSimUtils.hasSimilarPairs(rows, columns, minSimilarPairs));
+        }
+    }
+
+    @Test
+    void similarPairsStopOnceDecided() {
+        var wordSimUtils = new WordSimUtils();
+        wordSimUtils.setCacheSize(0);
+        wordSimUtils.setAdaptiveMeasureOrdering(false);
+        wordSimUtils.setMeasures(List.of(new EqualityMeasure()));
+        ImmutableList<String> terms = Lists.immutable.with("database", "server", "cache");
+
+        // The first pair is similar, which reaches the required number
+        assertTrue(wordSimUtils.hasSimilarPairs(terms, terms, 1));
+        assertEquals(1, wordSimUtils.getMeasureStatistics().getOnly().getEvaluations());
+
+        // The second pair is not similar, so all nine pairs can no longer be similar
+        assertFalse(wordSimUtils.hasSimilarPairs(terms, terms, 9));
+        assertEquals(3, wordSimUtils.getMeasureStatistics().getOnly().getEvaluations());
+    }
+
+    @Test
+    void concurrentComparisonsMatchSequentialComparisons() throws Exception {
+        var wordSimUtils = new WordSimUtils();
+        wordSimUtils.setCacheSize(100);
+        wordSimUtils.setMeasures(List.of(new EqualityMeasure()));
+        ImmutableList<String> terms = Lists.immutable.with("database", "Database", "server", "servers", "cache", "Cache", "log", "logger");
+        int threads = 4;
+        int rounds = 500;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                results.add(executor.submit(() -> {
+                    int similar = 0;
+                    for (int round = 0; round < rounds; round++) {
+                        similar += wordSimUtils.getSimilarityMatrix(terms, terms).countSimilar();
+                    }
+                    return similar;
+                }));
+            }
+            int expected = rounds * wordSimUtils.getSimilarityMatrix(terms, terms).countSimilar();
+            for (Future<Integer> result : results) {
+                assertEquals(expected, result.get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        var cache = wordSimUtils.getCache().orElseThrow();
+        assertEquals(wordSimUtils.getMeasureStatistics().getOnly().getEvaluations(), cache.getMissCount());
+    }
+
+    @Test
+    void measureStatisticsAndPrefilter() {
+        var wordSimUtils = new WordSimUtils();
+        wordSimUtils.setCacheSize(0);
+        wordSimUtils.setAdaptiveMeasureOrdering(false);
+        wordSimUtils.setMeasures(List.of(new EqualityMeasure()));
+
+        assertTrue(wordSimUtils.areWordsSimilar("Server", "server"));
+        assertFalse(wordSimUtils.areWordsSimilar("server", "servers"));
+        assertFalse(wordSimUtils.areWordsSimilar("server", "sensor"));
+
+        var statistics = wordSimUtils.getMeasureStatistics().getOnly();
+        assertEquals(3, statistics.getEvaluations());
+        assertEquals(1, statistics.getAcceptances());
+        assertEquals(1, statistics.getPrefilterRejections());
+    }
+
+    @Test
+    void adaptiveOrderingRunsCheapAcceptingMeasuresFirst() {
+        var clock = new AtomicLong();
+        var expensive = new TimedMeasure(false, 1_000, clock);
+        var cheap = new TimedMeasure(true, 10, clock);
+        var wordSimUtils = new WordSimUtils(clock::get);
+        wordSimUtils.setCacheSize(0);
+        wordSimUtils.setAdaptiveMeasureOrdering(true);
+        wordSimUtils.setMeasures(List.of(expensive, cheap));
+
+        int comparisons = 2 * WordSimUtils.REORDER_INTERVAL;
+        for (int i = 0; i < comparisons; i++) {
+            assertTrue(wordSimUtils.areWordsSimilar("lorem", "ipsum"));
+        }
+
+        var statistics = wordSimUtils.getMeasureStatistics();
+        assertEquals(WordSimUtils.REORDER_INTERVAL - 1, statistics.get(0).getEvaluations());
+        assertEquals(comparisons, statistics.get(1).getEvaluations());
+        assertEquals(1_000, statistics.get(0).getAverageCostNanos());
+        assertEquals(10, statistics.get(1).getAverageCostNanos());
+    }
+
+    @Test
+    void configuredOrderWithoutAdaptiveOrdering() {
+        var clock = new AtomicLong();
+        var wordSimUtils = new WordSimUtils(clock::get);
+        wordSimUtils.setCacheSize(0);
+        wordSimUtils.setAdaptiveMeasureOrdering(false);
+        wordSimUtils.setMeasures(List.of(new TimedMeasure(false, 1_000, clock), new TimedMeasure(true, 10, clock)));
+
+        int comparisons = 2 * WordSimUtils.REORDER_INTERVAL;
+        for (int i = 0; i < comparisons; i++) {
+            assertTrue(wordSimUtils.areWordsSimilar("lorem", "ipsum"));
+        }
+        assertEquals(comparisons, wordSimUtils.getMeasureStatistics().get(0).getEvaluations());
+    }
+
+    /**
+     * A measure with a fixed verdict that advances the given clock by its cost.
+     */
+    private record TimedMeasure(boolean verdict, long costNanos, AtomicLong clock) implements WordSimMeasure {
+        @Override
+        public boolean areWordsSimilar(ComparisonContext comparisonContext) {
+            this.clock.addAndGet(this.costNanos);
+            return this.verdict;
+        }
+
+        @Override
+        public double getSimilarity(ComparisonContext comparisonContext) {
+            return this.verdict ? 1 : 0;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.embedding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.WordSimUtils;
+
+/**
+ * Tests for {@link EmbeddingMeasure} and {@link Float16VectorStore}.
+ */
+class EmbeddingMeasureTest {
+    private static final String VECTORS = """
+            5 3
+            server 1.0 0.5 0.0
+            database 0.0 1.0 1.0
+            host 0.9 0.6 0.1
+            Über -1.0 0.25 2.0
+            server 9.0 9.0 9.0
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void convertsAndReadsVectorStore() throws IOException {
+        Path store = this.createStore();
+        try (var vectorStore = Float16VectorStore.open(store)) {
+            assertEquals(3, vectorStore.getDimension());
+            assertEquals(4, vectorStore.size());
+            assertArrayEquals(new float[] { 1.0f, 0.5f, 0.0f }, vectorStore.getVector("server").orElseThrow());
+            assertArrayEquals(new float[] { -1.0f, 0.25f, 2.0f }, vectorStore.getVector("Über").orElseThrow());
+            assertTrue(vectorStore.getVector("client").isEmpty());
+            assertTrue(vectorStore.getVector("").isEmpty());
+        }
+    }
+
+    @Test
+    void comparesWordVectors() throws IOException {
+        var measure = new EmbeddingMeasure(this.createStore(), 0.9, 2);
+
+        assertTrue(measure.areWordsSimilar(new ComparisonContext("server", "Host")));
+        assertFalse(measure.areWordsSimilar(new ComparisonContext("server", "database")));
+        assertFalse(measure.areWordsSimilar(new ComparisonContext("server", "client")));
+        assertTrue(Double.isNaN(measure.getSimilarity(new ComparisonContext("server", "client"))));
+        assertEquals(1.0, measure.getSimilarity(new ComparisonContext("database", "database")), 1e-6);
+    }
+
+    @Test
+    void missingStoreIsNeverSimilar() {
+        var measure = new EmbeddingMeasure(this.directory.resolve("missing.f16"), 0.5, 10);
+        assertFalse(measure.areWordsSimilar(new ComparisonContext("server", "server")));
+    }
+
+    @Test
+    void lemmaDependentVerdictsAreNotCached() throws IOException {
+        try (var measure = new EmbeddingMeasure(this.createStore(), 0.9, 10)) {
+            var wordSimUtils = new WordSimUtils();
+            wordSimUtils.setCacheSize(100);
+            wordSimUtils.setMeasures(List.of(measure));
+            var hosts = new TestWord("hosts", "host");
+
+            assertTrue(wordSimUtils.areWordsSimilar(new TestWord("servers", "server"), hosts));
+            assertFalse(wordSimUtils.areWordsSimilar(new TestWord("servers", "servers"), hosts));
+            assertEquals(0, wordSimUtils.getCache().orElseThrow().getMissCount());
+        }
+    }
+
+    @Test
+    void closedMeasureIsNeverSimilar() throws IOException {
+        var measure = new EmbeddingMeasure(this.createStore(), 0.9, 10);
+        assertTrue(measure.areWordsSimilar(new ComparisonContext("server", "host")));
+
+        measure.close();
+        assertFalse(measure.areWordsSimilar(new ComparisonContext("server", "host")));
+        measure.close();
+    }
+
+    private Path createStore() throws IOException {
+        Path text = this.directory.resolve("vectors.vec");
+        Files.writeString(text, VECTORS, StandardCharsets.UTF_8);
+        Path store = this.directory.resolve("vectors.f16");
+        Float16VectorStore.convertTextFormat(text, store);
+        return store;
+    }
+
+    private record TestWord(String text, String lemma) implements Word {
+        @Override
+        public int getSentenceNumber() {
+            return 0;
+        }
+
+        @Override
+        public Sentence getSentence() {
+            return null;
+        }
+
+        @Override
+        public String getText() {
+            return this.text;
+        }
+
+        @Override
+        public POSTag getPosTag() {
+            return null;
+        }
+
+        @Override
+        public Word getPreWord() {
+            return null;
+        }
+
+        @Override
+        public Word getNextWord() {
+            return null;
+        }
+
+        @Override
+        public int getPosition() {
+            return 0;
+        }
+
+        @Override
+        public String getLemma() {
+            return this.lemma;
+        }
+
+        @Override
+        public ImmutableList<Word> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
+            return null;
+        }
+
+        @Override
+        public ImmutableList<Word> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
+            return null;
+        }
+
+        @Override
+        public Phrase getPhrase() {
+            return null;
+        }
+    }
+}
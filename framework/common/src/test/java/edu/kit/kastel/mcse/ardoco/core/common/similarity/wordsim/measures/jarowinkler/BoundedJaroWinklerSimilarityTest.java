@@ -0,0 +1,53 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.jarowinkler;
+
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.text.similarity.JaroWinklerSimilarity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BoundedJaroWinklerSimilarity}.
+ */
+class BoundedJaroWinklerSimilarityTest {
+    private static final List<String> TERMS = List.of("", "a", "AudioAccess", "audio access", "Database", "database", "databases", "DB", "Cache", "cachable",
+            "server", "serve", "Logic", "logik", "Registry", "registry", "re-encoder", "ReEncoder", "MediaManagement", "media management");
+
+    private final JaroWinklerSimilarity reference = new JaroWinklerSimilarity();
+
+    @Test
+    void similarityMatchesCommonsTextTest() {
+        for (String first : TERMS) {
+            for (String second : TERMS) {
+                double expected = this.reference.apply(first, second);
+                Assertions.assertEquals(expected, BoundedJaroWinklerSimilarity.similarity(first, second), first + " / " + second);
+                for (double threshold : new double[] { 0.0, 0.5, 0.7, 0.85, 0.9, 0.95, 1.0, expected }) {
+                    Assertions.assertEquals(expected >= threshold, BoundedJaroWinklerSimilarity.isSimilar(first, second, threshold), first + " / " + second);
+                }
+            }
+        }
+    }
+
+    @Test
+    void randomStringsTest() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            String first = randomString(random, random.nextInt(20));
+            String second = randomString(random, random.nextInt(20));
+            double expected = this.reference.apply(first, second);
+            double threshold = random.nextDouble();
+            Assertions.assertEquals(expected, BoundedJaroWinklerSimilarity.similarity(first, second));
+            Assertions.assertEquals(expected >= threshold, BoundedJaroWinklerSimilarity.isSimilar(first, second, threshold));
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append("abcé".charAt(random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}
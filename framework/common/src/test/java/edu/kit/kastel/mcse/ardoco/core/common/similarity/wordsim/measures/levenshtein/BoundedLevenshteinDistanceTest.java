@@ -0,0 +1,98 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.measures.levenshtein;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.common.similarity.wordsim.ComparisonContext;
+
+/**
+ * Tests for {@link BoundedLevenshteinDistance} and {@link BitParallelLevenshteinMeasure}.
+ */
+class BoundedLevenshteinDistanceTest {
+    private static final Logger logger = LoggerFactory.getLogger(BoundedLevenshteinDistanceTest.class);
+
+    private static final List<String> IDENTIFIERS = List.of("AudioAccess", "audio access", "AudioWatermarking", "DownloadLoadBalancer", "download",
+            "Facebook", "FileStorage", "file storage", "GUI", "MediaAccess", "MediaManagement", "media management", "ReEncoder", "re-encoder", "TagWatermarking",
+            "UserDBAdapter", "UserManagement", "user", "users", "Database", "database", "DB", "Cache", "cache", "cachable", "Logic", "logik", "Registry",
+            "registry", "Gateway", "gateways", "Persistence", "persistency", "Recommender", "recommendation", "Ä-Module", "ä-modul",
+            "org.example.very.long.package.name.with.many.segments.and.a.really.long.class.name.Implementation",
+            "org.example.very.long.package.name.with.many.segments.and.a.really.long.class.name.Implementations");
+
+    @Test
+    void distanceMatchesDynamicProgrammingTest() {
+        LevenshteinDistance reference = new LevenshteinDistance();
+        for (String first : IDENTIFIERS) {
+            for (String second : IDENTIFIERS) {
+                int expected = reference.apply(first, second);
+                Assertions.assertEquals(expected, BoundedLevenshteinDistance.distance(first, second), first + " / " + second);
+                for (int threshold = 0; threshold < 4; threshold++) {
+                    Assertions.assertEquals(expected <= threshold ? expected : -1, BoundedLevenshteinDistance.distance(first, second, threshold));
+                }
+            }
+        }
+    }
+
+    @Test
+    void randomStringsTest() {
+        LevenshteinDistance reference = new LevenshteinDistance();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            String first = randomString(random, random.nextInt(100));
+            String second = randomString(random, random.nextInt(100));
+            int expected = reference.apply(first, second);
+            Assertions.assertEquals(expected, BoundedLevenshteinDistance.distance(first, second));
+        }
+    }
+
+    @Test
+    void measureMatchesLevenshteinMeasureTest() {
+        LevenshteinMeasure reference = new LevenshteinMeasure(2, 1, 0.9);
+        BitParallelLevenshteinMeasure measure = new BitParallelLevenshteinMeasure(2, 1, 0.9);
+        List<ComparisonContext> contexts = new ArrayList<>();
+        for (String first : IDENTIFIERS) {
+            for (String second : IDENTIFIERS) {
+                contexts.add(new ComparisonContext(first, second));
+            }
+        }
+        for (ComparisonContext context : contexts) {
+            Assertions.assertEquals(reference.areWordsSimilar(context), measure.areWordsSimilar(context), context.toString());
+            Assertions.assertEquals(reference.getSimilarity(context), measure.getSimilarity(context), 1e-12, context.toString());
+        }
+
+        long referenceStart = System.nanoTime();
+        int referenceSimilar = countSimilar(reference, contexts);
+        long referenceTime = System.nanoTime() - referenceStart;
+        long bitParallelStart = System.nanoTime();
+        int bitParallelSimilar = countSimilar(measure, contexts);
+        long bitParallelTime = System.nanoTime() - bitParallelStart;
+        Assertions.assertEquals(referenceSimilar, bitParallelSimilar);
+        logger.info("Levenshtein: {} ms, bit-parallel: {} ms for {} comparisons", referenceTime / 1_000_000, bitParallelTime / 1_000_000, 100 * contexts
+                .size());
+    }
+
+    private static int countSimilar(LevenshteinMeasure measure, List<ComparisonContext> contexts) {
+        int similar = 0;
+        for (int i = 0; i < 100; i++) {
+            for (ComparisonContext context : contexts) {
+                similar += measure.areWordsSimilar(context) ? 1 : 0;
+            }
+        }
+        return similar;
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append("abcdé".charAt(random.nextInt(5)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,80 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link IdentifierSplitter}.
+ */
+class IdentifierSplitterTest {
+
+    @Test
+    void splitsIdentifiers() {
+        assertEquals("test string", IdentifierSplitter.splitSnakeAndKebabCase("test-string"));
+        assertEquals("test string", IdentifierSplitter.splitSnakeAndKebabCase("test__string_"));
+        assertEquals("test String", IdentifierSplitter.splitCamelCase("testString"));
+        assertEquals("my XML Http Request", IdentifierSplitter.splitCamelCase("myXMLHttpRequest"));
+        assertEquals("HTML Parser service impl", IdentifierSplitter.splitCases("HTMLParser_service-impl"));
+        assertEquals(Lists.immutable.with("a", "b", "c", "d", "e"), IdentifierSplitter.splitAtSeparators("a.b::c:d_e"));
+        assertEquals(Lists.immutable.with("", "a"), IdentifierSplitter.splitAtSeparators(".a."));
+    }
+
+    @Test
+    void matchesRegularExpressionImplementation() {
+        var random = new Random(42);
+        String alphabet = "aBc_-.: \tZxY9";
+        for (int i = 0; i < 20_000; i++) {
+            var builder = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String name = builder.toString();
+            assertEquals(splitSnakeAndKebabCaseWithRegex(name), IdentifierSplitter.splitSnakeAndKebabCase(name), name);
+            assertEquals(splitCamelCaseWithRegex(name), IdentifierSplitter.splitCamelCase(name), name);
+            assertEquals(splitAtSeparatorsWithRegex(name), IdentifierSplitter.splitAtSeparators(name), name);
+        }
+    }
+
+    @Test
+    void cachesResults() {
+        String identifier = "cachedIdentifier_name";
+        assertSame(IdentifierSplitter.splitCases(identifier), IdentifierSplitter.splitCases(identifier));
+        assertSame(IdentifierSplitter.splitAtSeparators(identifier), IdentifierSplitter.splitAtSeparators(identifier));
+
+        IdentifierSplitter.clearCaches();
+        assertEquals("cached Identifier name", IdentifierSplitter.splitCases(identifier));
+    }
+
+    private static String splitSnakeAndKebabCaseWithRegex(String name) {
+        var joiner = new StringJoiner(" ");
+        for (String namePart : name.split("[-_]")) {
+            joiner.add(namePart);
+        }
+        return joiner.toString().replaceAll("\\s+", " ");
+    }
+
+    private static String splitCamelCaseWithRegex(String name) {
+        var joiner = new StringJoiner(" ");
+        for (String namePart : name.split("(?<!(^|[A-Z]))(?=[A-Z])|(?<!^)(?=[A-Z][a-z])")) {
+            joiner.add(namePart);
+        }
+        return joiner.toString().replaceAll("\\s+", " ");
+    }
+
+    private static ImmutableList<String> splitAtSeparatorsWithRegex(String reference) {
+        var ref = reference;
+        for (String separator : CommonTextToolsConfig.SEPARATORS_TO_SPLIT) {
+            ref = ref.replaceAll(separator, " ");
+        }
+        return Lists.immutable.with(ref.split(" "));
+    }
+}
@@ -0,0 +1,63 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.data.impl.ResultData;
+import edu.kit.kastel.mcse.ardoco.core.data.impl.TextData;
+
+/**
+ * Tests for {@link ConcurrentDataRepository}.
+ */
+class ConcurrentDataRepositoryTest {
+
+    @Test
+    void computeDataIfAbsentCreatesDataOnceTest() throws Exception {
+        ConcurrentDataRepository dataRepository = new ConcurrentDataRepository();
+        AtomicInteger creations = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<ResultData>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> dataRepository.computeDataIfAbsent("ResultData", ResultData.class, () -> {
+                    creations.incrementAndGet();
+                    return new ResultData();
+                })));
+            }
+            var expected = futures.getFirst().get();
+            for (var future : futures) {
+                Assertions.assertSame(expected, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, creations.get());
+    }
+
+    @Test
+    void computeDataIfAbsentRejectsWrongTypeTest() {
+        ConcurrentDataRepository dataRepository = new ConcurrentDataRepository();
+        dataRepository.addData("Data", new TextData("text"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> dataRepository.computeDataIfAbsent("Data", ResultData.class, ResultData::new));
+    }
+
+    @Test
+    void identifiersAreSortedTest() {
+        ConcurrentDataRepository dataRepository = new ConcurrentDataRepository();
+        dataRepository.addData("c", new ResultData());
+        dataRepository.addData("a", new ResultData());
+        dataRepository.addData("b", new ResultData());
+        Assertions.assertEquals(Lists.immutable.of("a", "b", "c"), dataRepository.getDataIdentifiers());
+        Assertions.assertTrue(dataRepository.getData("a", ResultData.class).isPresent());
+    }
+}
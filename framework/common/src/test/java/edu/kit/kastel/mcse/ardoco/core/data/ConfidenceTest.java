@@ -0,0 +1,156 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
+
+/**
+ * Tests for {@link Confidence}.
+ */
+class ConfidenceTest {
+    private final Claimant first = new Claimant() {
+    };
+    private final Claimant second = new Claimant() {
+    };
+
+    @Test
+    void aggregatesMaximumPerClaimantTest() {
+        Confidence confidence = new Confidence(AggregationFunctions.AVERAGE);
+        Assertions.assertEquals(0.0, confidence.getConfidence());
+
+        confidence.addAgentConfidence(this.first, 0.2);
+        confidence.addAgentConfidence(this.first, 0.6);
+        Assertions.assertEquals(0.6, confidence.getConfidence(), 1e-9);
+
+        confidence.addAgentConfidence(this.second, 1.0);
+        Assertions.assertEquals(0.8, confidence.getConfidence(), 1e-9);
+    }
+
+    @Test
+    void rollingAverageUsesAllConfidencesTest() {
+        Confidence confidence = new Confidence(AggregationFunctions.ROLLING_AVERAGE);
+        confidence.addAgentConfidence(this.first, 0.2);
+        confidence.addAgentConfidence(this.first, 0.6);
+        confidence.addAgentConfidence(this.second, 1.0);
+        Assertions.assertEquals(0.7, confidence.getConfidence(), 1e-9);
+    }
+
+    @Test
+    void addAllConfidencesInvalidatesCacheTest() {
+        Confidence confidence = new Confidence(AggregationFunctions.MAX);
+        confidence.addAgentConfidence(this.first, 0.4);
+        Assertions.assertEquals(0.4, confidence.getConfidence(), 1e-9);
+
+        Confidence other = new Confidence(AggregationFunctions.MAX);
+        other.addAgentConfidence(this.second, 0.9);
+        confidence.addAllConfidences(other);
+        Assertions.assertEquals(0.9, confidence.getConfidence(), 1e-9);
+        Assertions.assertEquals(2, confidence.getClaimants().size());
+    }
+
+    @Test
+    void copyIsIndependentTest() {
+        Confidence confidence = new Confidence(AggregationFunctions.SUM);
+        confidence.addAgentConfidence(this.first, 0.5);
+        Confidence copy = confidence.createCopy();
+        copy.addAgentConfidence(this.second, 0.25);
+
+        Assertions.assertEquals(0.5, confidence.getConfidence(), 1e-9);
+        Assertions.assertEquals(0.75, copy.getConfidence(), 1e-9);
+    }
+
+    @Test
+    void concurrentClaimsAndReadsTest() throws Exception {
+        int threads = 4;
+        int claimsPerThread = 500;
+        Confidence confidence = new Confidence(AggregationFunctions.SUM);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                Claimant claimant = new Claimant() {
+                };
+                results.add(executor.submit(() -> {
+                    double previous = 0;
+                    for (int claim = 1; claim <= claimsPerThread; claim++) {
+                        confidence.addAgentConfidence(claimant, claim / (double) claimsPerThread);
+                        double current = confidence.getConfidence();
+                        Assertions.assertTrue(current >= previous, "The sum of the maxima must not decrease");
+                        previous = current;
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(threads, confidence.getConfidence(), 1e-9);
+        Assertions.assertEquals(threads, confidence.getClaimants().size());
+        Assertions.assertEquals(threads, confidence.createCopy().getConfidence(), 1e-9);
+    }
+
+    @Test
+    void provenanceModeControlsRecordedMethodTest() {
+        var lazy = new RecordingClaimant(Confidence.ProvenanceMode.LAZY);
+        Assertions.assertEquals(List.of("claim"), lazy.claim().getClaimingMethods());
+        Assertions.assertEquals(List.of("claimAgain"), lazy.claimAgain().getClaimingMethods());
+
+        var full = new RecordingClaimant(Confidence.ProvenanceMode.FULL);
+        Assertions.assertEquals(full.claim().getClaimingMethods(), full.claim().getClaimingMethods());
+        Assertions.assertNotEquals(full.claim().getClaimingMethods(), full.claimAgain().getClaimingMethods());
+        Assertions.assertTrue(full.claim().getClaimingMethods().getFirst().contains("RecordingClaimant.claim(ConfidenceTest.java:"));
+
+        var off = new RecordingClaimant(Confidence.ProvenanceMode.OFF);
+        Assertions.assertEquals(off.claim().getClaimingMethods(), off.claimAgain().getClaimingMethods());
+    }
+
+    @Test
+    void provenanceIsNotPartOfEqualityTest() {
+        var lazy = new RecordingClaimant(Confidence.ProvenanceMode.LAZY);
+        Confidence claimed = lazy.claim();
+        Confidence claimedAgain = lazy.claimAgain();
+        Assertions.assertNotEquals(claimed.getClaimingMethods(), claimedAgain.getClaimingMethods());
+        Assertions.assertEquals(claimed, claimedAgain);
+        Assertions.assertEquals(claimed.hashCode(), claimedAgain.hashCode());
+        Assertions.assertEquals(0, claimed.compareTo(claimedAgain));
+
+        Confidence otherClaimant = new RecordingClaimant(Confidence.ProvenanceMode.LAZY).claim();
+        Assertions.assertNotEquals(claimed, otherClaimant);
+    }
+
+    private static final class RecordingClaimant implements Claimant {
+        private final Confidence.ProvenanceMode provenanceMode;
+
+        private RecordingClaimant(Confidence.ProvenanceMode provenanceMode) {
+            this.provenanceMode = provenanceMode;
+        }
+
+        @Override
+        public Confidence.ProvenanceMode getProvenanceMode() {
+            return this.provenanceMode;
+        }
+
+        private Confidence claim() {
+            Confidence confidence = new Confidence(AggregationFunctions.MAX);
+            confidence.addAgentConfidence(this, 0.5);
+            return confidence;
+        }
+
+        private Confidence claimAgain() {
+            Confidence confidence = new Confidence(AggregationFunctions.MAX);
+            confidence.addAgentConfidence(this, 0.5);
+            return confidence;
+        }
+    }
+}
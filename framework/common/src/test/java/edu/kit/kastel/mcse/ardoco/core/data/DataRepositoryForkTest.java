@@ -0,0 +1,124 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.data.impl.TextData;
+
+/**
+ * Tests the forking of {@link DataRepository}.
+ */
+class DataRepositoryForkTest {
+
+    @Test
+    void forkIsolatesModificationsTest() {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData("Text", new TextData("text"));
+        dataRepository.getData("Text", TextData.class).orElseThrow().setTokens(List.of("shared"));
+
+        DataRepository fork = dataRepository.fork();
+        fork.getData("Text", TextData.class).orElseThrow().setTokens(List.of("fork"));
+
+        Assertions.assertEquals(List.of("shared"), dataRepository.getData("Text", TextData.class).orElseThrow().getTokens());
+        Assertions.assertEquals(List.of("fork"), fork.getData("Text", TextData.class).orElseThrow().getTokens());
+    }
+
+    @Test
+    void forkIsSnapshotAtForkTimeTest() {
+        DataRepository dataRepository = new DataRepository();
+        TextData textData = new TextData("text");
+        textData.setTokens(List.of("before"));
+        dataRepository.addData("Text", textData);
+
+        DataRepository fork = dataRepository.fork();
+        // A step of the forked repository still holds the data it fetched before forking
+        textData.setTokens(List.of("after"));
+
+        Assertions.assertEquals(List.of("before"), fork.getData("Text", TextData.class).orElseThrow().getTokens());
+    }
+
+    @Test
+    void forkKeepsReferencesBetweenDataTest() {
+        DataRepository dataRepository = new DataRepository();
+        List<String> words = new ArrayList<>(List.of("word"));
+        dataRepository.addData("First", new WordsData(words));
+        dataRepository.addData("Second", new WordsData(words));
+
+        DataRepository fork = dataRepository.fork();
+        var firstWords = fork.getData("First", WordsData.class).orElseThrow().words();
+        var secondWords = fork.getData("Second", WordsData.class).orElseThrow().words();
+
+        Assertions.assertNotSame(words, firstWords);
+        Assertions.assertSame(firstWords, secondWords);
+    }
+
+    @Test
+    void lastOwnerDoesNotCopyTest() {
+        DataRepository dataRepository = new DataRepository();
+        TextData textData = new TextData("text");
+        dataRepository.addData("Text", textData);
+
+        DataRepository fork = dataRepository.fork();
+        var forkedTextData = fork.getData("Text", TextData.class).orElseThrow();
+
+        Assertions.assertNotSame(textData, forkedTextData);
+        Assertions.assertSame(textData, dataRepository.getData("Text", TextData.class).orElseThrow());
+    }
+
+    @Test
+    void forksNeverGetOriginalTest() {
+        DataRepository dataRepository = new DataRepository();
+        TextData textData = new TextData("text");
+        dataRepository.addData("Text", textData);
+
+        DataRepository fork = dataRepository.fork();
+        DataRepository secondFork = dataRepository.fork();
+        Assertions.assertSame(textData, dataRepository.getData("Text", TextData.class).orElseThrow());
+        var forkedTextData = fork.getData("Text", TextData.class).orElseThrow();
+        var secondForkedTextData = secondFork.getData("Text", TextData.class).orElseThrow();
+
+        Assertions.assertNotSame(textData, forkedTextData);
+        Assertions.assertNotSame(textData, secondForkedTextData);
+        Assertions.assertNotSame(forkedTextData, secondForkedTextData);
+    }
+
+    @Test
+    void forkOfForkGetsCopyTest() {
+        DataRepository dataRepository = new DataRepository();
+        TextData textData = new TextData("text");
+        textData.setTokens(List.of("original"));
+        dataRepository.addData("Text", textData);
+
+        DataRepository fork = dataRepository.fork();
+        DataRepository forkOfFork = fork.fork();
+        dataRepository.addData("Text", new TextData("replaced"));
+
+        var forkedTextData = forkOfFork.getData("Text", TextData.class).orElseThrow();
+        Assertions.assertNotSame(textData, forkedTextData);
+        Assertions.assertEquals(List.of("original"), forkedTextData.getTokens());
+        Assertions.assertNotSame(textData, fork.getData("Text", TextData.class).orElseThrow());
+    }
+
+    @Test
+    void concurrentRepositoryForkTest() {
+        DataRepository dataRepository = new ConcurrentDataRepository();
+        dataRepository.addData("Text", new TextData("text"));
+
+        DataRepository fork = dataRepository.fork();
+        fork.addData("Other", new TextData("other"));
+
+        Assertions.assertInstanceOf(ConcurrentDataRepository.class, fork);
+        Assertions.assertEquals(1, dataRepository.getDataIdentifiers().size());
+        Assertions.assertEquals(2, fork.getDataIdentifiers().size());
+    }
+
+    private record WordsData(List<String> words) implements PipelineStepData {
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -16,6 +16,12 @@ public class TextData implements PipelineStepData {
     private final String text;
     private List<String> tokens;
 
+    @SuppressWarnings("unused")
+    private TextData() {
+        // Needed for deserialization
+        this(null);
+    }
+
     public TextData(String text) {
         this.text = text;
     }
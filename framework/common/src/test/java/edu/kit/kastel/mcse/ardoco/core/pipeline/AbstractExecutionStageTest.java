@@ -0,0 +1,164 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.Metamodel;
+import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.PipelineAgent;
+
+/**
+ * Tests for {@link AbstractExecutionStage}.
+ */
+class AbstractExecutionStageTest {
+    private static final List<Metamodel> METAMODELS = List.of(Metamodel.values());
+
+    @Test
+    void perMetamodelResultsAreOrderedTest() {
+        List<Metamodel> reversedMetamodels = new ArrayList<>(METAMODELS);
+        Collections.reverse(reversedMetamodels);
+        CountDownLatch latch = new CountDownLatch(METAMODELS.size());
+        var agent = new PerMetamodelAgent(new DataRepository(), reversedMetamodels, metamodel -> {
+            latch.countDown();
+            try {
+                Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS), "Metamodels were not processed concurrently");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Assertions.fail(e.getMessage());
+            }
+            return metamodel.name();
+        });
+
+        this.runStage(agent, true);
+
+        Assertions.assertEquals(METAMODELS, agent.getResults().keysView().toList());
+        Assertions.assertEquals(METAMODELS.stream().map(Metamodel::name).toList(), agent.getResults().valuesView().toList());
+    }
+
+    @Test
+    void sequentialPerMetamodelResultsAreOrderedTest() {
+        List<Metamodel> reversedMetamodels = new ArrayList<>(METAMODELS);
+        Collections.reverse(reversedMetamodels);
+        List<Metamodel> processedMetamodels = new ArrayList<>();
+        var agent = new PerMetamodelAgent(new DataRepository(), reversedMetamodels, metamodel -> {
+            processedMetamodels.add(metamodel);
+            return metamodel.name();
+        });
+
+        this.runStage(agent, false);
+
+        Assertions.assertEquals(reversedMetamodels, processedMetamodels);
+        Assertions.assertEquals(METAMODELS, agent.getResults().keysView().toList());
+    }
+
+    @Test
+    void perMetamodelFailuresPropagateTest() {
+        for (boolean parallel : List.of(true, false)) {
+            var agent = new PerMetamodelAgent(new DataRepository(), METAMODELS, metamodel -> {
+                if (metamodel.isArchitectureModel()) {
+                    throw new IllegalStateException("Failed for " + metamodel);
+                }
+                return metamodel.name();
+            });
+
+            var exception = Assertions.assertThrows(IllegalStateException.class, () -> this.runStage(agent, parallel));
+            Assertions.assertEquals("Failed for " + Metamodel.ARCHITECTURE_WITH_COMPONENTS_AND_INTERFACES, exception.getMessage());
+            Assertions.assertNull(agent.getResults());
+        }
+    }
+
+    @Test
+    void concurrentAgentsWithPerMetamodelWorkDoNotDeadlockTest() {
+        for (ExecutorService executor : List.of(Executors.newFixedThreadPool(1), Executors.newFixedThreadPool(2), new ForkJoinPool(1))) {
+            DataRepository dataRepository = new DataRepository();
+            List<PerMetamodelAgent> agents = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                var agent = new PerMetamodelAgent(dataRepository, METAMODELS, Metamodel::name);
+                agent.setDataAccess(DataAccess.of(Lists.immutable.empty(), Lists.immutable.of("Result " + i)));
+                agents.add(agent);
+            }
+
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> this.runStage(agents, true, executor));
+
+            for (var agent : agents) {
+                Assertions.assertEquals(METAMODELS.stream().map(Metamodel::name).toList(), agent.getResults().valuesView().toList());
+            }
+        }
+    }
+
+    private void runStage(PerMetamodelAgent agent, boolean parallel) {
+        this.runStage(List.of(agent), parallel, Executors.newFixedThreadPool(METAMODELS.size()));
+    }
+
+    private void runStage(List<PerMetamodelAgent> agents, boolean parallel, ExecutorService executor) {
+        var stage = new PerMetamodelStage(agents);
+        stage.setParallelExecution(parallel);
+        try {
+            stage.setExecutor(executor);
+            stage.run();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class PerMetamodelStage extends AbstractExecutionStage {
+        private PerMetamodelStage(List<PerMetamodelAgent> agents) {
+            super(agents, "PerMetamodelStage", agents.getFirst().dataRepository);
+        }
+
+        @Override
+        protected void initializeState() {
+            // NOP
+        }
+    }
+
+    /**
+     * Agent that processes the given metamodels via {@link Pipeline#processPerMetamodel(java.util.Collection, Function)}. Its data access is unknown unless
+     * it is set explicitly.
+     */
+    private static final class PerMetamodelAgent extends PipelineAgent {
+        private final List<Metamodel> metamodels;
+        private final Function<Metamodel, String> work;
+        private ImmutableSortedMap<Metamodel, String> results;
+        private DataAccess dataAccess;
+
+        private PerMetamodelAgent(DataRepository dataRepository, List<Metamodel> metamodels, Function<Metamodel, String> work) {
+            super(List.of(), "PerMetamodelAgent", dataRepository);
+            this.metamodels = metamodels;
+            this.work = work;
+        }
+
+        @Override
+        public void process() {
+            this.results = this.processPerMetamodel(this.metamodels, this.work);
+        }
+
+        private ImmutableSortedMap<Metamodel, String> getResults() {
+            return this.results;
+        }
+
+        private void setDataAccess(DataAccess dataAccess) {
+            this.dataAccess = dataAccess;
+        }
+
+        @Override
+        public Optional<DataAccess> getDataAccess() {
+            return Optional.ofNullable(this.dataAccess);
+        }
+    }
+}
@@ -1,18 +1,34 @@
-/* Licensed under MIT 2022-2023. */
+/* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.core.pipeline;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import edu.kit.kastel.mcse.ardoco.core.data.Confidence;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.data.impl.ResultData;
 import edu.kit.kastel.mcse.ardoco.core.data.impl.TextData;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.impl.ConcretePipelineStepOne;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.impl.ConcretePipelineStepTwoOne;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Informant;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.PipelineAgent;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.impl.ConcretePipelineStepTwoTwo;
 
 /**
@@ -42,4 +58,297 @@ void pipelineDefinitionTest() {
         logger.info("Result: {}", resultData.getResult());
         Assertions.assertNotNull(resultData);
     }
+
+    @Test
+    void parallelPipelineMatchesSequentialTest() {
+        String text = "This is an example text containing multiple words.";
+        var sequentialResult = this.runExamplePipeline(text, false).getData("ResultData", ResultData.class).orElseThrow();
+        var parallelResult = this.runExamplePipeline(text, true).getData("ResultData", ResultData.class).orElseThrow();
+        Assertions.assertEquals(sequentialResult.getResult(), parallelResult.getResult());
+    }
+
+    @Test
+    void independentStepsRunConcurrentlyTest() {
+        DataRepository dataRepository = new DataRepository();
+        CountDownLatch latch = new CountDownLatch(2);
+        Pipeline pipeline = new Pipeline("Parallel-Pipeline", dataRepository);
+        pipeline.addPipelineStep(new LatchInformant("First", dataRepository, latch));
+        pipeline.addPipelineStep(new LatchInformant("Second", dataRepository, latch));
+        pipeline.setParallelExecution(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            pipeline.setExecutor(executor);
+            pipeline.run();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertTrue(dataRepository.getData("First", ResultData.class).isPresent());
+        Assertions.assertTrue(dataRepository.getData("Second", ResultData.class).isPresent());
+    }
+
+    @Test
+    void agentsWithDeclaredDataAccessRunConcurrentlyTest() {
+        DataRepository dataRepository = new DataRepository();
+        CountDownLatch latch = new CountDownLatch(2);
+        var firstAgent = new PipelineAgent(List.of(new LatchInformant("First", dataRepository, latch)), "FirstAgent", dataRepository) {
+        };
+        var secondAgent = new PipelineAgent(List.of(new LatchInformant("Second", dataRepository, latch)), "SecondAgent", dataRepository) {
+        };
+        Pipeline pipeline = new Pipeline("Parallel-Pipeline", dataRepository, List.of(firstAgent, secondAgent));
+        pipeline.setParallelExecution(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            pipeline.setExecutor(executor);
+            pipeline.run();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertTrue(dataRepository.getData("First", ResultData.class).isPresent());
+        Assertions.assertTrue(dataRepository.getData("Second", ResultData.class).isPresent());
+    }
+
+    @Test
+    void stepsWithoutDataAccessRunSequentiallyTest() {
+        DataRepository dataRepository = new DataRepository();
+        AtomicInteger runningSteps = new AtomicInteger();
+        AtomicInteger maximalRunningSteps = new AtomicInteger();
+        Pipeline pipeline = new Pipeline("Parallel-Pipeline", dataRepository);
+        for (int i = 0; i < 4; i++) {
+            pipeline.addPipelineStep(new CountingStep("Step " + i, dataRepository, runningSteps, maximalRunningSteps));
+        }
+        pipeline.setParallelExecution(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            pipeline.setExecutor(executor);
+            pipeline.run();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(1, maximalRunningSteps.get());
+        Assertions.assertTrue(pipeline.getDataAccess().isEmpty());
+    }
+
+    @Test
+    void resumeFromCheckpointTest(@TempDir Path checkpointDirectory) {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData("Text", new TextData("This is an example text containing multiple words."));
+        Pipeline pipeline = this.createExamplePipeline(dataRepository);
+        pipeline.setCheckpointDirectory(checkpointDirectory);
+        pipeline.run();
+        var expectedResult = dataRepository.getData("ResultData", ResultData.class).orElseThrow().getResult();
+        Assertions.assertTrue(Files.exists(checkpointDirectory.resolve("Main-Pipeline").resolve("checkpoint-003.json")));
+
+        DataRepository resumedDataRepository = new DataRepository();
+        resumedDataRepository.addData("Text", new TextData("This is an example text containing multiple words."));
+        Pipeline resumedPipeline = this.createExamplePipeline(resumedDataRepository);
+        resumedPipeline.setCheckpointDirectory(checkpointDirectory);
+        resumedPipeline.run();
+        Assertions.assertEquals(expectedResult, resumedDataRepository.getData("ResultData", ResultData.class).orElseThrow().getResult());
+        // All steps were restored from the last checkpoint, so none of them ran
+        Assertions.assertTrue(resumedPipeline.getMetrics().orElseThrow().children().isEmpty());
+    }
+
+    @Test
+    void checkpointOfOtherInitialDataIsDiscardedTest(@TempDir Path checkpointDirectory) {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData("Text", new TextData("This is an example text containing multiple words."));
+        Pipeline pipeline = this.createExamplePipeline(dataRepository);
+        pipeline.setCheckpointDirectory(checkpointDirectory);
+        pipeline.run();
+
+        DataRepository otherDataRepository = new DataRepository();
+        otherDataRepository.addData("Text", new TextData("This is another text."));
+        Pipeline otherPipeline = this.createExamplePipeline(otherDataRepository);
+        otherPipeline.setCheckpointDirectory(checkpointDirectory);
+        otherPipeline.run();
+        Assertions.assertEquals(4, otherPipeline.getMetrics().orElseThrow().children().size());
+    }
+
+    @Test
+    void checkpointWithChangedDataTypeIsIgnoredTest(@TempDir Path checkpointDirectory) throws IOException {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData("Text", new TextData("This is an example text containing multiple words."));
+        Pipeline pipeline = this.createExamplePipeline(dataRepository);
+        pipeline.setCheckpointDirectory(checkpointDirectory);
+        pipeline.run();
+
+        // Simulate checkpoints that were written by a build with different versions of the data types
+        try (var checkpoints = Files.list(checkpointDirectory.resolve("Main-Pipeline"))) {
+            for (Path checkpoint : checkpoints.toList()) {
+                Files.writeString(checkpoint, Files.readString(checkpoint).replace("\"version\":\"", "\"version\":\"outdated "));
+            }
+        }
+
+        DataRepository resumedDataRepository = new DataRepository();
+        resumedDataRepository.addData("Text", new TextData("This is an example text containing multiple words."));
+        Pipeline resumedPipeline = this.createExamplePipeline(resumedDataRepository);
+        resumedPipeline.setCheckpointDirectory(checkpointDirectory);
+        resumedPipeline.run();
+        Assertions.assertEquals(4, resumedPipeline.getMetrics().orElseThrow().children().size());
+    }
+
+    @Test
+    void checkpointOfOtherInputsOrConfigurationIsDiscardedTest(@TempDir Path checkpointDirectory, @TempDir Path inputDirectory) throws IOException {
+        Path input = inputDirectory.resolve("model.json");
+        Files.writeString(input, "{\"name\":\"Model\"}");
+        Assertions.assertEquals(4, this.runExamplePipeline(checkpointDirectory, input, SortedMaps.immutable.empty()));
+        Assertions.assertEquals(0, this.runExamplePipeline(checkpointDirectory, input, SortedMaps.immutable.empty()));
+
+        Files.writeString(input, "{\"name\":\"Other Model\"}");
+        Assertions.assertEquals(4, this.runExamplePipeline(checkpointDirectory, input, SortedMaps.immutable.empty()));
+        Assertions.assertEquals(0, this.runExamplePipeline(checkpointDirectory, input, SortedMaps.immutable.empty()));
+
+        ImmutableSortedMap<String, String> configuration = SortedMaps.immutable.with("AbstractPipelineStep::provenanceMode", "OFF");
+        Assertions.assertEquals(4, this.runExamplePipeline(checkpointDirectory, input, configuration));
+        Assertions.assertEquals(0, this.runExamplePipeline(checkpointDirectory, input, configuration));
+    }
+
+    /**
+     * Runs the example pipeline with checkpoints and returns the number of steps that were executed instead of being restored from a checkpoint.
+     */
+    private int runExamplePipeline(Path checkpointDirectory, Path input, ImmutableSortedMap<String, String> configuration) {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData("Text", new TextData("This is an example text containing multiple words."));
+        Pipeline pipeline = this.createExamplePipeline(dataRepository);
+        pipeline.setCheckpointDirectory(checkpointDirectory);
+        pipeline.setCheckpointInputs(List.of(input));
+        pipeline.applyConfiguration(configuration);
+        pipeline.run();
+        return pipeline.getMetrics().orElseThrow().children().size();
+    }
+
+    @Test
+    void provenanceModeIsConfiguredPerPipelineTest() {
+        var configuredStep = new LatchInformant("Configured", new DataRepository(), new CountDownLatch(0));
+        Pipeline configuredPipeline = new Pipeline("Configured-Pipeline", new DataRepository(), List.of(configuredStep));
+        configuredPipeline.applyConfiguration(SortedMaps.immutable.with("AbstractPipelineStep::provenanceMode", "OFF"));
+        var defaultStep = new LatchInformant("Default", new DataRepository(), new CountDownLatch(0));
+        Pipeline defaultPipeline = new Pipeline("Default-Pipeline", new DataRepository(), List.of(defaultStep));
+
+        Assertions.assertEquals(Confidence.ProvenanceMode.OFF, configuredPipeline.getProvenanceMode());
+        Assertions.assertEquals(Confidence.ProvenanceMode.OFF, configuredStep.getProvenanceMode());
+        Assertions.assertEquals(Confidence.ProvenanceMode.LAZY, defaultPipeline.getProvenanceMode());
+        Assertions.assertEquals(Confidence.ProvenanceMode.LAZY, defaultStep.getProvenanceMode());
+    }
+
+    @Test
+    void metricsTreeTest() {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData("Text", new TextData("This is an example text containing multiple words."));
+        Pipeline pipeline = this.createExamplePipeline(dataRepository);
+        Assertions.assertTrue(pipeline.getMetrics().isEmpty());
+        pipeline.run();
+
+        PipelineStepMetrics metrics = pipeline.getMetrics().orElseThrow();
+        Assertions.assertEquals("Main-Pipeline", metrics.id());
+        Assertions.assertEquals("Pipeline", metrics.type());
+        Assertions.assertEquals(4, metrics.children().size());
+        Assertions.assertEquals(5, metrics.flatten().size());
+
+        PipelineStepMetrics preprocessing = metrics.find("Preprocessing").orElseThrow();
+        Assertions.assertEquals("ConcretePipelineStepOne", preprocessing.type());
+        Assertions.assertTrue(preprocessing.wallTimeNanos() <= metrics.wallTimeNanos());
+        if (preprocessing.allocatedBytes() >= 0) {
+            Assertions.assertTrue(preprocessing.allocatedBytes() <= metrics.allocatedBytes());
+        }
+
+        String csv = metrics.toCsv();
+        Assertions.assertTrue(csv.startsWith("path,type,depth,wallTimeNanos,cpuTimeNanos,allocatedBytes\n"));
+        Assertions.assertTrue(csv.contains("\nMain-Pipeline/Preprocessing,ConcretePipelineStepOne,1,"));
+        Assertions.assertEquals(metrics, metrics.deserialize(metrics.toJson()));
+    }
+
+    private Pipeline createExamplePipeline(DataRepository dataRepository) {
+        Pipeline pipeline = new Pipeline("Main-Pipeline", dataRepository);
+        pipeline.addPipelineStep(new ConcretePipelineStepOne("Preprocessing", dataRepository));
+        pipeline.addPipelineStep(new ConcretePipelineStepTwoOne("Main-Processing 2.1 First", dataRepository));
+        pipeline.addPipelineStep(new ConcretePipelineStepTwoOne("Main-Processing 2.1 Second", dataRepository));
+        pipeline.addPipelineStep(new ConcretePipelineStepTwoTwo("Main-Processing 2", dataRepository));
+        return pipeline;
+    }
+
+    private DataRepository runExamplePipeline(String text, boolean parallel) {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData("Text", new TextData(text));
+        Pipeline pipeline = this.createExamplePipeline(dataRepository);
+        pipeline.setParallelExecution(parallel);
+        pipeline.run();
+        return dataRepository;
+    }
+
+    /**
+     * Informant that only finishes if another informant runs at the same time.
+     */
+    private static final class LatchInformant extends Informant {
+        private final CountDownLatch latch;
+
+        private LatchInformant(String id, DataRepository dataRepository, CountDownLatch latch) {
+            super(id, dataRepository);
+            this.latch = latch;
+        }
+
+        @Override
+        protected void process() {
+            this.latch.countDown();
+            try {
+                Assertions.assertTrue(this.latch.await(10, TimeUnit.SECONDS), "Steps were not executed concurrently");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Assertions.fail(e.getMessage());
+            }
+            this.getDataRepository().addData(this.getId(), new ResultData());
+        }
+
+        @Override
+        public Optional<DataAccess> getDataAccess() {
+            return Optional.of(DataAccess.of(Lists.immutable.empty(), Lists.immutable.of(this.getId())));
+        }
+    }
+
+    /**
+     * Step without declared data access that records how many steps run at the same time.
+     */
+    private static final class CountingStep extends AbstractPipelineStep {
+        private final AtomicInteger runningSteps;
+        private final AtomicInteger maximalRunningSteps;
+
+        private CountingStep(String id, DataRepository dataRepository, AtomicInteger runningSteps, AtomicInteger maximalRunningSteps) {
+            super(id, dataRepository);
+            this.runningSteps = runningSteps;
+            this.maximalRunningSteps = maximalRunningSteps;
+        }
+
+        @Override
+        protected void process() {
+            this.maximalRunningSteps.accumulateAndGet(this.runningSteps.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Assertions.fail(e.getMessage());
+            }
+            this.runningSteps.decrementAndGet();
+        }
+
+        @Override
+        protected void before() {
+            // NOP
+        }
+
+        @Override
+        protected void after() {
+            // NOP
+        }
+
+        @Override
+        protected void delegateApplyConfigurationToInternalObjects(ImmutableSortedMap<String, String> additionalConfiguration) {
+            // NOP
+        }
+    }
 }
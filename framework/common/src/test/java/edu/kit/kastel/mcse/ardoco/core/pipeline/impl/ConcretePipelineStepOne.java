@@ -3,8 +3,10 @@
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +14,7 @@
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.data.impl.TextData;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.AbstractPipelineStep;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.DataAccess;
 
 /**
  * Example implementation of {@link AbstractPipelineStep}
@@ -50,6 +53,11 @@ protected void after() {
         //Nothing
     }
 
+    @Override
+    public Optional<DataAccess> getDataAccess() {
+        return Optional.of(DataAccess.of(Lists.immutable.of("Text"), Lists.immutable.of("Text")));
+    }
+
     @Override
     protected void delegateApplyConfigurationToInternalObjects(ImmutableSortedMap<String, String> additionalConfiguration) {
         // NOP
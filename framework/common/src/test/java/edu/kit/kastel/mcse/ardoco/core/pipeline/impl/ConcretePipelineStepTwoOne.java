@@ -3,7 +3,9 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +14,7 @@
 import edu.kit.kastel.mcse.ardoco.core.data.impl.ProcessedTextData;
 import edu.kit.kastel.mcse.ardoco.core.data.impl.TextData;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.AbstractPipelineStep;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.DataAccess;
 
 /**
  * Example implementation of {@link AbstractPipelineStep}
@@ -77,6 +80,11 @@ private List<String> getTokens() {
         return tokens;
     }
 
+    @Override
+    public Optional<DataAccess> getDataAccess() {
+        return Optional.of(DataAccess.of(Lists.immutable.of("Text", "ProcessedTextData"), Lists.immutable.of("ProcessedTextData")));
+    }
+
     @Override
     protected void delegateApplyConfigurationToInternalObjects(ImmutableSortedMap<String, String> additionalConfiguration) {
         // NOP
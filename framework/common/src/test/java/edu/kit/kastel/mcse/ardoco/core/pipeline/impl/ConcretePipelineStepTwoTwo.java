@@ -1,9 +1,11 @@
 /* Licensed under MIT 2022-2025. */
 package edu.kit.kastel.mcse.ardoco.core.pipeline.impl;
 
+import java.util.Optional;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +14,7 @@
 import edu.kit.kastel.mcse.ardoco.core.data.impl.ProcessedTextData;
 import edu.kit.kastel.mcse.ardoco.core.data.impl.ResultData;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.AbstractPipelineStep;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.DataAccess;
 
 /**
  * Example implementation of {@link AbstractPipelineStep}
@@ -53,6 +56,11 @@ protected void after() {
         //Nothing
     }
 
+    @Override
+    public Optional<DataAccess> getDataAccess() {
+        return Optional.of(DataAccess.of(Lists.immutable.of("ProcessedTextData"), Lists.immutable.of("ResultData")));
+    }
+
     @Override
     protected void delegateApplyConfigurationToInternalObjects(ImmutableSortedMap<String, String> additionalConfiguration) {
         // NOP
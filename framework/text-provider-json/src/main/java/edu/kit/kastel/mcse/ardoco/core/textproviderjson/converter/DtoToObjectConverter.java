@@ -4,7 +4,6 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
@@ -32,7 +31,7 @@
  */
 public class DtoToObjectConverter {
 
-    private static final String CONSTITUENCY_TREE_SEPARATOR = " ";
+    private static final char CONSTITUENCY_TREE_SEPARATOR = ' ';
     private static final char CONSTITUENCY_TREE_OPEN_BRACKET = '(';
     private static final char CONSTITUENCY_TREE_CLOSE_BRACKET = ')';
 
@@ -70,81 +69,150 @@ private Sentence convertToSentence(SentenceDto sentenceDTO, Text parentText) thr
         return sentence;
     }
 
+    /**
+     * Parses the constituency tree of a sentence in bracket notation, e.g., {@code (ROOT (S (NP (DT This)) (VP (VBZ is) (NP (PRP me))) (. .)))}. Each leaf
+     * consumes the next word of the sentence, and the consumed words are removed from the given list. The tree is parsed in a single pass without copying
+     * subtrees, so the time is linear in the length of the tree.
+     *
+     * @param constituencyTree the constituency tree
+     * @param wordsOfSentence  the remaining words of the sentence in order
+     * @return the root phrase
+     * @throws NotConvertableException if the tree is malformed or has more leaves than there are words
+     */
     public Phrase parseConstituencyTree(String constituencyTree, List<Word> wordsOfSentence) throws NotConvertableException {
-        // remove outer brackets
-        if (!isValidConstituencyTree(constituencyTree)) {
-            throw new NotConvertableException("Constituency tree is not valid");
+        var parser = new ConstituencyTreeParser(constituencyTree, wordsOfSentence);
+        Phrase phrase = parser.parseTree();
+        wordsOfSentence.subList(0, parser.consumedWords).clear();
+        return phrase;
+    }
+
+    /**
+     * Recursive descent parser over the characters of a constituency tree. A node is {@code (label children)}; its children are either subtrees or a single
+     * token, in which case the node is a leaf and stands for a word. The tokens of {@link POSTag#LEFT_PAREN} and {@link POSTag#RIGHT_PAREN} leaves may be
+     * the brackets themselves.
+     */
+    private static final class ConstituencyTreeParser {
+        private static final PhraseType[] PHRASE_TYPES = PhraseType.values();
+
+        private final String tree;
+        private final List<Word> wordsOfSentence;
+        private int position;
+        private int consumedWords;
+
+        private ConstituencyTreeParser(String tree, List<Word> wordsOfSentence) {
+            this.tree = tree;
+            this.wordsOfSentence = wordsOfSentence;
         }
-        String tree = constituencyTree.substring(1, constituencyTree.length() - 1);
-        PhraseType phraseType = PhraseType.get(tree.split(CONSTITUENCY_TREE_SEPARATOR, 2)[0]);
-        // remove phrase type
-        String treeWithoutType = tree.split(CONSTITUENCY_TREE_SEPARATOR, 2)[1];
-
-        List<String> subTrees = getSubtrees(treeWithoutType);
-
-        List<Phrase> subPhrases = new ArrayList<>();
-        List<Word> words = new ArrayList<>();
-        for (String subtree : subTrees) {
-            if (isWord(subtree)) {
-                if (wordsOfSentence.isEmpty()) {
-                    throw new NotConvertableException("Constituency tree does not match words of sentence");
+
+        private Phrase parseTree() throws NotConvertableException {
+            Phrase root = this.parseNode(true);
+            if (root == null) {
+                throw this.invalid("the root is no phrase");
+            }
+            if (this.position != this.tree.length()) {
+                throw this.invalid("unexpected content after the tree");
+            }
+            return root;
+        }
+
+        /**
+         * Parses the node at the current position. A root without children, e.g., {@code (ROOT )}, is an empty phrase, whereas such a node below the root
+         * is a leaf.
+         *
+         * @param root whether the node is the root of the tree
+         * @return the phrase, or null if the node is a leaf
+         */
+        private Phrase parseNode(boolean root) throws NotConvertableException {
+            if (this.position >= this.tree.length() || this.tree.charAt(this.position) != CONSTITUENCY_TREE_OPEN_BRACKET) {
+                throw this.invalid("expected '" + CONSTITUENCY_TREE_OPEN_BRACKET + "'");
+            }
+            this.position++;
+            int labelStart = this.position;
+            while (this.position < this.tree.length() && this.tree.charAt(this.position) != CONSTITUENCY_TREE_SEPARATOR) {
+                char character = this.tree.charAt(this.position);
+                if (character == CONSTITUENCY_TREE_OPEN_BRACKET || character == CONSTITUENCY_TREE_CLOSE_BRACKET) {
+                    throw this.invalid("expected '" + CONSTITUENCY_TREE_SEPARATOR + "' after the label");
                 }
-                words.add(wordsOfSentence.removeFirst());
-            } else {
-                subPhrases.add(parseConstituencyTree(subtree, wordsOfSentence));
+                this.position++;
+            }
+            int labelEnd = this.position;
+            this.skipSeparators();
+            if (this.position >= this.tree.length()) {
+                throw this.invalid("unbalanced brackets");
             }
+            char next = this.tree.charAt(this.position);
+            if (next == CONSTITUENCY_TREE_OPEN_BRACKET && !this.isLabel(labelStart, labelEnd, POSTag.LEFT_PAREN.getTag())
+                    || root && next == CONSTITUENCY_TREE_CLOSE_BRACKET) {
+                return this.parsePhrase(labelStart, labelEnd);
+            }
+            this.skipToken(labelStart, labelEnd);
+            return null;
         }
-        return new PhraseImpl(Lists.immutable.ofAll(words), phraseType, subPhrases);
-    }
 
-    private boolean isValidConstituencyTree(String constituencyTree) {
-        var condLength = constituencyTree.length() >= 2;
-        if (!condLength)
-            return false;
-        var condStartWithOpenBracket = constituencyTree.charAt(0) == CONSTITUENCY_TREE_OPEN_BRACKET;
-        if (!condStartWithOpenBracket)
-            return false;
-        var condEndWithClosedBracket = constituencyTree.charAt(constituencyTree.length() - 1) == CONSTITUENCY_TREE_CLOSE_BRACKET;
-        if (!condEndWithClosedBracket)
-            return false;
-
-        var condBalancedBrackets = getTreeOpenBrackets(constituencyTree) == getTreeCloseBrackets(constituencyTree);
-        if (!condBalancedBrackets)
-            return false;
-        return constituencyTree.split(CONSTITUENCY_TREE_SEPARATOR, 2).length > 1;
-    }
+        private Phrase parsePhrase(int labelStart, int labelEnd) throws NotConvertableException {
+            List<Word> words = new ArrayList<>();
+            List<Phrase> subPhrases = new ArrayList<>();
+            while (true) {
+                this.skipSeparators();
+                if (this.position >= this.tree.length()) {
+                    throw this.invalid("unbalanced brackets");
+                }
+                if (this.tree.charAt(this.position) == CONSTITUENCY_TREE_CLOSE_BRACKET) {
+                    this.position++;
+                    return new PhraseImpl(Lists.immutable.ofAll(words), this.getPhraseType(labelStart, labelEnd), subPhrases);
+                }
+                Phrase subPhrase = this.parseNode(false);
+                if (subPhrase == null) {
+                    words.add(this.nextWord());
+                } else {
+                    subPhrases.add(subPhrase);
+                }
+            }
+        }
 
-    private List<String> getSubtrees(String treeWithoutType) {
-        List<String> subTrees = new ArrayList<>();
-        // iterate through tree to find all subtrees
-        while (!treeWithoutType.isEmpty()) {
-            // find next subtree
-            int index = 1;
-            while (!treeWithoutType.substring(0, index).endsWith(String.valueOf(CONSTITUENCY_TREE_CLOSE_BRACKET)) || getTreeOpenBrackets(treeWithoutType
-                    .substring(0, index)) != getTreeCloseBrackets(treeWithoutType.substring(0, index))) {
-                index++;
+        private void skipToken(int labelStart, int labelEnd) throws NotConvertableException {
+            if (this.tree.charAt(this.position) == CONSTITUENCY_TREE_CLOSE_BRACKET && this.isLabel(labelStart, labelEnd, POSTag.RIGHT_PAREN.getTag())) {
+                this.position++;
+            }
+            while (this.position < this.tree.length() && this.tree.charAt(this.position) != CONSTITUENCY_TREE_CLOSE_BRACKET) {
+                this.position++;
             }
-            // number of '(' and ')' is equal -> new subphrase tree found
-            subTrees.add(treeWithoutType.substring(0, index));
-            if (index == treeWithoutType.length()) {
-                treeWithoutType = "";
-            } else {
-                treeWithoutType = treeWithoutType.substring(index + 1);
+            if (this.position >= this.tree.length()) {
+                throw this.invalid("unbalanced brackets");
             }
+            this.position++;
         }
-        return subTrees;
-    }
 
-    private long getTreeOpenBrackets(String tree) {
-        return tree.chars().filter(ch -> ch == CONSTITUENCY_TREE_OPEN_BRACKET).count() - StringUtils.countMatches(tree, POSTag.LEFT_PAREN.getTag());
-    }
+        private void skipSeparators() {
+            while (this.position < this.tree.length() && this.tree.charAt(this.position) == CONSTITUENCY_TREE_SEPARATOR) {
+                this.position++;
+            }
+        }
 
-    private long getTreeCloseBrackets(String tree) {
-        return tree.chars().filter(ch -> ch == CONSTITUENCY_TREE_CLOSE_BRACKET).count() - StringUtils.countMatches(tree, POSTag.RIGHT_PAREN.getTag());
-    }
+        private Word nextWord() throws NotConvertableException {
+            if (this.consumedWords >= this.wordsOfSentence.size()) {
+                throw new NotConvertableException("Constituency tree does not match words of sentence");
+            }
+            return this.wordsOfSentence.get(this.consumedWords++);
+        }
 
-    private boolean isWord(String tree) {
-        return getTreeOpenBrackets(tree) == 1;
+        private boolean isLabel(int labelStart, int labelEnd, String label) {
+            return labelEnd - labelStart == label.length() && this.tree.startsWith(label, labelStart);
+        }
+
+        private PhraseType getPhraseType(int labelStart, int labelEnd) {
+            for (PhraseType phraseType : PHRASE_TYPES) {
+                String name = phraseType.toString();
+                if (name.length() == labelEnd - labelStart && this.tree.regionMatches(true, labelStart, name, 0, name.length())) {
+                    return phraseType;
+                }
+            }
+            return PhraseType.X;
+        }
+
+        private NotConvertableException invalid(String reason) {
+            return new NotConvertableException("Constituency tree is not valid: " + reason + " at position " + this.position);
+        }
     }
 
     private Word convertToWord(WordDto wordDTO, Text parent) {
@@ -1,28 +1,47 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2025. */
 package edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter;
 
 import static edu.kit.kastel.mcse.ardoco.core.common.JsonHandling.createObjectMapper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
 
 import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.IncomingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.OutgoingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
 
 /**
- * utility class to convert a text DTO into json and back
+ * Converts text DTOs into json and back. An instance holds the preconfigured json reader and writer and is thread-safe, so it can be reused for the
+ * conversion of many texts. The text schema is only loaded and compiled once, on first use.
+ * <p>
+ * By default, the structure of the text schema is checked inline while reading (see {@link StreamingTextDtoReader}) and on the DTO before writing. With
+ * schema validation enabled, json is additionally validated against the full text schema, which is slower and meant for debugging.
+ * <p>
+ * The static methods use shared instances.
  **/
 @Deterministic
 public final class JsonConverter {
@@ -30,25 +49,91 @@ public final class JsonConverter {
     private static final Logger logger = LoggerFactory.getLogger(JsonConverter.class);
 
     private static final String SCHEMA_PATH = "schemas/text.json";
+    private static final String JSON_FILE_EXTENSION = ".json";
 
-    private JsonConverter() {
+    private static final JsonConverter DEFAULT = new JsonConverter(false);
+    private static final JsonConverter SCHEMA_VALIDATING = new JsonConverter(true);
 
+    private final boolean validateSchema;
+    private final ObjectMapper treeMapper = createObjectMapper();
+    private final ObjectWriter textWriter = this.treeMapper.writerFor(TextDto.class);
+
+    /**
+     * Creates a converter that checks the structure of the text schema inline.
+     */
+    public JsonConverter() {
+        this(false);
+    }
+
+    /**
+     * Creates a converter.
+     *
+     * @param validateSchema whether json is additionally validated against the full text schema
+     */
+    public JsonConverter(boolean validateSchema) {
+        this.validateSchema = validateSchema;
     }
 
     /***
      * checks whether the json string matches the text schema
-     * 
+     *
      * @param json the json string
      * @return whether the json string matches the text schema
      */
     public static boolean validateJson(String json) throws IOException {
-        ObjectMapper mapper = createObjectMapper();
-        JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+        return DEFAULT.matchesSchema(json);
+    }
 
-        InputStream inputSchema = JsonConverter.class.getClassLoader().getResourceAsStream(SCHEMA_PATH);
-        JsonSchema schema = schemaFactory.getSchema(inputSchema);
+    /**
+     * generates the corresponding text DTO of the json string. The json is read in a single streaming pass that checks the structure of the text schema
+     * inline, see {@link StreamingTextDtoReader}.
+     *
+     * @param json the json string
+     * @return the corresponding text DTO
+     */
+    public static TextDto fromJsonString(String json) throws IOException, InvalidJsonException {
+        return DEFAULT.readText(json);
+    }
+
+    /**
+     * generates the corresponding text DTO of the json string. If requested, the json is additionally validated against the full text schema first, which
+     * parses the json into a tree and is therefore only meant for debugging.
+     *
+     * @param json           the json string
+     * @param validateSchema whether to validate the json against the full text schema
+     * @return the corresponding text DTO
+     */
+    public static TextDto fromJsonString(String json, boolean validateSchema) throws IOException, InvalidJsonException {
+        return (validateSchema ? SCHEMA_VALIDATING : DEFAULT).readText(json);
+    }
 
-        Set<ValidationMessage> message = schema.validate(mapper.readTree(json));
+    /**
+     * converts the text DTO into json string.
+     *
+     * @param obj the text DTO
+     * @return the JSON string
+     * @throws InvalidJsonException if the text DTO does not match the text schema
+     */
+    public static String toJsonString(TextDto obj) throws IOException, InvalidJsonException {
+        return DEFAULT.writeText(obj);
+    }
+
+    /**
+     * {@return whether json is additionally validated against the full text schema}
+     */
+    public boolean isValidatingSchema() {
+        return this.validateSchema;
+    }
+
+    /**
+     * Checks whether the json string matches the full text schema. Up to fifteen inconsistencies are logged.
+     *
+     * @param json the json string
+     * @return whether the json string matches the text schema
+     * @throws IOException if the string is no well-formed json
+     */
+    public boolean matchesSchema(String json) throws IOException {
+        Set<ValidationMessage> message = SchemaHolder.SCHEMA.validate(this.treeMapper.readTree(json));
         if (!message.isEmpty()) {
             // get only the first fifteen messages
             List<String> loggerMessages = message.stream().map(ValidationMessage::getMessage).toList();
@@ -62,31 +147,143 @@ public static boolean validateJson(String json) throws IOException {
     }
 
     /**
-     * generates the corresponding text DTO of the json string
-     * 
+     * Reads the text DTO from the json string.
+     *
      * @param json the json string
-     * @return the corresponding text DTO
+     * @return the text DTO
+     * @throws IOException          if the string is no well-formed json
+     * @throws InvalidJsonException if the json does not match the text schema
      */
-    public static TextDto fromJsonString(String json) throws IOException, InvalidJsonException {
-        if (!validateJson(json)) {
+    public TextDto readText(String json) throws IOException, InvalidJsonException {
+        if (this.validateSchema && !this.matchesSchema(json)) {
             throw new InvalidJsonException("The json string is no valid text DTO.");
         }
-        ObjectMapper objectMapper = createObjectMapper();
-        return objectMapper.readValue(json, TextDto.class);
+        return StreamingTextDtoReader.read(json);
     }
 
     /**
-     * converts the text DTO into json string. Returns null if the JSON could not be validated.
-     * 
-     * @param obj the text DTO
-     * @return the JSON string or null
+     * Reads the text DTO from a json file. Without schema validation, the file is streamed and never held in memory as a whole.
+     *
+     * @param file the json file
+     * @return the text DTO
+     * @throws IOException          if the file cannot be read or contains no well-formed json
+     * @throws InvalidJsonException if the json does not match the text schema
      */
-    public static String toJsonString(TextDto obj) throws IOException, InvalidJsonException {
-        ObjectMapper objectMapper = createObjectMapper();
-        String jsonString = objectMapper.writeValueAsString(obj);
-        if (!validateJson(jsonString)) {
+    public TextDto readText(Path file) throws IOException, InvalidJsonException {
+        if (this.validateSchema) {
+            return this.readText(Files.readString(file, StandardCharsets.UTF_8));
+        }
+        try (InputStream json = Files.newInputStream(file)) {
+            return StreamingTextDtoReader.read(json);
+        }
+    }
+
+    /**
+     * Reads the text DTOs of all json files (with the extension {@value #JSON_FILE_EXTENSION}) directly in the given directory. The files are read in
+     * parallel.
+     *
+     * @param directory the directory
+     * @return the text DTOs by the path of their file, sorted by path
+     * @throws IOException          if the directory or one of the files cannot be read or a file contains no well-formed json; if several files fail, the
+     *                              error of the first of them by path is thrown
+     * @throws InvalidJsonException if the json of a file does not match the text schema
+     */
+    public SortedMap<Path, TextDto> readTexts(Path directory) throws IOException, InvalidJsonException {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries.filter(file -> file.getFileName().toString().endsWith(JSON_FILE_EXTENSION) && Files.isRegularFile(file)).sorted().toList();
+        }
+
+        List<ReadResult> results = files.parallelStream().map(this::tryReadText).toList();
+
+        SortedMap<Path, TextDto> texts = new TreeMap<>();
+        for (ReadResult result : results) {
+            if (result.error() instanceof IOException ioException) {
+                throw new IOException("Could not read " + result.file() + ": " + ioException.getMessage(), ioException);
+            } else if (result.error() instanceof InvalidJsonException invalidJsonException) {
+                throw new InvalidJsonException(result.file() + ": " + invalidJsonException.getMessage());
+            }
+            texts.put(result.file(), result.text());
+        }
+        return texts;
+    }
+
+    private ReadResult tryReadText(Path file) {
+        try {
+            return new ReadResult(file, this.readText(file), null);
+        } catch (IOException | UncheckedIOException | InvalidJsonException e) {
+            return new ReadResult(file, null, e instanceof UncheckedIOException unchecked ? unchecked.getCause() : e);
+        }
+    }
+
+    /**
+     * Converts the text DTO into a json string.
+     *
+     * @param text the text DTO
+     * @return the json string
+     * @throws IOException          if the DTO cannot be serialized
+     * @throws InvalidJsonException if the text DTO does not match the text schema
+     */
+    public String writeText(TextDto text) throws IOException, InvalidJsonException {
+        if (!this.validateSchema) {
+            checkStructure(text);
+            return this.textWriter.writeValueAsString(text);
+        }
+        String jsonString = this.textWriter.writeValueAsString(text);
+        if (!this.matchesSchema(jsonString)) {
             throw new InvalidJsonException("The text DTO could not be converted into a json string. No valid text Dto");
         }
         return jsonString;
     }
+
+    /**
+     * Checks the constraints of the text schema that {@link StreamingTextDtoReader} checks while reading on the DTO, so that written json can be read again.
+     */
+    private static void checkStructure(TextDto text) throws InvalidJsonException {
+        List<SentenceDto> sentences = text.getSentences();
+        require(sentences != null && new LinkedHashSet<>(sentences).size() == sentences.size(), "the sentences are missing or not unique");
+        for (SentenceDto sentence : sentences) {
+            require(sentence != null && sentence.getSentenceNo() >= 0 && sentence.getText() != null && sentence.getConstituencyTree() != null,
+                    "a sentence lacks required properties");
+            List<WordDto> words = sentence.getWords();
+            require(words != null && new LinkedHashSet<>(words).size() == words.size(), "the words of sentence " + sentence
+                    .getSentenceNo() + " are missing or not unique");
+            for (WordDto word : words) {
+                require(word != null && word.getSentenceNo() >= 0 && word.getId() >= 1 && word.getText() != null && word.getLemma() != null && word
+                        .getPosTag() != null && word.getOutgoingDependencies() != null && word.getIncomingDependencies() != null,
+                        "a word of sentence " + sentence.getSentenceNo() + " lacks required properties");
+                for (OutgoingDependencyDto dependency : word.getOutgoingDependencies()) {
+                    require(dependency != null && dependency.getDependencyTag() != null, "an outgoing dependency of word " + word.getId() + " has no type");
+                }
+                for (IncomingDependencyDto dependency : word.getIncomingDependencies()) {
+                    require(dependency != null && dependency.getDependencyTag() != null, "an incoming dependency of word " + word.getId() + " has no type");
+                }
+            }
+        }
+    }
+
+    private static void require(boolean condition, String message) throws InvalidJsonException {
+        if (!condition) {
+            throw new InvalidJsonException("The text DTO could not be converted into a json string: " + message);
+        }
+    }
+
+    private record ReadResult(Path file, TextDto text, Exception error) {
+    }
+
+    /**
+     * Loads and compiles the text schema on first use. Compiled schemas are thread-safe.
+     */
+    private static final class SchemaHolder {
+        private static final JsonSchema SCHEMA = loadSchema();
+
+        private static JsonSchema loadSchema() {
+            JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+            try (InputStream inputSchema = JsonConverter.class.getClassLoader().getResourceAsStream(SCHEMA_PATH)) {
+                return schemaFactory.getSchema(inputSchema);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not load the text schema", e);
+            }
+        }
+    }
 }
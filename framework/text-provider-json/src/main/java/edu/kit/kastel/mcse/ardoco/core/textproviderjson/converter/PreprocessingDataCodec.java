@@ -0,0 +1,172 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.kit.kastel.mcse.ardoco.core.api.PreprocessingData;
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.data.CompactDataInput;
+import edu.kit.kastel.mcse.ardoco.core.data.CompactDataOutput;
+import edu.kit.kastel.mcse.ardoco.core.data.PipelineStepDataCodec;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.IncomingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.OutgoingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+
+/**
+ * Binary {@link PipelineStepDataCodec} for {@link PreprocessingData}. The text is written following the structure of the text schema ({@link TextDto}):
+ * strings such as word texts and lemmas are interned, tags are written by their (interned) names, and the word ids of the dependency edges of a word are
+ * written as int arrays.
+ */
+public final class PreprocessingDataCodec implements PipelineStepDataCodec<PreprocessingData> {
+
+    @Override
+    public Class<PreprocessingData> getDataType() {
+        return PreprocessingData.class;
+    }
+
+    @Override
+    public void encode(PreprocessingData data, CompactDataOutput output) throws IOException {
+        try {
+            this.encodeText(new ObjectToDtoConverter().convertTextToDTO(data.getText()), output);
+        } catch (NotConvertableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public PreprocessingData decode(CompactDataInput input) throws IOException {
+        try {
+            return new PreprocessingData(new DtoToObjectConverter().convertText(this.decodeText(input)));
+        } catch (NotConvertableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encodes a text DTO.
+     *
+     * @param textDto the text DTO
+     * @param output  the output to write to
+     */
+    void encodeText(TextDto textDto, CompactDataOutput output) {
+        output.writeVarInt(textDto.getSentences().size());
+        for (SentenceDto sentenceDto : textDto.getSentences()) {
+            output.writeVarInt((int) sentenceDto.getSentenceNo());
+            output.writeString(sentenceDto.getText());
+            output.writeString(sentenceDto.getConstituencyTree());
+            output.writeVarInt(sentenceDto.getWords().size());
+            for (WordDto wordDto : sentenceDto.getWords()) {
+                this.encodeWord(wordDto, output);
+            }
+        }
+    }
+
+    /**
+     * Decodes a text DTO written by {@link #encodeText(TextDto, CompactDataOutput)}.
+     *
+     * @param input the input to read from
+     * @return the text DTO
+     * @throws IOException if the input is malformed
+     */
+    TextDto decodeText(CompactDataInput input) throws IOException {
+        int numberOfSentences = input.readVarInt();
+        List<SentenceDto> sentences = new ArrayList<>(numberOfSentences);
+        for (int i = 0; i < numberOfSentences; i++) {
+            SentenceDto sentenceDto = new SentenceDto();
+            sentenceDto.setSentenceNo(input.readVarInt());
+            sentenceDto.setText(input.readString());
+            sentenceDto.setConstituencyTree(input.readString());
+            int numberOfWords = input.readVarInt();
+            List<WordDto> words = new ArrayList<>(numberOfWords);
+            for (int j = 0; j < numberOfWords; j++) {
+                words.add(this.decodeWord(input));
+            }
+            sentenceDto.setWords(words);
+            sentences.add(sentenceDto);
+        }
+        TextDto textDto = new TextDto();
+        textDto.setSentences(sentences);
+        return textDto;
+    }
+
+    private void encodeWord(WordDto wordDto, CompactDataOutput output) {
+        output.writeVarInt((int) wordDto.getId());
+        output.writeVarInt((int) wordDto.getSentenceNo());
+        output.writeString(wordDto.getText());
+        output.writeString(wordDto.getLemma());
+        output.writeEnum(wordDto.getPosTag());
+
+        List<IncomingDependencyDto> incomingDependencies = wordDto.getIncomingDependencies();
+        int[] sourceWordIds = new int[incomingDependencies.size()];
+        output.writeVarInt(sourceWordIds.length);
+        for (int i = 0; i < sourceWordIds.length; i++) {
+            output.writeEnum(incomingDependencies.get(i).getDependencyTag());
+            sourceWordIds[i] = (int) incomingDependencies.get(i).getSourceWordId();
+        }
+        output.writeIntArray(sourceWordIds);
+
+        List<OutgoingDependencyDto> outgoingDependencies = wordDto.getOutgoingDependencies();
+        int[] targetWordIds = new int[outgoingDependencies.size()];
+        output.writeVarInt(targetWordIds.length);
+        for (int i = 0; i < targetWordIds.length; i++) {
+            output.writeEnum(outgoingDependencies.get(i).getDependencyTag());
+            targetWordIds[i] = (int) outgoingDependencies.get(i).getTargetWordId();
+        }
+        output.writeIntArray(targetWordIds);
+    }
+
+    private WordDto decodeWord(CompactDataInput input) throws IOException {
+        WordDto wordDto = new WordDto();
+        wordDto.setId(input.readVarInt());
+        wordDto.setSentenceNo(input.readVarInt());
+        wordDto.setText(input.readString());
+        wordDto.setLemma(input.readString());
+        wordDto.setPosTag(input.readEnum(POSTag.class));
+
+        DependencyTag[] incomingTags = readDependencyTags(input);
+        int[] sourceWordIds = readMatchingIntArray(input, incomingTags.length);
+        List<IncomingDependencyDto> incomingDependencies = new ArrayList<>(incomingTags.length);
+        for (int i = 0; i < incomingTags.length; i++) {
+            IncomingDependencyDto dependencyDto = new IncomingDependencyDto();
+            dependencyDto.setDependencyTag(incomingTags[i]);
+            dependencyDto.setSourceWordId(sourceWordIds[i]);
+            incomingDependencies.add(dependencyDto);
+        }
+        wordDto.setIncomingDependencies(incomingDependencies);
+
+        DependencyTag[] outgoingTags = readDependencyTags(input);
+        int[] targetWordIds = readMatchingIntArray(input, outgoingTags.length);
+        List<OutgoingDependencyDto> outgoingDependencies = new ArrayList<>(outgoingTags.length);
+        for (int i = 0; i < outgoingTags.length; i++) {
+            OutgoingDependencyDto dependencyDto = new OutgoingDependencyDto();
+            dependencyDto.setDependencyTag(outgoingTags[i]);
+            dependencyDto.setTargetWordId(targetWordIds[i]);
+            outgoingDependencies.add(dependencyDto);
+        }
+        wordDto.setOutgoingDependencies(outgoingDependencies);
+        return wordDto;
+    }
+
+    private static DependencyTag[] readDependencyTags(CompactDataInput input) throws IOException {
+        int numberOfTags = input.readLength();
+        DependencyTag[] tags = new DependencyTag[numberOfTags];
+        for (int i = 0; i < numberOfTags; i++) {
+            tags[i] = input.readEnum(DependencyTag.class);
+        }
+        return tags;
+    }
+
+    private static int[] readMatchingIntArray(CompactDataInput input, int expectedLength) throws IOException {
+        int[] values = input.readIntArray();
+        if (values.length != expectedLength) {
+            throw new IOException("Number of dependency tags and word ids does not match");
+        }
+        return values;
+    }
+}
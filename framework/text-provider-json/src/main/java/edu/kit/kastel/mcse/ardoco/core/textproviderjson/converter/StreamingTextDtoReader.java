@@ -0,0 +1,296 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter;
+
+import static edu.kit.kastel.mcse.ardoco.core.common.JsonHandling.createObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.IncomingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.OutgoingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
+
+/**
+ * Reads a {@link TextDto} from json in a single pass over the tokens of a {@link JsonParser}, without building a tree of the document first. While reading,
+ * it checks the structural constraints of the text schema ({@code schemas/text.json}): required properties, property types, the minimum sentence numbers
+ * and word ids, the pos tags and dependency types, and the uniqueness of sentences and words. Unknown properties are skipped.
+ */
+@Deterministic
+public final class StreamingTextDtoReader {
+    private static final JsonFactory JSON_FACTORY = createObjectMapper().getFactory();
+
+    private static final int SENTENCE_NO = 1;
+    private static final int TEXT = 1 << 1;
+    private static final int CONSTITUENCY_TREE = 1 << 2;
+    private static final int WORDS = 1 << 3;
+    private static final int ID = 1 << 4;
+    private static final int LEMMA = 1 << 5;
+    private static final int POS_TAG = 1 << 6;
+    private static final int OUTGOING_DEPENDENCIES = 1 << 7;
+    private static final int INCOMING_DEPENDENCIES = 1 << 8;
+    private static final int WORD_ID = 1 << 9;
+    private static final int DEPENDENCY_TYPE = 1 << 10;
+
+    private static final int SENTENCE_PROPERTIES = SENTENCE_NO | TEXT | CONSTITUENCY_TREE | WORDS;
+    private static final int WORD_PROPERTIES = SENTENCE_NO | ID | TEXT | LEMMA | POS_TAG | OUTGOING_DEPENDENCIES | INCOMING_DEPENDENCIES;
+    private static final int DEPENDENCY_PROPERTIES = WORD_ID | DEPENDENCY_TYPE;
+
+    private StreamingTextDtoReader() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Reads the text DTO from the json string.
+     *
+     * @param json the json string
+     * @return the text DTO
+     * @throws IOException          if the string is no well-formed json
+     * @throws InvalidJsonException if the json does not match the text schema
+     */
+    public static TextDto read(String json) throws IOException, InvalidJsonException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return readText(parser);
+        }
+    }
+
+    /**
+     * Reads the text DTO from the json in the stream. The stream is closed afterwards.
+     *
+     * @param json the stream of the json
+     * @return the text DTO
+     * @throws IOException          if the stream cannot be read or contains no well-formed json
+     * @throws InvalidJsonException if the json does not match the text schema
+     */
+    public static TextDto read(InputStream json) throws IOException, InvalidJsonException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return readText(parser);
+        }
+    }
+
+    private static TextDto readText(JsonParser parser) throws IOException, InvalidJsonException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT, "text");
+        List<SentenceDto> sentences = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("sentences".equals(property)) {
+                sentences = readUniqueArray(parser, value, "sentences", StreamingTextDtoReader::readSentence);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (sentences == null) {
+            throw invalid(parser, "text lacks the required property 'sentences'");
+        }
+        var text = new TextDto();
+        text.setSentences(sentences);
+        return text;
+    }
+
+    private static SentenceDto readSentence(JsonParser parser) throws IOException, InvalidJsonException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT, "sentence");
+        var sentence = new SentenceDto();
+        int present = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (property) {
+            case "sentenceNo" -> {
+                sentence.setSentenceNo(readLong(parser, value, property, 0));
+                present |= SENTENCE_NO;
+            }
+            case "text" -> {
+                sentence.setText(readString(parser, value, property));
+                present |= TEXT;
+            }
+            case "constituencyTree" -> {
+                sentence.setConstituencyTree(readString(parser, value, property));
+                present |= CONSTITUENCY_TREE;
+            }
+            case "words" -> {
+                sentence.setWords(readUniqueArray(parser, value, property, StreamingTextDtoReader::readWord));
+                present |= WORDS;
+            }
+            default -> parser.skipChildren();
+            }
+        }
+        requireProperties(parser, present, SENTENCE_PROPERTIES, "sentence");
+        return sentence;
+    }
+
+    private static WordDto readWord(JsonParser parser) throws IOException, InvalidJsonException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT, "word");
+        var word = new WordDto();
+        int present = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (property) {
+            case "sentenceNo" -> {
+                word.setSentenceNo(readLong(parser, value, property, 0));
+                present |= SENTENCE_NO;
+            }
+            case "id" -> {
+                word.setId(readLong(parser, value, property, 1));
+                present |= ID;
+            }
+            case "text" -> {
+                word.setText(readString(parser, value, property));
+                present |= TEXT;
+            }
+            case "lemma" -> {
+                word.setLemma(readString(parser, value, property));
+                present |= LEMMA;
+            }
+            case "posTag" -> {
+                word.setPosTag(readPosTag(parser, value));
+                present |= POS_TAG;
+            }
+            case "outgoingDependencies" -> {
+                word.setOutgoingDependencies(readArray(parser, value, property, StreamingTextDtoReader::readOutgoingDependency));
+                present |= OUTGOING_DEPENDENCIES;
+            }
+            case "incomingDependencies" -> {
+                word.setIncomingDependencies(readArray(parser, value, property, StreamingTextDtoReader::readIncomingDependency));
+                present |= INCOMING_DEPENDENCIES;
+            }
+            default -> parser.skipChildren();
+            }
+        }
+        requireProperties(parser, present, WORD_PROPERTIES, "word");
+        return word;
+    }
+
+    private static OutgoingDependencyDto readOutgoingDependency(JsonParser parser) throws IOException, InvalidJsonException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT, "outgoing dependency");
+        var dependency = new OutgoingDependencyDto();
+        int present = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (property) {
+            case "targetWordId" -> {
+                dependency.setTargetWordId(readLong(parser, value, property, Long.MIN_VALUE));
+                present |= WORD_ID;
+            }
+            case "dependencyType" -> {
+                dependency.setDependencyTag(readDependencyTag(parser, value));
+                present |= DEPENDENCY_TYPE;
+            }
+            default -> parser.skipChildren();
+            }
+        }
+        requireProperties(parser, present, DEPENDENCY_PROPERTIES, "outgoing dependency");
+        return dependency;
+    }
+
+    private static IncomingDependencyDto readIncomingDependency(JsonParser parser) throws IOException, InvalidJsonException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT, "incoming dependency");
+        var dependency = new IncomingDependencyDto();
+        int present = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (property) {
+            case "sourceWordId" -> {
+                dependency.setSourceWordId(readLong(parser, value, property, Long.MIN_VALUE));
+                present |= WORD_ID;
+            }
+            case "dependencyType" -> {
+                dependency.setDependencyTag(readDependencyTag(parser, value));
+                present |= DEPENDENCY_TYPE;
+            }
+            default -> parser.skipChildren();
+            }
+        }
+        requireProperties(parser, present, DEPENDENCY_PROPERTIES, "incoming dependency");
+        return dependency;
+    }
+
+    private static <T> List<T> readArray(JsonParser parser, JsonToken token, String property, ElementReader<T> elementReader) throws IOException,
+            InvalidJsonException {
+        expect(parser, token, JsonToken.START_ARRAY, property);
+        List<T> elements = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elements.add(elementReader.read(parser));
+        }
+        return elements;
+    }
+
+    private static <T> List<T> readUniqueArray(JsonParser parser, JsonToken token, String property, ElementReader<T> elementReader) throws IOException,
+            InvalidJsonException {
+        List<T> elements = readArray(parser, token, property, elementReader);
+        if (new LinkedHashSet<>(elements).size() != elements.size()) {
+            throw invalid(parser, "'" + property + "' contains duplicate items");
+        }
+        return elements;
+    }
+
+    private static long readLong(JsonParser parser, JsonToken token, String property, long minimum) throws IOException, InvalidJsonException {
+        expect(parser, token, JsonToken.VALUE_NUMBER_INT, property);
+        long value = parser.getLongValue();
+        if (value < minimum) {
+            throw invalid(parser, "'" + property + "' must be at least " + minimum + " but is " + value);
+        }
+        return value;
+    }
+
+    private static String readString(JsonParser parser, JsonToken token, String property) throws IOException, InvalidJsonException {
+        expect(parser, token, JsonToken.VALUE_STRING, property);
+        return parser.getText();
+    }
+
+    private static POSTag readPosTag(JsonParser parser, JsonToken token) throws IOException, InvalidJsonException {
+        String value = readString(parser, token, "posTag");
+        try {
+            return POSTag.get(value);
+        } catch (IllegalArgumentException e) {
+            throw invalid(parser, "unknown posTag '" + value + "'");
+        }
+    }
+
+    private static DependencyTag readDependencyTag(JsonParser parser, JsonToken token) throws IOException, InvalidJsonException {
+        String value = readString(parser, token, "dependencyType");
+        try {
+            return DependencyTag.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw invalid(parser, "unknown dependencyType '" + value + "'");
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected, String name) throws InvalidJsonException {
+        if (actual != expected) {
+            throw invalid(parser, "expected " + expected + " for " + name + " but found " + (actual == null ? "end of input" : actual));
+        }
+    }
+
+    private static void requireProperties(JsonParser parser, int present, int required, String name) throws InvalidJsonException {
+        if ((present & required) != required) {
+            throw invalid(parser, name + " lacks required properties");
+        }
+    }
+
+    private static InvalidJsonException invalid(JsonParser parser, String message) {
+        var location = parser.currentTokenLocation();
+        return new InvalidJsonException("The json is no valid text DTO: " + message + " (line " + location.getLineNr() + ", column " + location
+                .getColumnNr() + ")");
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read(JsonParser parser) throws IOException, InvalidJsonException;
+    }
+}
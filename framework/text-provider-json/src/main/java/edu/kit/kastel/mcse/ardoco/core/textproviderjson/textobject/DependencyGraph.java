@@ -0,0 +1,135 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+
+/**
+ * The dependencies between the words of a {@link TextImpl} in compressed sparse row form: for each direction, the dependencies of all words are stored in
+ * two int arrays of word ids and tag ordinals, and the dependencies of the word at index {@code i} are those from {@code offsets[i]} to
+ * {@code offsets[i + 1]}. The dependent words of one {@link DependencyTag} are resolved for all words when the tag is first requested and then returned as
+ * cached immutable lists. Instances are thread-safe.
+ */
+final class DependencyGraph {
+    private static final int NUMBER_OF_TAGS = DependencyTag.values().length;
+
+    private final Word[] words;
+    private final Adjacency outgoing;
+    private final Adjacency incoming;
+
+    /**
+     * Creates the graph of the dependencies of the given words, where the word at index {@code i} has the position {@code i} in the text.
+     *
+     * @param words the words of the text, must not be modified afterwards
+     */
+    DependencyGraph(Word[] words) {
+        this.words = words;
+        this.outgoing = new Adjacency(words, true);
+        this.incoming = new Adjacency(words, false);
+    }
+
+    /**
+     * {@return whether the word is part of this graph at its position}
+     *
+     * @param word the word
+     */
+    boolean contains(Word word) {
+        int position = word.getPosition();
+        return position >= 0 && position < this.words.length && this.words[position] == word;
+    }
+
+    /**
+     * {@return the targets of the outgoing dependencies of the given type of the word at the given position, in the order of its dependencies}
+     *
+     * @param position      the position of the word
+     * @param dependencyTag the type of the dependencies
+     */
+    ImmutableList<Word> getOutgoingDependencyWords(int position, DependencyTag dependencyTag) {
+        return this.outgoing.getWords(position, dependencyTag.ordinal());
+    }
+
+    /**
+     * {@return the sources of the incoming dependencies of the given type of the word at the given position, in the order of its dependencies}
+     *
+     * @param position      the position of the word
+     * @param dependencyTag the type of the dependencies
+     */
+    ImmutableList<Word> getIncomingDependencyWords(int position, DependencyTag dependencyTag) {
+        return this.incoming.getWords(position, dependencyTag.ordinal());
+    }
+
+    private static final class Adjacency {
+        private final Word[] words;
+        private final int[] offsets;
+        private final int[] wordIds;
+        private final int[] tags;
+        private final AtomicReferenceArray<ImmutableList<Word>[]> wordsByTag = new AtomicReferenceArray<>(NUMBER_OF_TAGS);
+
+        private Adjacency(Word[] words, boolean outgoing) {
+            this.words = words;
+            this.offsets = new int[words.length + 1];
+            for (int position = 0; position < words.length; position++) {
+                this.offsets[position + 1] = this.offsets[position] + dependenciesOf(words[position], outgoing).size();
+            }
+            this.wordIds = new int[this.offsets[words.length]];
+            this.tags = new int[this.wordIds.length];
+            int edge = 0;
+            for (Word word : words) {
+                for (DependencyImpl dependency : dependenciesOf(word, outgoing)) {
+                    this.wordIds[edge] = (int) dependency.getWordId();
+                    this.tags[edge] = dependency.getDependencyTag().ordinal();
+                    edge++;
+                }
+            }
+        }
+
+        private static List<DependencyImpl> dependenciesOf(Word word, boolean outgoing) {
+            List<DependencyImpl> dependencies = null;
+            if (word instanceof WordImpl wordImpl) {
+                dependencies = outgoing ? wordImpl.getOutgoingDependencies() : wordImpl.getIncomingDependencies();
+            }
+            return dependencies == null ? List.of() : dependencies;
+        }
+
+        private ImmutableList<Word> getWords(int position, int tag) {
+            ImmutableList<Word>[] wordsOfTag = this.wordsByTag.get(tag);
+            if (wordsOfTag == null) {
+                wordsOfTag = this.resolveWords(tag);
+                if (!this.wordsByTag.compareAndSet(tag, null, wordsOfTag)) {
+                    wordsOfTag = this.wordsByTag.get(tag);
+                }
+            }
+            return wordsOfTag[position];
+        }
+
+        @SuppressWarnings("unchecked")
+        private ImmutableList<Word>[] resolveWords(int tag) {
+            ImmutableList<Word>[] wordsOfTag = new ImmutableList[this.words.length];
+            ImmutableList<Word> noWords = Lists.immutable.empty();
+            for (int position = 0; position < this.words.length; position++) {
+                MutableList<Word> dependentWords = null;
+                for (int edge = this.offsets[position]; edge < this.offsets[position + 1]; edge++) {
+                    if (this.tags[edge] == tag) {
+                        if (dependentWords == null) {
+                            dependentWords = Lists.mutable.empty();
+                        }
+                        dependentWords.add(this.getWord(this.wordIds[edge]));
+                    }
+                }
+                wordsOfTag[position] = dependentWords == null ? noWords : dependentWords.toImmutable();
+            }
+            return wordsOfTag;
+        }
+
+        private Word getWord(int wordId) {
+            return wordId >= 0 && wordId < this.words.length ? this.words[wordId] : null;
+        }
+    }
+}
@@ -3,8 +3,6 @@
 
 import java.io.Serial;
 import java.util.Objects;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
@@ -14,69 +12,71 @@
 import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 
+/**
+ * A text of sentences. The words of all sentences are indexed in an array when the sentences are set, so {@link #getWord(int)} is a lock-free array access
+ * and {@link #words()} returns the same list on every call. The dependencies between the words are looked up in a {@link DependencyGraph}.
+ */
 public class TextImpl implements Text {
     @Serial
     private static final long serialVersionUID = 9154125201453994969L;
-    private MutableList<Sentence> sentences;
+    private static final Word[] NO_WORDS = new Word[0];
 
-    private MutableList<Word> words;
-    private final SortedMap<Integer, Word> wordsIndex = new TreeMap<>();
-
-    private int length = -1;
+    private volatile ImmutableList<Sentence> sentences = Lists.immutable.empty();
+    private volatile ImmutableList<Word> words = Lists.immutable.empty();
+    private volatile Word[] wordsIndex = NO_WORDS;
+    private transient volatile DependencyGraph dependencyGraph;
 
     public TextImpl() {
-        sentences = Lists.mutable.empty();
-        words = Lists.mutable.empty();
+        // the sentences are set after their words have been created with this text as parent
     }
 
     public void setSentences(ImmutableList<Sentence> sentences) {
-        this.sentences = sentences.toList();
+        MutableList<Word> collectedWords = Lists.mutable.empty();
+        for (Sentence sentence : sentences) {
+            collectedWords.addAllIterable(sentence.getWords());
+        }
+        this.sentences = sentences;
+        this.words = collectedWords.toImmutable();
+        this.wordsIndex = collectedWords.toArray(new Word[0]);
+        this.dependencyGraph = null;
     }
 
-    @Override
-    public synchronized int getNumberOfWords() {
-        if (this.length < 0) {
-            int calculatedLength = 0;
-            for (Sentence sentence : sentences) {
-                calculatedLength += sentence.getWords().size();
+    /**
+     * {@return the graph of the dependencies between the words of this text, built on first use}
+     */
+    DependencyGraph getDependencyGraph() {
+        DependencyGraph graph = this.dependencyGraph;
+        if (graph == null) {
+            synchronized (this) {
+                graph = this.dependencyGraph;
+                if (graph == null) {
+                    graph = new DependencyGraph(this.wordsIndex);
+                    this.dependencyGraph = graph;
+                }
             }
-            this.length = calculatedLength;
         }
-        return length;
+        return graph;
     }
 
     @Override
-    public ImmutableList<Word> words() {
-        if (words.isEmpty()) {
-            words = collectWords().toList();
-            int index = 0;
-            for (Word word : words) {
-                wordsIndex.put(index, word);
-                index++;
-            }
-        }
-        return words.toImmutable();
+    public int getNumberOfWords() {
+        return this.wordsIndex.length;
     }
 
     @Override
-    public synchronized Word getWord(int index) {
-        if (wordsIndex.isEmpty()) {
-            words();
-        }
-        return wordsIndex.get(index);
+    public ImmutableList<Word> words() {
+        return this.words;
     }
 
     @Override
-    public ImmutableList<Sentence> getSentences() {
-        return sentences.toImmutable();
+    public Word getWord(int index) {
+        Word[] index2Word = this.wordsIndex;
+        return index >= 0 && index < index2Word.length ? index2Word[index] : null;
     }
 
-    private ImmutableList<Word> collectWords() {
-        MutableList<Word> collectedWords = Lists.mutable.empty();
-        for (Sentence sentence : sentences) {
-            collectedWords.addAll(sentence.getWords().toList());
-        }
-        return collectedWords.toImmutable();
+    @Override
+    public ImmutableList<Sentence> getSentences() {
+        return this.sentences;
     }
 
     @Override
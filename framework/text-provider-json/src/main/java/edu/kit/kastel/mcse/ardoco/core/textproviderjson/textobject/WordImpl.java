@@ -97,6 +97,10 @@ public String getLemma() {
 
     @Override
     public ImmutableList<Word> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
+        DependencyGraph dependencyGraph = this.getDependencyGraph();
+        if (dependencyGraph != null) {
+            return dependencyGraph.getOutgoingDependencyWords(this.indexInText, dependencyTag);
+        }
         List<DependencyImpl> dependenciesOfType = this.outgoingDependencies.stream().filter(x -> x.getDependencyTag() == dependencyTag).toList();
         List<Word> words = dependenciesOfType.stream().map(x -> this.parent.getWord((int) x.getWordId())).toList();
         return Lists.immutable.ofAll(words);
@@ -104,11 +108,36 @@ public ImmutableList<Word> getOutgoingDependencyWordsWithType(DependencyTag depe
 
     @Override
     public ImmutableList<Word> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
+        DependencyGraph dependencyGraph = this.getDependencyGraph();
+        if (dependencyGraph != null) {
+            return dependencyGraph.getIncomingDependencyWords(this.indexInText, dependencyTag);
+        }
         List<DependencyImpl> dependenciesOfType = this.ingoingDependencies.stream().filter(x -> x.getDependencyTag() == dependencyTag).toList();
         List<Word> words = dependenciesOfType.stream().map(x -> this.parent.getWord((int) x.getWordId())).toList();
         return Lists.immutable.ofAll(words);
     }
 
+    /**
+     * {@return the dependency graph of the parent text, or null if the parent is no {@link TextImpl} that contains this word at its position}
+     */
+    private DependencyGraph getDependencyGraph() {
+        if (this.parent instanceof TextImpl textImpl) {
+            DependencyGraph dependencyGraph = textImpl.getDependencyGraph();
+            if (dependencyGraph.contains(this)) {
+                return dependencyGraph;
+            }
+        }
+        return null;
+    }
+
+    List<DependencyImpl> getIncomingDependencies() {
+        return this.ingoingDependencies;
+    }
+
+    List<DependencyImpl> getOutgoingDependencies() {
+        return this.outgoingDependencies;
+    }
+
     @Override
     public Phrase getPhrase() {
         if (this.phrase == null) {
@@ -1,14 +1,23 @@
 /* Licensed under MIT 2023-2025. */
 package edu.kit.kastel.mcse.ardoco.core.textproviderjson;
 
+import java.util.List;
+
+import org.eclipse.collections.api.factory.Lists;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.DtoToObjectConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.DependencyImpl;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.SentenceImpl;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.TextImpl;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.WordImpl;
 
 class TextImplTest {
     private static final DtoToObjectConverter CONVERTER = new DtoToObjectConverter();
@@ -40,6 +49,44 @@ void getWordTest() {
         Assertions.assertEquals(baselineText.getWord(0), textImplInstance.getWord(0));
     }
 
+    @Test
+    void wordIndexTest() {
+        var words = textImplInstance.words();
+        Assertions.assertSame(words, textImplInstance.words());
+        Assertions.assertEquals(words.size(), textImplInstance.getNumberOfWords());
+        for (int i = 0; i < words.size(); i++) {
+            Assertions.assertSame(words.get(i), textImplInstance.getWord(i));
+        }
+        Assertions.assertNull(textImplInstance.getWord(-1));
+        Assertions.assertNull(textImplInstance.getWord(words.size()));
+        Assertions.assertSame(words.get(1), words.get(2).getPreWord());
+        Assertions.assertSame(words.get(2), words.get(1).getNextWord());
+    }
+
+    @Test
+    void dependencyWordsTest() {
+        TextImpl text = new TextImpl();
+        WordImpl server = new WordImpl(text, 0, 0, "server", POSTag.NOUN, "server", List.of(new DependencyImpl(DependencyTag.COMPOUND, 1)), List.of());
+        WordImpl web = new WordImpl(text, 1, 0, "web", POSTag.NOUN, "web", List.of(), List.of(new DependencyImpl(DependencyTag.COMPOUND, 0),
+                new DependencyImpl(DependencyTag.AMOD, 2), new DependencyImpl(DependencyTag.COMPOUND, 2), new DependencyImpl(DependencyTag.NMOD, 7)));
+        WordImpl fast = new WordImpl(text, 2, 0, "fast", POSTag.ADJECTIVE, "fast", List.of(new DependencyImpl(DependencyTag.AMOD, 1), new DependencyImpl(
+                DependencyTag.COMPOUND, 1)), List.of());
+        text.setSentences(Lists.immutable.with(new SentenceImpl(0, "server web fast", Lists.immutable.with(server, web, fast))));
+
+        Assertions.assertEquals(Lists.immutable.with(server, fast), web.getOutgoingDependencyWordsWithType(DependencyTag.COMPOUND));
+        Assertions.assertSame(web.getOutgoingDependencyWordsWithType(DependencyTag.COMPOUND), web.getOutgoingDependencyWordsWithType(DependencyTag.COMPOUND));
+        Assertions.assertEquals(Lists.immutable.with(fast), web.getOutgoingDependencyWordsWithType(DependencyTag.AMOD));
+        Assertions.assertEquals(Lists.immutable.with((Word) null), web.getOutgoingDependencyWordsWithType(DependencyTag.NMOD));
+        Assertions.assertTrue(web.getIncomingDependencyWordsWithType(DependencyTag.COMPOUND).isEmpty());
+        Assertions.assertTrue(server.getOutgoingDependencyWordsWithType(DependencyTag.COMPOUND).isEmpty());
+        Assertions.assertEquals(Lists.immutable.with(web), server.getIncomingDependencyWordsWithType(DependencyTag.COMPOUND));
+        Assertions.assertEquals(Lists.immutable.with(web), fast.getIncomingDependencyWordsWithType(DependencyTag.AMOD));
+
+        // words that are not part of the text at their position resolve their dependencies through the text
+        WordImpl detached = new WordImpl(text, 1, 0, "web", POSTag.NOUN, "web", List.of(), List.of(new DependencyImpl(DependencyTag.COMPOUND, 0)));
+        Assertions.assertEquals(Lists.immutable.with(server), detached.getOutgoingDependencyWordsWithType(DependencyTag.COMPOUND));
+    }
+
     @Test
     void getSentencesTest() {
         Assertions.assertEquals(baselineText.getSentences().size(), textImplInstance.getSentences().size());
@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023. */
+/* Licensed under MIT 2023-2025. */
 package edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter;
 
 import java.io.IOException;
@@ -6,12 +6,15 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SortedMap;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
 import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.IncomingDependencyDto;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.OutgoingDependencyDto;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
@@ -19,6 +22,7 @@
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
 
+@Deterministic
 class JsonConverterTest {
 
     @Test
@@ -55,6 +59,45 @@ void testFromJsonString() throws IOException, InvalidJsonException {
         Assertions.assertEquals(expectedText, generatedText);
     }
 
+    @Test
+    void testConverterInstance() throws IOException, InvalidJsonException {
+        String validJsonText = getValidJsonExample();
+        String invalidJsonText = Files.readString(Path.of("./src/test/resources/invalid-example-text.json"));
+        TextDto expectedText = getValidTextDtoExample();
+
+        for (JsonConverter converter : List.of(new JsonConverter(), new JsonConverter(true))) {
+            Assertions.assertEquals(expectedText, converter.readText(validJsonText));
+            Assertions.assertEquals(expectedText, converter.readText(converter.writeText(expectedText)));
+            Assertions.assertThrows(InvalidJsonException.class, () -> converter.readText(invalidJsonText));
+            Assertions.assertThrows(InvalidJsonException.class, () -> converter.writeText(new TextDto()));
+        }
+        Assertions.assertTrue(new JsonConverter().matchesSchema(validJsonText));
+        Assertions.assertFalse(new JsonConverter().matchesSchema(invalidJsonText));
+    }
+
+    @Test
+    void testReadTexts(@TempDir Path directory) throws IOException, InvalidJsonException {
+        String validJsonText = getValidJsonExample();
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(directory.resolve("text-" + i + ".json"), validJsonText);
+        }
+        Files.writeString(directory.resolve("notes.txt"), "no json");
+        Files.createDirectory(directory.resolve("nested.json"));
+
+        SortedMap<Path, TextDto> texts = new JsonConverter().readTexts(directory);
+        Assertions.assertEquals(5, texts.size());
+        Assertions.assertEquals(directory.resolve("text-0.json"), texts.firstKey());
+        TextDto expectedText = getValidTextDtoExample();
+        for (TextDto text : texts.values()) {
+            Assertions.assertEquals(expectedText, text);
+        }
+
+        Files.writeString(directory.resolve("text-3.json"), Files.readString(Path.of("./src/test/resources/invalid-example-text.json")));
+        Files.writeString(directory.resolve("text-4.json"), "{");
+        var exception = Assertions.assertThrows(InvalidJsonException.class, () -> new JsonConverter().readTexts(directory));
+        Assertions.assertTrue(exception.getMessage().contains("text-3.json"));
+    }
+
     private String getValidJsonExample() throws IOException {
         return Files.readString(Path.of("./src/test/resources/valid-example-text.json"));
     }
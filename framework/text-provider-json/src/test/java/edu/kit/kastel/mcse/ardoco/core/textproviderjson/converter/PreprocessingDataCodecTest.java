@@ -0,0 +1,164 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.PreprocessingData;
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.common.JsonHandling;
+import edu.kit.kastel.mcse.ardoco.core.data.CompactDataInput;
+import edu.kit.kastel.mcse.ardoco.core.data.CompactDataOutput;
+import edu.kit.kastel.mcse.ardoco.core.data.PipelineStepDataCodecs;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.TestUtil;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.IncomingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.OutgoingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+
+class PreprocessingDataCodecTest {
+    private static final Logger logger = LoggerFactory.getLogger(PreprocessingDataCodecTest.class);
+
+    private final PreprocessingDataCodec codec = new PreprocessingDataCodec();
+
+    @Test
+    void testTextDtoRoundTrip() throws IOException {
+        TextDto textDto = TestUtil.generateTextDtoWithDependencies();
+        Assertions.assertEquals(textDto, this.roundTrip(textDto));
+
+        TextDto multipleSentences = TestUtil.generateDTOWithMultipleSentences();
+        Assertions.assertEquals(multipleSentences, this.roundTrip(multipleSentences));
+    }
+
+    @Test
+    void testSerializeUsesCodec() throws IOException, NotConvertableException {
+        PreprocessingData preprocessingData = new PreprocessingData(TestUtil.generateTextWithDependencies());
+        String serialized = preprocessingData.serialize();
+        Assertions.assertTrue(PipelineStepDataCodecs.isBinary(serialized));
+
+        var deserialized = (PreprocessingData) preprocessingData.deserialize(serialized);
+        ObjectToDtoConverter converter = new ObjectToDtoConverter();
+        Assertions.assertEquals(converter.convertTextToDTO(preprocessingData.getText()), converter.convertTextToDTO(deserialized.getText()));
+    }
+
+    @Test
+    void testRejectsTruncatedData() {
+        PreprocessingData preprocessingData = new PreprocessingData(TestUtil.generateTextWithDependencies());
+        String serialized = preprocessingData.serialize();
+        Assertions.assertNull(preprocessingData.deserialize(serialized.substring(0, serialized.length() / 2)));
+    }
+
+    @Test
+    void testTagsAreWrittenByName() throws IOException {
+        CompactDataOutput output = new CompactDataOutput();
+        output.writeEnum(DependencyTag.NSUBJ);
+        output.writeString("UNKNOWN_TAG");
+        CompactDataInput input = new CompactDataInput(output.toByteArray());
+
+        Assertions.assertEquals(DependencyTag.NSUBJ.name(), input.readString());
+        Assertions.assertThrows(IOException.class, () -> input.readEnum(DependencyTag.class));
+    }
+
+    /**
+     * Compares the size of the binary format with the JSON format on a text with varied words, sentence lengths, tags and dependencies.
+     */
+    @Test
+    void testBinaryFormatIsSmallerThanJson() throws IOException {
+        TextDto text = generateVariedText(500);
+
+        var objectMapper = JsonHandling.createObjectMapper();
+        byte[] json = objectMapper.writeValueAsBytes(text);
+        CompactDataOutput output = new CompactDataOutput();
+        this.codec.encodeText(text, output);
+        byte[] binary = output.toByteArray();
+
+        logger.info("JSON: {} bytes, binary: {} bytes", json.length, binary.length);
+        Assertions.assertEquals(objectMapper.readValue(json, TextDto.class), this.codec.decodeText(new CompactDataInput(binary)));
+        Assertions.assertTrue(binary.length < json.length / 3);
+    }
+
+    /**
+     * Generates a text from a vocabulary of distinct words, where few words are frequent and most are rare. Sentences have between 5 and 34 words, each word
+     * has a random POS tag, and each word except the first of a sentence depends on a random preceding word via a random dependency tag.
+     */
+    private static TextDto generateVariedText(int numberOfSentences) {
+        Random random = new Random(42);
+        POSTag[] posTags = POSTag.values();
+        DependencyTag[] dependencyTags = DependencyTag.values();
+        List<String> vocabulary = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            vocabulary.add(word.toString());
+        }
+
+        List<SentenceDto> sentences = new ArrayList<>();
+        long wordId = 1;
+        for (int sentenceNo = 1; sentenceNo <= numberOfSentences; sentenceNo++) {
+            int numberOfWords = 5 + random.nextInt(30);
+            List<WordDto> words = new ArrayList<>();
+            StringJoiner sentenceText = new StringJoiner(" ");
+            StringJoiner constituencyTree = new StringJoiner(" ", "(ROOT (S ", "))");
+            for (int i = 0; i < numberOfWords; i++) {
+                String text = vocabulary.get((int) (vocabulary.size() * Math.pow(random.nextDouble(), 3)));
+                WordDto word = new WordDto();
+                word.setId(wordId + i);
+                word.setSentenceNo(sentenceNo);
+                word.setText(text);
+                word.setLemma(text.length() > 3 && random.nextBoolean() ? text.substring(0, text.length() - 1) : text);
+                word.setPosTag(posTags[random.nextInt(posTags.length)]);
+                word.setIncomingDependencies(new ArrayList<>());
+                word.setOutgoingDependencies(new ArrayList<>());
+                words.add(word);
+                sentenceText.add(text);
+                constituencyTree.add("(" + word.getPosTag().getTag() + " " + text + ")");
+            }
+            for (int i = 1; i < numberOfWords; i++) {
+                WordDto head = words.get(random.nextInt(i));
+                DependencyTag dependencyTag = dependencyTags[random.nextInt(dependencyTags.length)];
+                IncomingDependencyDto incomingDependency = new IncomingDependencyDto();
+                incomingDependency.setDependencyTag(dependencyTag);
+                incomingDependency.setSourceWordId(head.getId());
+                words.get(i).getIncomingDependencies().add(incomingDependency);
+                OutgoingDependencyDto outgoingDependency = new OutgoingDependencyDto();
+                outgoingDependency.setDependencyTag(dependencyTag);
+                outgoingDependency.setTargetWordId(words.get(i).getId());
+                head.getOutgoingDependencies().add(outgoingDependency);
+            }
+            wordId += numberOfWords;
+
+            SentenceDto sentence = new SentenceDto();
+            sentence.setSentenceNo(sentenceNo);
+            sentence.setText(sentenceText + ".");
+            sentence.setConstituencyTree(constituencyTree.toString());
+            sentence.setWords(words);
+            sentences.add(sentence);
+        }
+        TextDto text = new TextDto();
+        text.setSentences(sentences);
+        return text;
+    }
+
+    private TextDto roundTrip(TextDto textDto) throws IOException {
+        CompactDataOutput output = new CompactDataOutput();
+        this.codec.encodeText(textDto, output);
+        CompactDataInput input = new CompactDataInput(output.toByteArray());
+        TextDto decoded = this.codec.decodeText(input);
+        Assertions.assertTrue(input.isAtEnd());
+        return decoded;
+    }
+}
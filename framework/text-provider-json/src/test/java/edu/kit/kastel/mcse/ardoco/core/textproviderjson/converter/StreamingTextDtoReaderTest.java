@@ -0,0 +1,75 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter;
+
+import static edu.kit.kastel.mcse.ardoco.core.common.JsonHandling.createObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
+
+/**
+ * Tests for {@link StreamingTextDtoReader}.
+ */
+class StreamingTextDtoReaderTest {
+    private static final String WORD = """
+            {"sentenceNo": 1, "id": %s, "text": "Hello", "lemma": "hello", "posTag": %s, "outgoingDependencies": [%s], "incomingDependencies": []}""";
+
+    @Test
+    void readsLikeObjectMapper() throws IOException, InvalidJsonException {
+        String json = Files.readString(Path.of("./src/test/resources/valid-example-text.json"));
+        TextDto expected = createObjectMapper().readValue(json, TextDto.class);
+
+        Assertions.assertEquals(expected, StreamingTextDtoReader.read(json));
+        Assertions.assertEquals(expected, StreamingTextDtoReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void skipsUnknownProperties() throws IOException, InvalidJsonException {
+        String json = text(word("1", "\"UH\"", "{\"targetWordId\": 1, \"dependencyType\": \"APPOS\", \"extra\": [1, {\"a\": 2}]}"), "\"comment\": {\"x\": []}");
+        TextDto text = StreamingTextDtoReader.read(json);
+
+        var word = text.getSentences().getFirst().getWords().getFirst();
+        Assertions.assertEquals(DependencyTag.APPOS, word.getOutgoingDependencies().getFirst().getDependencyTag());
+        Assertions.assertEquals(createObjectMapper().readValue(json, TextDto.class), text);
+    }
+
+    @Test
+    void rejectsStructuralViolations() throws IOException {
+        String invalidExample = Files.readString(Path.of("./src/test/resources/invalid-example-text.json"));
+        Assertions.assertThrows(InvalidJsonException.class, () -> StreamingTextDtoReader.read(invalidExample));
+
+        Assertions.assertThrows(InvalidJsonException.class, () -> StreamingTextDtoReader.read("[]"));
+        Assertions.assertThrows(InvalidJsonException.class, () -> StreamingTextDtoReader.read("{}"));
+        Assertions.assertThrows(InvalidJsonException.class, () -> StreamingTextDtoReader.read(text(word("0", "\"UH\"", ""), "")));
+        Assertions.assertThrows(InvalidJsonException.class, () -> StreamingTextDtoReader.read(text(word("\"1\"", "\"UH\"", ""), "")));
+        Assertions.assertThrows(InvalidJsonException.class, () -> StreamingTextDtoReader.read(text(word("1", "\"XYZ\"", ""), "")));
+        Assertions.assertThrows(InvalidJsonException.class, () -> StreamingTextDtoReader.read(text(word("1", "null", ""), "")));
+        Assertions.assertThrows(InvalidJsonException.class, () -> StreamingTextDtoReader.read(text(word("1", "\"UH\"",
+                "{\"targetWordId\": 1, \"dependencyType\": \"NONE\"}"), "")));
+        Assertions.assertThrows(InvalidJsonException.class, () -> StreamingTextDtoReader.read(text(word("1", "\"UH\"", "") + ", " + word("1", "\"UH\"", ""),
+                "")));
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        Assertions.assertThrows(IOException.class, () -> StreamingTextDtoReader.read("{\"sentences\": [}"));
+    }
+
+    private static String word(String id, String posTag, String outgoingDependencies) {
+        return WORD.formatted(id, posTag, outgoingDependencies);
+    }
+
+    private static String text(String words, String extraProperty) {
+        return "{" + (extraProperty.isEmpty() ? "" : extraProperty + ", ")
+                + "\"sentences\": [{\"sentenceNo\": 1, \"text\": \"Hello\", \"constituencyTree\": \"(ROOT (INTJ (UH Hello)))\", \"words\": [" + words + "]}]}";
+    }
+}
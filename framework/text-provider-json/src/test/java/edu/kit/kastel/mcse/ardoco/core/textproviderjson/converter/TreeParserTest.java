@@ -3,10 +3,14 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.collections.api.factory.Lists;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
@@ -17,6 +21,11 @@
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.WordImpl;
 
 class TreeParserTest {
+    private static final Logger logger = LoggerFactory.getLogger(TreeParserTest.class);
+
+    private static final String[] RANDOM_LABELS = { "NP", "VP", "S", "PP", "SBAR", "ADJP", "PRN", "X", "FOO" };
+    private static final String[] RANDOM_LEAVES = { "(NN foo)", "(DT the)", "(. .)", "(-LRB- ()", "(-RRB- ))", "(, ,)", "(NNP New)",
+            "(: --)", "(NP )" };
 
     String tree = "(ROOT (S (NP (DT This)) (VP (VBZ is) (NP (PRP me))) (. .)))";
 
@@ -36,4 +45,181 @@ void parseConstituencyTreeTest() throws NotConvertableException {
         Phrase parsedPhrase = converter.parseConstituencyTree(tree, new ArrayList<>(words));
         Assertions.assertEquals(expectedPhrase, parsedPhrase);
     }
+
+    @Test
+    void parseBracketLeavesTest() throws NotConvertableException {
+        List<Word> sentence = createWords(4);
+        List<Word> remaining = new ArrayList<>(sentence);
+        remaining.add(new WordImpl(null, 4, 0, "next", POSTag.NOUN, null, null, null));
+        Phrase parsedPhrase = new DtoToObjectConverter().parseConstituencyTree("(ROOT (PRN (-LRB- () (NP (NN see)) (-RRB- ))) (NP (-LRB- -LRB-)))",
+                remaining);
+
+        Phrase parenthesis = new PhraseImpl(Lists.immutable.of(sentence.get(0), sentence.get(2)), PhraseType.PRN, List.of(new PhraseImpl(Lists.immutable.of(
+                sentence.get(1)), PhraseType.NP, List.of())));
+        Phrase lrb = new PhraseImpl(Lists.immutable.of(sentence.get(3)), PhraseType.NP, List.of());
+        Assertions.assertEquals(new PhraseImpl(Lists.immutable.empty(), PhraseType.ROOT, List.of(parenthesis, lrb)), parsedPhrase);
+        Assertions.assertEquals(1, remaining.size());
+    }
+
+    @Test
+    void parseChildlessRootTest() throws NotConvertableException {
+        List<Word> remaining = new ArrayList<>(words);
+        Phrase parsedPhrase = new DtoToObjectConverter().parseConstituencyTree("(ROOT )", remaining);
+
+        Assertions.assertEquals(new PhraseImpl(Lists.immutable.empty(), PhraseType.ROOT, List.of()), parsedPhrase);
+        Assertions.assertEquals(words, remaining);
+        Assertions.assertEquals(FormerParser.parse("(ROOT )", new ArrayList<>(words)), parsedPhrase);
+    }
+
+    /**
+     * Compares the parser with the former substring-based parser on random trees, including bracket leaves, unknown labels, and childless nodes.
+     */
+    @Test
+    void parseLikeFormerParserTest() throws NotConvertableException {
+        Random random = new Random(42);
+        DtoToObjectConverter converter = new DtoToObjectConverter();
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder builder = new StringBuilder("(ROOT");
+            int leaves = 0;
+            int children = random.nextInt(4);
+            for (int child = 0; child < children; child++) {
+                builder.append(' ');
+                leaves += appendRandomTree(builder, random, 0);
+            }
+            String randomTree = builder.append(children == 0 ? " )" : ")").toString();
+            List<Word> sentence = createWords(leaves + random.nextInt(2));
+
+            List<Word> expectedRemaining = new ArrayList<>(sentence);
+            Phrase expected = FormerParser.parse(randomTree, expectedRemaining);
+            List<Word> remaining = new ArrayList<>(sentence);
+            Phrase parsedPhrase = converter.parseConstituencyTree(randomTree, remaining);
+
+            Assertions.assertEquals(expected, parsedPhrase, randomTree);
+            Assertions.assertEquals(expectedRemaining, remaining, randomTree);
+        }
+    }
+
+    @Test
+    void parseInvalidTreesTest() {
+        DtoToObjectConverter converter = new DtoToObjectConverter();
+        for (String invalidTree : List.of("", "(ROOT", "(ROOT (NP (DT This))", "(ROOT (NP (DT This)))) ", "ROOT (DT This)", "(DT This)")) {
+            Assertions.assertThrows(NotConvertableException.class, () -> converter.parseConstituencyTree(invalidTree, new ArrayList<>(words)));
+        }
+        Assertions.assertThrows(NotConvertableException.class, () -> converter.parseConstituencyTree(tree, new ArrayList<>(words.subList(0, 3))));
+    }
+
+    /**
+     * Parses a long sentence whose phrases are nested deeply, which took time cubic in the length of the tree with the former substring-based parser.
+     */
+    @Test
+    void parseLongDeeplyNestedTreeTest() throws NotConvertableException {
+        int depth = 2_000;
+        StringBuilder builder = new StringBuilder("(ROOT ");
+        for (int i = 0; i < depth; i++) {
+            builder.append("(NP (DT the) ");
+        }
+        builder.append("(NN end)");
+        builder.append(")".repeat(depth + 1));
+        String longTree = builder.toString();
+        List<Word> sentence = createWords(depth + 1);
+
+        DtoToObjectConverter converter = new DtoToObjectConverter();
+        long start = System.nanoTime();
+        Phrase root = converter.parseConstituencyTree(longTree, new ArrayList<>(sentence));
+        long time = System.nanoTime() - start;
+        logger.info("Parsed a constituency tree of {} characters with depth {} in {} ms", longTree.length(), depth, time / 1_000_000);
+
+        Assertions.assertEquals(PhraseType.ROOT, root.getPhraseType());
+        Assertions.assertEquals(depth, root.getSubphrases().size());
+        Assertions.assertTrue(root.getSubphrases().allSatisfy(phrase -> phrase.getPhraseType() == PhraseType.NP));
+        Assertions.assertEquals(sentence, root.getContainedWords().castToList());
+    }
+
+    /**
+     * Appends a random subtree and returns the number of its leaves.
+     */
+    private static int appendRandomTree(StringBuilder builder, Random random, int depth) {
+        if (depth >= 4 || random.nextInt(3) == 0) {
+            builder.append(RANDOM_LEAVES[random.nextInt(RANDOM_LEAVES.length)]);
+            return 1;
+        }
+        builder.append('(').append(RANDOM_LABELS[random.nextInt(RANDOM_LABELS.length)]);
+        int leaves = 0;
+        int children = 1 + random.nextInt(4);
+        for (int child = 0; child < children; child++) {
+            builder.append(' ');
+            leaves += appendRandomTree(builder, random, depth + 1);
+        }
+        builder.append(')');
+        return leaves;
+    }
+
+    private static List<Word> createWords(int count) {
+        List<Word> sentence = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            sentence.add(new WordImpl(null, i, 0, "w" + i, POSTag.NOUN, null, null, null));
+        }
+        return sentence;
+    }
+    /**
+     * Copy of the former parser, which split the tree into substrings recursively and counted brackets in each of them. Kept to check that the linear parser
+     * builds the same phrases.
+     */
+    private static final class FormerParser {
+        private static final String SEPARATOR = " ";
+
+        private FormerParser() {
+            throw new IllegalAccessError("Utility class");
+        }
+
+        private static Phrase parse(String constituencyTree, List<Word> wordsOfSentence) throws NotConvertableException {
+            if (!isValidConstituencyTree(constituencyTree)) {
+                throw new NotConvertableException("Constituency tree is not valid");
+            }
+            String innerTree = constituencyTree.substring(1, constituencyTree.length() - 1);
+            PhraseType phraseType = PhraseType.get(innerTree.split(SEPARATOR, 2)[0]);
+            String treeWithoutType = innerTree.split(SEPARATOR, 2)[1];
+
+            List<Phrase> subPhrases = new ArrayList<>();
+            List<Word> phraseWords = new ArrayList<>();
+            for (String subtree : getSubtrees(treeWithoutType)) {
+                if (getTreeOpenBrackets(subtree) == 1) {
+                    if (wordsOfSentence.isEmpty()) {
+                        throw new NotConvertableException("Constituency tree does not match words of sentence");
+                    }
+                    phraseWords.add(wordsOfSentence.removeFirst());
+                } else {
+                    subPhrases.add(parse(subtree, wordsOfSentence));
+                }
+            }
+            return new PhraseImpl(Lists.immutable.ofAll(phraseWords), phraseType, subPhrases);
+        }
+
+        private static boolean isValidConstituencyTree(String constituencyTree) {
+            return constituencyTree.length() >= 2 && constituencyTree.charAt(0) == '(' && constituencyTree.charAt(constituencyTree.length() - 1) == ')'
+                    && getTreeOpenBrackets(constituencyTree) == getTreeCloseBrackets(constituencyTree) && constituencyTree.split(SEPARATOR, 2).length > 1;
+        }
+
+        private static List<String> getSubtrees(String treeWithoutType) {
+            List<String> subTrees = new ArrayList<>();
+            while (!treeWithoutType.isEmpty()) {
+                int index = 1;
+                while (!treeWithoutType.substring(0, index).endsWith(")") || getTreeOpenBrackets(treeWithoutType.substring(0, index)) != getTreeCloseBrackets(
+                        treeWithoutType.substring(0, index))) {
+                    index++;
+                }
+                subTrees.add(treeWithoutType.substring(0, index));
+                treeWithoutType = index == treeWithoutType.length() ? "" : treeWithoutType.substring(index + 1);
+            }
+            return subTrees;
+        }
+
+        private static long getTreeOpenBrackets(String tree) {
+            return tree.chars().filter(ch -> ch == '(').count() - StringUtils.countMatches(tree, POSTag.LEFT_PAREN.getTag());
+        }
+
+        private static long getTreeCloseBrackets(String tree) {
+            return tree.chars().filter(ch -> ch == ')').count() - StringUtils.countMatches(tree, POSTag.RIGHT_PAREN.getTag());
+        }
+    }
 }
@@ -5,6 +5,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
@@ -37,6 +38,7 @@
 import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.PipelineStepMetrics;
 
 /**
  * This record represents the result of running ArDoCo. It is backed by a {@link DataRepository} and provides access to data from it. Besides accessing all data
@@ -343,4 +345,14 @@ public Text getText() {
         var preprocessingData = this.getPreprocessingData();
         return preprocessingData.getText();
     }
+
+    /**
+     * Returns the wall time, CPU time, and allocated bytes of all pipelines, agents, and informants of the run as a tree. The tree can be exported via
+     * {@link PipelineStepMetrics#toJson()} and {@link PipelineStepMetrics#toCsv()}.
+     *
+     * @return the metrics of the run, or an empty optional if the pipeline did not record them
+     */
+    public Optional<PipelineStepMetrics> getPipelineMetrics() {
+        return this.dataRepository.getData(PipelineStepMetrics.ID, PipelineStepMetrics.class);
+    }
 }
@@ -14,6 +14,7 @@
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.data.ProjectPipelineData;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.Pipeline;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.PipelineStepMetrics;
 
 /**
  * The Pipeline defines and manages the execution of agents.
@@ -54,6 +55,15 @@ public DataRepository getDataRepository() {
         return super.getDataRepository();
     }
 
+    /**
+     * Runs the ArDoCo pipeline and stores the {@link PipelineStepMetrics} of the run in the data repository.
+     */
+    @Override
+    public void run() {
+        super.run();
+        this.getMetrics().ifPresent(metrics -> this.getDataRepository().addData(PipelineStepMetrics.ID, metrics));
+    }
+
     /**
      * Runs the ArDoCo pipeline and saves the results to the specified output directory.
      *
@@ -2,6 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.core.execution.runner;
 
 import java.io.File;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,6 +74,27 @@ public ArDoCo getArDoCo() {
         return this.arDoCo;
     }
 
+    /**
+     * Sets the directory for checkpoints of the pipeline. Subsequent runs resume from the last valid checkpoint in this directory instead of recomputing the
+     * steps before it. Use
+     * {@link #setCheckpointInputs(List)} to register the input files of the run.
+     *
+     * @param checkpointDirectory the directory for checkpoints or null to disable checkpointing
+     */
+    public void setCheckpointDirectory(File checkpointDirectory) {
+        this.getArDoCo().setCheckpointDirectory(checkpointDirectory == null ? null : checkpointDirectory.toPath());
+    }
+
+    /**
+     * Sets the input files of the pipeline, e.g., the text and the model files. Checkpoints written for different inputs or a different configuration are
+     * discarded instead of being resumed.
+     *
+     * @param inputs the input files or directories
+     */
+    public void setCheckpointInputs(List<File> inputs) {
+        this.getArDoCo().setCheckpointInputs(inputs.stream().map(File::toPath).toList());
+    }
+
     /**
      * Sets the output directory where results will be saved.
      *
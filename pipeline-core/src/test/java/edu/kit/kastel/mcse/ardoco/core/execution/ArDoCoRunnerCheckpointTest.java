@@ -0,0 +1,231 @@
+/* Licensed under MIT 2025. */
+package edu.kit.kastel.mcse.ardoco.core.execution;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
+import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
+import edu.kit.kastel.mcse.ardoco.core.data.PipelineStepData;
+import edu.kit.kastel.mcse.ardoco.core.data.ProjectPipelineData;
+import edu.kit.kastel.mcse.ardoco.core.execution.runner.AnonymousRunner;
+import edu.kit.kastel.mcse.ardoco.core.execution.runner.ArDoCoRunner;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.AbstractPipelineStep;
+
+/**
+ * Tests checkpoints of an {@link ArDoCoRunner} set via {@link ArDoCoRunner#setCheckpointDirectory(java.io.File)}.
+ */
+class ArDoCoRunnerCheckpointTest {
+    private static final String PROJECT_NAME = "checkpoints";
+
+    private final AtomicInteger readTextRuns = new AtomicInteger();
+    private final AtomicInteger countWordsRuns = new AtomicInteger();
+    private final AtomicInteger analyzeRuns = new AtomicInteger();
+
+    @Test
+    void resumesFromLastSerializableCheckpointTest(@TempDir Path directory) throws IOException {
+        Path inputText = this.writeInputText(directory, "The quick brown fox jumps over the lazy dog");
+
+        var dataRepository = this.createRunner(directory, inputText).runWithoutSaving();
+        Assertions.assertEquals(9, dataRepository.getData(WordCountData.ID, WordCountData.class).orElseThrow().getWordCount());
+        this.assertRuns(1, 1, 1);
+        Path checkpoints = directory.resolve("checkpoints").resolve("ArDoCo");
+        Assertions.assertTrue(Files.exists(checkpoints.resolve("checkpoint-001.json")));
+        // The analysis cannot be serialized, so no checkpoint is written after it
+        Assertions.assertFalse(Files.exists(checkpoints.resolve("checkpoint-002.json")));
+
+        var resumedDataRepository = this.createRunner(directory, inputText).runWithoutSaving();
+        Assertions.assertEquals(9, resumedDataRepository.getData(WordCountData.ID, WordCountData.class).orElseThrow().getWordCount());
+        Assertions.assertEquals(9, resumedDataRepository.getData(AnalysisData.ID, AnalysisData.class).orElseThrow().getWordCount());
+        Assertions.assertEquals(PROJECT_NAME, resumedDataRepository.getData(ProjectPipelineData.ID, ProjectPipelineData.class).orElseThrow().getProjectName());
+        this.assertRuns(1, 1, 2);
+    }
+
+    @Test
+    void discardsCheckpointOfChangedInputTest(@TempDir Path directory) throws IOException {
+        Path inputText = this.writeInputText(directory, "The quick brown fox jumps over the lazy dog");
+        this.createRunner(directory, inputText).runWithoutSaving();
+
+        this.writeInputText(directory, "The quick brown fox");
+        var dataRepository = this.createRunner(directory, inputText).runWithoutSaving();
+        Assertions.assertEquals(4, dataRepository.getData(WordCountData.ID, WordCountData.class).orElseThrow().getWordCount());
+        this.assertRuns(2, 2, 2);
+    }
+
+    @Test
+    void discardsCheckpointOfChangedConfigurationTest(@TempDir Path directory) throws IOException {
+        Path inputText = this.writeInputText(directory, "The quick brown fox jumps over the lazy dog");
+        this.createRunner(directory, inputText).runWithoutSaving();
+
+        var runner = this.createRunner(directory, inputText);
+        runner.getArDoCo().applyConfiguration(SortedMaps.immutable.with("CountWordsStep::minimumWordLength", "4"));
+        var dataRepository = runner.runWithoutSaving();
+        Assertions.assertEquals(5, dataRepository.getData(WordCountData.ID, WordCountData.class).orElseThrow().getWordCount());
+        this.assertRuns(2, 2, 2);
+    }
+
+    private Path writeInputText(Path directory, String text) throws IOException {
+        return Files.writeString(directory.resolve("inputText.txt"), text);
+    }
+
+    private ArDoCoRunner createRunner(Path directory, Path inputText) {
+        var runner = new AnonymousRunner(PROJECT_NAME) {
+            @Override
+            public List<AbstractPipelineStep> initializePipelineSteps(DataRepository dataRepository) {
+                return List.of(new ReadTextStep(dataRepository, inputText, ArDoCoRunnerCheckpointTest.this.readTextRuns),
+                        new CountWordsStep(dataRepository, ArDoCoRunnerCheckpointTest.this.countWordsRuns),
+                        new AnalyzeStep(dataRepository, ArDoCoRunnerCheckpointTest.this.analyzeRuns));
+            }
+        };
+        runner.setCheckpointDirectory(directory.resolve("checkpoints").toFile());
+        runner.setCheckpointInputs(List.of(inputText.toFile()));
+        return runner;
+    }
+
+    private void assertRuns(int readText, int countWords, int analyze) {
+        Assertions.assertEquals(readText, this.readTextRuns.get());
+        Assertions.assertEquals(countWords, this.countWordsRuns.get());
+        Assertions.assertEquals(analyze, this.analyzeRuns.get());
+    }
+
+    private abstract static class CountedStep extends AbstractPipelineStep {
+        private final AtomicInteger runs;
+
+        protected CountedStep(String id, DataRepository dataRepository, AtomicInteger runs) {
+            super(id, dataRepository);
+            this.runs = runs;
+        }
+
+        @Override
+        protected void before() {
+            this.runs.incrementAndGet();
+        }
+
+        @Override
+        protected void after() {
+            // NOP
+        }
+
+        @Override
+        protected void delegateApplyConfigurationToInternalObjects(ImmutableSortedMap<String, String> additionalConfiguration) {
+            // NOP
+        }
+    }
+
+    private static final class ReadTextStep extends CountedStep {
+        private final Path inputText;
+
+        private ReadTextStep(DataRepository dataRepository, Path inputText, AtomicInteger runs) {
+            super("ReadTextStep", dataRepository, runs);
+            this.inputText = inputText;
+        }
+
+        @Override
+        protected void process() {
+            try {
+                this.getDataRepository().addData(WordsData.ID, new WordsData(Arrays.asList(Files.readString(this.inputText).split(" "))));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class CountWordsStep extends CountedStep {
+        @Configurable
+        private int minimumWordLength = 1;
+
+        private CountWordsStep(DataRepository dataRepository, AtomicInteger runs) {
+            super("CountWordsStep", dataRepository, runs);
+        }
+
+        @Override
+        protected void process() {
+            var words = this.getDataRepository().getData(WordsData.ID, WordsData.class).orElseThrow().getWords();
+            int wordCount = (int) words.stream().filter(word -> word.length() >= this.minimumWordLength).count();
+            this.getDataRepository().addData(WordCountData.ID, new WordCountData(wordCount));
+        }
+    }
+
+    private static final class AnalyzeStep extends CountedStep {
+        private AnalyzeStep(DataRepository dataRepository, AtomicInteger runs) {
+            super("AnalyzeStep", dataRepository, runs);
+        }
+
+        @Override
+        protected void process() {
+            var wordCount = this.getDataRepository().getData(WordCountData.ID, WordCountData.class).orElseThrow().getWordCount();
+            this.getDataRepository().addData(AnalysisData.ID, new AnalysisData(wordCount));
+        }
+    }
+
+    private static final class WordsData implements PipelineStepData {
+        private static final String ID = "WordsData";
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private List<String> words;
+
+        private WordsData() {
+            // For deserialization
+        }
+
+        private WordsData(List<String> words) {
+            this.words = List.copyOf(words);
+        }
+
+        private List<String> getWords() {
+            return this.words;
+        }
+    }
+
+    private static final class WordCountData implements PipelineStepData {
+        private static final String ID = "WordCountData";
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private int wordCount;
+
+        private WordCountData() {
+            // For deserialization
+        }
+
+        private WordCountData(int wordCount) {
+            this.wordCount = wordCount;
+        }
+
+        private int getWordCount() {
+            return this.wordCount;
+        }
+    }
+
+    /**
+     * Data that cannot be serialized, like a state that references its claimants.
+     */
+    private static final class AnalysisData implements PipelineStepData {
+        private static final String ID = "AnalysisData";
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int wordCount;
+        private final Object claimant = new Object();
+
+        private AnalysisData(int wordCount) {
+            this.wordCount = wordCount;
+        }
+
+        private int getWordCount() {
+            return this.wordCount;
+        }
+    }
+}